@@ -0,0 +1,68 @@
+package com.mockavior.bench;
+
+import com.mockavior.behavior.Behavior;
+import com.mockavior.contract.model.CompiledContract;
+import com.mockavior.core.engine.BehaviorEngine;
+import com.mockavior.core.engine.EngineResult;
+import com.mockavior.core.request.GenericRequest;
+import com.mockavior.core.snapshot.ContractSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BehaviorEngine.handle end to end: routing + behavior (template) + fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BehaviorEngineBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int endpoints;
+
+    private final BehaviorEngine engine = new BehaviorEngine();
+
+    private ContractSnapshot snapshot;
+    private Behavior fallback;
+
+    private GenericRequest staticRequest;
+    private GenericRequest templatedRequest;
+    private GenericRequest fallbackRequest;
+
+    @Setup
+    public void setUp() {
+        CompiledContract compiled = BenchmarkContracts.compile(endpoints);
+        snapshot = compiled.snapshot();
+        fallback = compiled.fallbackBehavior();
+
+        // endpoint 2: literal path, static body, no when-condition
+        staticRequest = BenchmarkContracts.request(BenchmarkContracts.literalPath(2), Map.of());
+        // endpoint 1: {id} path, templated body
+        templatedRequest = BenchmarkContracts.request(BenchmarkContracts.literalPath(1) + "/42", Map.of());
+        fallbackRequest = BenchmarkContracts.request("/api/v2/unknown/path", Map.of());
+    }
+
+    @Benchmark
+    public EngineResult staticMock() {
+        return engine.handle(snapshot, staticRequest, fallback);
+    }
+
+    @Benchmark
+    public EngineResult templatedMock() {
+        return engine.handle(snapshot, templatedRequest, fallback);
+    }
+
+    @Benchmark
+    public EngineResult fallback() {
+        return engine.handle(snapshot, fallbackRequest, fallback);
+    }
+}
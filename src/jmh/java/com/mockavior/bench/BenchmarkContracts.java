@@ -0,0 +1,116 @@
+package com.mockavior.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockavior.contract.compiler.ContractCompiler;
+import com.mockavior.contract.model.CompiledContract;
+import com.mockavior.contract.model.RawContract;
+import com.mockavior.contract.payload.BodyResolver;
+import com.mockavior.core.request.GenericRequest;
+import com.mockavior.core.request.Protocol;
+import com.mockavior.kafka.compiler.KafkaScenarioCompiler;
+import com.mockavior.transport.http.HttpMethod;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic contracts and requests shared by benchmarks.
+ * Endpoint i (i = 0..n-1) produces:
+ * - even i: GET /api/v1/resource-{i}            (literal)
+ * - odd i:  GET /api/v1/resource-{i}/{id}        (path param, templated body)
+ * - every 10th endpoint has a header when-condition (x-tenant)
+ */
+public final class BenchmarkContracts {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkContracts() {
+    }
+
+    public static CompiledContract compile(int endpoints) {
+        Path workspaceRoot = Path.of(".").toAbsolutePath();
+        BodyResolver bodyResolver = new BodyResolver(OBJECT_MAPPER, workspaceRoot);
+
+        ContractCompiler compiler = new ContractCompiler(
+                Clock.systemUTC(),
+                new KafkaScenarioCompiler(bodyResolver),
+                OBJECT_MAPPER,
+                workspaceRoot
+        );
+
+        return compiler.compile(RawContract.fromMap(contract(endpoints)));
+    }
+
+    public static Map<String, Object> contract(int endpoints) {
+        List<Object> list = new ArrayList<>(endpoints);
+        for (int i = 0; i < endpoints; i++) {
+            list.add(endpoint(i));
+        }
+
+        Map<String, Object> contract = new LinkedHashMap<>();
+        contract.put("version", 1);
+        contract.put("settings", Map.of("mode", "STRICT", "defaultStatus", 404));
+        contract.put("endpoints", list);
+        return contract;
+    }
+
+    private static Map<String, Object> endpoint(int i) {
+        boolean templated = i % 2 == 1;
+
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("id", "endpoint-" + i);
+        endpoint.put("request", Map.of(
+                "method", "GET",
+                "path", templated ? literalPath(i) + "/{id}" : literalPath(i)
+        ));
+        endpoint.put("response", Map.of(
+                "type", "mock",
+                "status", 200,
+                "headers", Map.of("Content-Type", "application/json"),
+                "body", templated
+                        ? "{\"resource\": " + i + ", \"id\": \"{id}\"}"
+                        : "{\"resource\": " + i + "}"
+        ));
+        if (i % 10 == 0) {
+            endpoint.put("when", Map.of("headers", Map.of("x-tenant", "tenant-" + i)));
+        }
+        return endpoint;
+    }
+
+    public static String literalPath(int i) {
+        return "/api/v1/resource-" + i;
+    }
+
+    public static GenericRequest request(String path, Map<String, String> headers) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("method", HttpMethod.GET);
+        if (!headers.isEmpty()) {
+            metadata.put("headers", headers);
+        }
+        return GenericRequest.of(Protocol.HTTP, path, null, metadata);
+    }
+
+    /**
+     * JSON body of roughly the requested size with a few {param} placeholders spread across it.
+     */
+    public static String jsonBody(int approxBytes) {
+        StringBuilder sb = new StringBuilder(approxBytes + 64);
+        sb.append("{\"id\": \"{id}\", \"tenant\": \"{tenant}\", \"items\": [");
+        int item = 0;
+        while (sb.length() < approxBytes) {
+            if (item > 0) {
+                sb.append(", ");
+            }
+            sb.append("{\"n\": ").append(item)
+                    .append(", \"owner\": \"{id}\", \"label\": \"item-").append(item).append("\"}");
+            item++;
+        }
+        sb.append("], \"limit\": \"{limit}\"}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.mockavior.bench;
+
+import com.mockavior.core.request.GenericRequest;
+import com.mockavior.core.request.RequestBody;
+import com.mockavior.transport.http.HttpTransportAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpServletRequest -> GenericRequest conversion (headers, query, body).
+ * The servlet request is rebuilt on every invocation because its body stream is single-use;
+ * mockRequestOnly measures that part alone so it can be subtracted.
+ * - toGenericRequest:         body left unread (mock routes never touch it)
+ * - toGenericRequestReadBody: body read as raw bytes (what the buffered proxy does)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenericRequestBenchmark {
+
+    @Param({"0", "1024", "65536"})
+    public int bodyBytes;
+
+    private final HttpTransportAdapter adapter = new HttpTransportAdapter();
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = BenchmarkContracts.jsonBody(bodyBytes).getBytes(StandardCharsets.UTF_8);
+        if (bodyBytes == 0) {
+            body = new byte[0];
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletRequest mockRequestOnly() {
+        return servletRequest();
+    }
+
+    @Benchmark
+    public GenericRequest toGenericRequest() throws IOException {
+        return adapter.toGenericRequest(servletRequest());
+    }
+
+    @Benchmark
+    public Object toGenericRequestReadBody() throws IOException {
+        GenericRequest request = adapter.toGenericRequest(servletRequest());
+        return request.payload() instanceof RequestBody body ? body.bytes() : null;
+    }
+
+    private MockHttpServletRequest servletRequest() {
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("POST", "/api/v1/resource-1/42");
+        request.addHeader("Content-Type", "application/json");
+        request.addHeader("Accept", "application/json");
+        request.addHeader("x-tenant", "acme");
+        request.addHeader("x-request-id", "5d1f7f3e-4f0e-4c11-9d55-33b1f2a1c9aa");
+        request.addParameter("limit", "10");
+        request.addParameter("tag", "a", "b");
+        request.setContent(body);
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package com.mockavior.bench;
+
+import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.contract.payload.BodySourceType;
+import com.mockavior.contract.payload.ResolvedBody;
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.runtime.DefaultInMemoryKafkaStore;
+import com.mockavior.kafka.runtime.InMemoryKafkaStore;
+import com.mockavior.kafka.runtime.RingBufferKafkaStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka store round trip of one batch, message-at-a-time vs batch operations.
+ * - publishTake:   BATCH x publish, then BATCH x take
+ * - publishDrain:  one publishAll, then one drain
+ * Score is time per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KafkaStoreBenchmark {
+
+    private static final int BATCH = 1000;
+    private static final String TOPIC = "bench.topic";
+
+    @Param({"default", "ring-buffer"})
+    public String store;
+
+    private InMemoryKafkaStore kafkaStore;
+
+    private List<KafkaMessage> messages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        kafkaStore = "default".equals(store)
+                ? new DefaultInMemoryKafkaStore()
+                : new RingBufferKafkaStore(BATCH * 2, RingBufferKafkaStore.OverflowPolicy.DROP_OLDEST, Duration.ZERO);
+
+        ResolvedBody value = new ResolvedBody(
+                "{\"id\":1,\"name\":\"Alice\"}".getBytes(StandardCharsets.UTF_8),
+                BodySourceType.INLINE
+        );
+        DelaySpec noDelay = new DelaySpec(null, null);
+
+        messages = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            messages.add(new KafkaMessage(TOPIC, "key-" + i, value, 1, noDelay));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int publishTake() {
+        for (KafkaMessage message : messages) {
+            kafkaStore.publish(TOPIC, message);
+        }
+
+        int taken = 0;
+        Optional<KafkaMessage> message;
+        while ((message = kafkaStore.take(TOPIC)).isPresent()) {
+            taken += message.get().repeat();
+        }
+        return taken;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int publishDrain() {
+        kafkaStore.publishAll(TOPIC, messages);
+        return kafkaStore.drain(TOPIC, BATCH).size();
+    }
+}
@@ -0,0 +1,61 @@
+package com.mockavior.bench;
+
+import com.mockavior.transport.http.HttpPathPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single path pattern match (no router around it).
+ * - literal:     template without params
+ * - param:       /{id} segment, params not read
+ * - paramRead:   /{id} segment, id read (what a templated response does)
+ * - mixed:       {name}.{ext} in one segment (backtracking)
+ * - miss:        same prefix, different resource
+ * Compare gc.alloc.rate.norm: params are offsets until read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathMatchBenchmark {
+
+    private final HttpPathPattern literal = HttpPathPattern.compile("/api/v1/resource-42");
+    private final HttpPathPattern param = HttpPathPattern.compile("/api/v1/resource-43/{id}");
+    private final HttpPathPattern mixed = HttpPathPattern.compile("/files/{name}.{ext}");
+
+    private final String literalPath = "/api/v1/resource-42";
+    private final String paramPath = "/api/v1/resource-43/42";
+    private final String mixedPath = "/files/report.tar.gz";
+    private final String missPath = "/api/v1/resource-44/42";
+
+    @Benchmark
+    public Map<String, Object> literal() {
+        return literal.match(literalPath);
+    }
+
+    @Benchmark
+    public Map<String, Object> param() {
+        return param.match(paramPath);
+    }
+
+    @Benchmark
+    public Object paramRead() {
+        return param.match(paramPath).get("id");
+    }
+
+    @Benchmark
+    public Map<String, Object> mixed() {
+        return mixed.match(mixedPath);
+    }
+
+    @Benchmark
+    public Map<String, Object> miss() {
+        return param.match(missPath);
+    }
+}
@@ -0,0 +1,127 @@
+package com.mockavior.bench;
+
+import com.mockavior.core.request.GenericRequest;
+import com.mockavior.core.request.Protocol;
+import com.mockavior.runtime.proxy.HttpProxyClient;
+import com.mockavior.runtime.proxy.ProxyConfig;
+import com.mockavior.runtime.scheduler.ExecutionMode;
+import com.mockavior.runtime.scheduler.RuntimeScheduler;
+import com.mockavior.transport.http.HttpMethod;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Proxy throughput with a slow upstream, platform vs virtual execution mode.
+ * One invocation = 1000 concurrent proxy calls scheduled on RuntimeScheduler
+ * (exactly what RuntimeInterceptor does for PASSTHROUGH / proxy routes),
+ * against a local upstream that answers after {@code upstreamLatencyMs}.
+ * Score is proxy calls per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ProxyBenchmark {
+
+    private static final int CONCURRENT_CALLS = 1000;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutionMode mode;
+
+    @Param({"50"})
+    public int upstreamLatencyMs;
+
+    private HttpServer upstream;
+    private RuntimeScheduler scheduler;
+    private HttpProxyClient proxyClient;
+    private ProxyConfig proxyConfig;
+    private GenericRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONCURRENT_CALLS * 2);
+        upstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        upstream.createContext("/", exchange -> {
+            try {
+                Thread.sleep(upstreamLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        scheduler = new RuntimeScheduler(threads, mode, meterRegistry);
+        proxyClient = new HttpProxyClient(meterRegistry);
+        proxyConfig = new ProxyConfig(URI.create("http://127.0.0.1:" + upstream.getAddress().getPort()));
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("method", HttpMethod.GET);
+        request = GenericRequest.of(Protocol.HTTP, "/slow", null, metadata);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdown();
+        upstream.stop(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_CALLS)
+    public int concurrentSlowUpstream() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(CONCURRENT_CALLS);
+        AtomicInteger ok = new AtomicInteger();
+
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            scheduler.scheduleTask(() -> {
+                try {
+                    if (proxyClient.forward(proxyConfig, request).statusCode() == 200) {
+                        ok.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // counted as failure
+                } finally {
+                    done.countDown();
+                }
+            }, Duration.ZERO);
+        }
+
+        done.await();
+        return ok.get();
+    }
+}
@@ -0,0 +1,73 @@
+package com.mockavior.bench;
+
+import com.mockavior.core.request.GenericRequest;
+import com.mockavior.routing.RouteMatch;
+import com.mockavior.routing.Router;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Route lookup cost depending on contract size.
+ * - literalHit: static path declared last in the contract
+ * - paramHit:   {id} path declared last in the contract
+ * - whenHit:    route selected by header when-condition
+ * - miss:       no route matches (fallback path)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouterBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int endpoints;
+
+    private Router router;
+
+    private GenericRequest literalRequest;
+    private GenericRequest paramRequest;
+    private GenericRequest whenRequest;
+    private GenericRequest missRequest;
+
+    @Setup
+    public void setUp() {
+        router = BenchmarkContracts.compile(endpoints).snapshot().router();
+
+        int lastLiteral = (endpoints - 1) % 2 == 0 ? endpoints - 1 : endpoints - 2;
+        int lastParam = (endpoints - 1) % 2 == 1 ? endpoints - 1 : endpoints - 2;
+
+        literalRequest = BenchmarkContracts.request(BenchmarkContracts.literalPath(lastLiteral), Map.of());
+        paramRequest = BenchmarkContracts.request(BenchmarkContracts.literalPath(lastParam) + "/42", Map.of());
+        whenRequest = BenchmarkContracts.request(BenchmarkContracts.literalPath(0), Map.of("x-tenant", "tenant-0"));
+        missRequest = BenchmarkContracts.request("/api/v2/unknown/path", Map.of());
+    }
+
+    @Benchmark
+    public Optional<RouteMatch> literalHit() {
+        return router.find(literalRequest);
+    }
+
+    @Benchmark
+    public Optional<RouteMatch> paramHit() {
+        return router.find(paramRequest);
+    }
+
+    @Benchmark
+    public Optional<RouteMatch> whenHit() {
+        return router.find(whenRequest);
+    }
+
+    @Benchmark
+    public Optional<RouteMatch> miss() {
+        return router.find(missRequest);
+    }
+}
@@ -0,0 +1,100 @@
+package com.mockavior.bench;
+
+import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.contract.payload.BodySourceType;
+import com.mockavior.contract.payload.ResolvedBody;
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.KafkaRecord;
+import com.mockavior.kafka.model.KafkaScenario;
+import com.mockavior.kafka.runtime.DefaultInMemoryKafkaStore;
+import com.mockavior.kafka.runtime.InMemoryKafkaStore;
+import com.mockavior.kafka.runtime.ScenarioExecutionRunner;
+import com.mockavior.runtime.scheduler.RuntimeScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Kafka scenario emission rate: one zero-delay message with repeat 1_000_000,
+ * run by ScenarioExecutionRunner on RuntimeScheduler into the default store.
+ * One invocation = the whole scenario, until the last message is in the store.
+ * The store has unlimited retention so all 1M messages stay (no eviction in the measurement).
+ * Score is messages per second; see README (Kafka scenarios) for measured figures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ScenarioRunnerBenchmark {
+
+    private static final int MESSAGES = 1_000_000;
+    private static final String TOPIC = "bench.topic";
+
+    @Param({"executor", "timing-wheel"})
+    public String scheduler;
+
+    private RuntimeScheduler runtimeScheduler;
+    private KafkaScenario scenario;
+    private InMemoryKafkaStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        runtimeScheduler = "executor".equals(scheduler)
+                ? new RuntimeScheduler(2, meterRegistry)
+                : new RuntimeScheduler(2, Duration.ofMillis(5), 512, meterRegistry);
+
+        ResolvedBody value = new ResolvedBody(
+                "{\"id\":1,\"name\":\"Alice\"}".getBytes(StandardCharsets.UTF_8),
+                BodySourceType.INLINE
+        );
+        KafkaMessage message = new KafkaMessage(TOPIC, "key", value, MESSAGES, new DelaySpec(null, null));
+
+        scenario = new KafkaScenario("bench", 1, List.of(new KafkaRecord(TOPIC, message)));
+    }
+
+    @Setup(Level.Invocation)
+    public void freshStore() {
+        // own registry: topic meters of previous invocations must not pin their stores
+        store = new DefaultInMemoryKafkaStore(
+                DefaultInMemoryKafkaStore.Retention.unlimited(),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        runtimeScheduler.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long millionMessageScenario() {
+        new ScenarioExecutionRunner(scenario, runtimeScheduler, store).startAsync();
+
+        long published;
+        while ((published = store.endOffset(TOPIC)) < MESSAGES) {
+            LockSupport.parkNanos(100_000L);
+        }
+        return published;
+    }
+}
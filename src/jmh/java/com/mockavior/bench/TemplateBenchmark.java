@@ -0,0 +1,59 @@
+package com.mockavior.bench;
+
+import com.mockavior.behavior.template.CompiledTemplate;
+import com.mockavior.behavior.template.ResponseTemplateProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response template rendering on small (~200 B) and large (~200 KB) JSON bodies.
+ * - render:         ResponseTemplateProcessor (parses the template on every call)
+ * - renderCompiled: template pre-compiled once, as MockBehavior does at contract load
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateBenchmark {
+
+    @Param({"small", "large"})
+    public String size;
+
+    private String body;
+
+    private CompiledTemplate compiled;
+
+    private Map<String, Object> params;
+
+    @Setup
+    public void setUp() {
+        body = BenchmarkContracts.jsonBody("small".equals(size) ? 200 : 200 * 1024);
+        compiled = CompiledTemplate.compile(body);
+        params = Map.of(
+                "id", "42",
+                "tenant", "acme",
+                "limit", "10",
+                "offset", "0",
+                "sort", "asc",
+                "active", "true"
+        );
+    }
+
+    @Benchmark
+    public Object render() {
+        return ResponseTemplateProcessor.apply(body, params);
+    }
+
+    @Benchmark
+    public byte[] renderCompiled() {
+        return compiled.renderBytes(params);
+    }
+}
@@ -0,0 +1,99 @@
+package com.mockavior.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockavior.contract.compiler.ContractCompiler;
+import com.mockavior.contract.model.RawContract;
+import com.mockavior.contract.payload.BodyResolver;
+import com.mockavior.core.request.GenericRequest;
+import com.mockavior.kafka.compiler.KafkaScenarioCompiler;
+import com.mockavior.routing.RouteMatch;
+import com.mockavior.routing.Router;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selecting one of N routes sharing GET /orders/{id} and differing only by when.headers.x-tenant.
+ * - lastVariant: tenant of the lowest-priority variant (worst case for a linear scan)
+ * - unknown:     tenant no variant requires (falls through to the default route)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VariantRoutingBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({"10", "100", "1000"})
+    public int variants;
+
+    private Router router;
+
+    private GenericRequest lastVariantRequest;
+    private GenericRequest unknownRequest;
+
+    @Setup
+    public void setUp() {
+        Path workspaceRoot = Path.of(".").toAbsolutePath();
+        ContractCompiler compiler = new ContractCompiler(
+                Clock.systemUTC(),
+                new KafkaScenarioCompiler(new BodyResolver(OBJECT_MAPPER, workspaceRoot)),
+                OBJECT_MAPPER,
+                workspaceRoot
+        );
+        router = compiler.compile(RawContract.fromMap(contract(variants))).snapshot().router();
+
+        lastVariantRequest = BenchmarkContracts.request("/orders/42", Map.of("x-tenant", "tenant-" + (variants - 1)));
+        unknownRequest = BenchmarkContracts.request("/orders/42", Map.of("x-tenant", "nobody"));
+    }
+
+    private static Map<String, Object> contract(int variants) {
+        List<Object> endpoints = new ArrayList<>(variants + 1);
+        for (int i = 0; i < variants; i++) {
+            endpoints.add(endpoint("tenant-" + i, variants - i, Map.of("headers", Map.of("x-tenant", "tenant-" + i))));
+        }
+        endpoints.add(endpoint("default", 0, null));
+
+        Map<String, Object> contract = new LinkedHashMap<>();
+        contract.put("version", 1);
+        contract.put("settings", Map.of("mode", "STRICT", "defaultStatus", 404));
+        contract.put("endpoints", endpoints);
+        return contract;
+    }
+
+    private static Map<String, Object> endpoint(String id, int priority, Map<String, Object> when) {
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("id", id);
+        endpoint.put("priority", priority);
+        endpoint.put("request", Map.of("method", "GET", "path", "/orders/{id}"));
+        endpoint.put("response", Map.of("type", "mock", "status", 200, "body", "{\"tenant\": \"" + id + "\"}"));
+        if (when != null) {
+            endpoint.put("when", when);
+        }
+        return endpoint;
+    }
+
+    @Benchmark
+    public Optional<RouteMatch> lastVariant() {
+        return router.find(lastVariantRequest);
+    }
+
+    @Benchmark
+    public Optional<RouteMatch> unknown() {
+        return router.find(unknownRequest);
+    }
+}
@@ -1,5 +1,7 @@
 package com.mockavior.app.admin.controller;
 
+import com.mockavior.app.admin.dto.kafka.KafkaExecutionDTO;
+import com.mockavior.kafka.runtime.ExecutionProgress;
 import com.mockavior.kafka.runtime.ScenarioExecutionRunner;
 import com.mockavior.kafka.service.KafkaScenarioService;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,15 +11,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * Admin endpoints for Kafka emulation mode.
  * Start:
- *  POST /__mockavior__/kafka/start/{scenarioId}
+ *  POST /__mockavior__/kafka/start/{scenarioId}[?shards=N]
  * Stop:
  *  POST /__mockavior__/kafka/stop/{executionId}
+ * Executions (running and ended within the TTL), with progress:
+ *  GET /__mockavior__/kafka/executions
+ *  GET /__mockavior__/kafka/executions/{executionId}
  */
 
 @Slf4j
@@ -26,7 +32,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Tag(
         name = "Admin / Kafka Emulation",
-        description = "Administrative API for starting and stopping Kafka emulation scenarios"
+        description = "Administrative API for starting, stopping and monitoring Kafka emulation scenarios"
 )
 public final class KafkaEmulationController {
 
@@ -37,17 +43,35 @@ public final class KafkaEmulationController {
 
     /**
      * Starts Kafka emulation scenario from active snapshot.
+     * With {@code shards} > 1, parallel runners split the partitions of partitioned topics;
+     * {@code executionId} is the first shard, {@code executionIds} lists all of them.
      */
     @PostMapping("/start/{scenarioId}")
-    public ResponseEntity<Map<String, String>> start(@PathVariable String scenarioId) {
-        try {
-            ScenarioExecutionRunner runner = service.startScenario(scenarioId);
+    public ResponseEntity<Map<String, Object>> start(
+            @PathVariable String scenarioId,
+            @RequestParam(name = "shards", defaultValue = "1") int shards
+    ) {
+        if (shards <= 0) {
+            log.warn("ADMIN ← Kafka scenario start rejected: scenarioId={}, shards={}", scenarioId, shards);
+            return ResponseEntity.badRequest().body(Map.of(ERROR, "shards must be >= 1"));
+        }
 
-            log.info("ADMIN ← Kafka scenario started: executionId={}, scenarioId={}, state={}", runner.executionId(), runner.scenarioId(), runner.state());
+        try {
+            List<ScenarioExecutionRunner> runners = service.startScenario(scenarioId, shards);
+            ScenarioExecutionRunner runner = runners.get(0);
+
+            log.info(
+                    "ADMIN ← Kafka scenario started: executionId={}, scenarioId={}, state={}, shards={}",
+                    runner.executionId(),
+                    runner.scenarioId(),
+                    runner.state(),
+                    runners.size()
+            );
 
             return ResponseEntity.ok(
                     Map.of(
                             "executionId", runner.executionId().toString(),
+                            "executionIds", runners.stream().map(r -> r.executionId().toString()).toList(),
                             "scenarioId", runner.scenarioId(),
                             "state", runner.state().name()
                     )
@@ -90,4 +114,55 @@ public final class KafkaEmulationController {
 
         return ResponseEntity.ok(Map.of("executionId", id.toString(), "stopped", true));
     }
+
+    /**
+     * Lists executions with their progress (ended ones until reaped).
+     */
+    @GetMapping("/executions")
+    public ResponseEntity<List<KafkaExecutionDTO>> executions() {
+        List<KafkaExecutionDTO> executions = service.executions().stream()
+                .map(r -> toDto(r.progress()))
+                .toList();
+
+        log.debug("ADMIN ← Kafka executions: count={}", executions.size());
+
+        return ResponseEntity.ok(executions);
+    }
+
+    /**
+     * Progress of one execution.
+     */
+    @GetMapping("/executions/{executionId}")
+    public ResponseEntity<?> execution(@PathVariable String executionId) {
+        UUID id;
+        try {
+            id = UUID.fromString(executionId);
+        } catch (IllegalArgumentException e) {
+            log.warn("ADMIN ← Invalid executionId UUID: {}", executionId);
+            return ResponseEntity.badRequest()
+                    .body(Map.of(ERROR, "Invalid executionId UUID"));
+        }
+
+        return service.execution(id)
+                .<ResponseEntity<?>>map(r -> ResponseEntity.ok(toDto(r.progress())))
+                .orElseGet(() -> {
+                    log.debug("ADMIN ← Kafka execution not found: executionId={}", id);
+                    return ResponseEntity.status(404).body(Map.of(ERROR, "Execution not found"));
+                });
+    }
+
+    private static KafkaExecutionDTO toDto(ExecutionProgress progress) {
+        return new KafkaExecutionDTO(
+                progress.executionId().toString(),
+                progress.scenarioId(),
+                progress.state().name(),
+                progress.shard(),
+                progress.shards(),
+                progress.emitted(),
+                progress.total(),
+                progress.elapsed().toMillis(),
+                progress.ratePerSecond(),
+                progress.targetPerSecond()
+        );
+    }
 }
@@ -1,25 +1,45 @@
 package com.mockavior.app.admin.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mockavior.app.admin.dto.kafka.KafkaConsumerGroupDTO;
 import com.mockavior.app.admin.dto.kafka.KafkaDecodeMode;
+import com.mockavior.app.admin.dto.kafka.KafkaGroupPollResponse;
 import com.mockavior.app.admin.dto.kafka.KafkaMessageDTO;
+import com.mockavior.app.admin.dto.kafka.KafkaPartitionDTO;
 import com.mockavior.app.admin.dto.kafka.KafkaPollPeekResponse;
-import com.mockavior.app.admin.dto.kafka.KafkaValueDTO;
-import com.mockavior.contract.payload.ResolvedBody;
+import com.mockavior.app.admin.dto.kafka.KafkaTakeBatchResponse;
+import com.mockavior.app.admin.service.KafkaValueEncoder;
 import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.KafkaPartitions;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import com.mockavior.kafka.runtime.ConsumerGroupOffsets;
 import com.mockavior.kafka.runtime.InMemoryKafkaStore;
+import com.mockavior.kafka.runtime.TopicWaiter;
+import com.mockavior.kafka.service.KafkaScenarioService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -31,55 +51,186 @@ import java.util.Optional;
 )
 public final class KafkaPollController {
 
+    // upper bound for take?waitMs=
+    private static final long MAX_WAIT_MS = 60_000L;
+
+    // upper bound for take?max=
+    private static final int MAX_BATCH = 10_000;
+
+    // servlet async timeout on top of the wait: the waiter answers first
+    private static final long ASYNC_TIMEOUT_GRACE_MS = 5_000L;
+
+    // messages read from the store per step of a streaming peek
+    private static final int STREAM_CHUNK = 1_000;
+
     @NonNull
     private final InMemoryKafkaStore store;
 
+    @NonNull
+    private final ConsumerGroupOffsets consumerGroups;
+
+    @NonNull
+    private final TopicWaiter topicWaiter;
+
+    @NonNull
+    private final KafkaValueEncoder valueEncoder;
+
+    @NonNull
     private final ObjectMapper objectMapper;
 
+    @NonNull
+    private final KafkaScenarioService scenarioService;
+
     /**
      * Peek messages (non-destructive).
+     * Without {@code offset}/{@code limit} the whole topic is returned.
+     * Partitioned topics are read one partition at a time: {@code partition} is required for them
+     * and must be below the topic's partition count, here and below (400 otherwise).
      */
     @GetMapping("/{topic}")
     public ResponseEntity<KafkaPollPeekResponse> peek(
             @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition,
+            @RequestParam(name = "offset", required = false) Long offset,
+            @RequestParam(name = "limit", required = false) Integer limit,
             @RequestParam(name = "decode", required = false) String decode
     ) {
         KafkaDecodeMode mode = KafkaDecodeMode.from(decode);
 
-        log.debug("ADMIN → Kafka peek requested: topic={}, decode={}", topic, mode.wireValue());
+        log.debug("ADMIN → Kafka peek requested: topic={}, partition={}, offset={}, limit={}, decode={}", topic, partition, offset, limit, mode.wireValue());
+
+        String storeTopic = storeTopic(topic, partition);
+        if (!validPage(offset, limit) || storeTopic == null) {
+            log.warn("ADMIN ← Kafka peek rejected: topic={}, partition={}, offset={}, limit={}", topic, partition, offset, limit);
+            return ResponseEntity.badRequest().build();
+        }
 
-        List<KafkaMessage> runtimeMessages = store.peek(topic);
+        long from = Math.max(offset == null ? 0L : offset, store.startOffset(storeTopic));
 
-        List<KafkaMessageDTO> messages = runtimeMessages.stream()
-                .map(m -> toDto(m, mode))
+        List<KafkaMessageDTO> messages = store.read(storeTopic, from, limit == null ? Integer.MAX_VALUE : limit).stream()
+                .map(m -> toDto(m.message(), m.offset(), mode))
                 .toList();
 
-        log.debug("ADMIN ← Kafka peek result: topic={}, count={}, decode={}", topic, messages.size(), mode.wireValue());
+        long nextOffset = messages.isEmpty() ? from : messages.get(messages.size() - 1).offset() + 1;
+
+        log.debug("ADMIN ← Kafka peek result: topic={}, count={}, nextOffset={}, decode={}", topic, messages.size(), nextOffset, mode.wireValue());
 
         return ResponseEntity.ok(
                 new KafkaPollPeekResponse(
                         topic,
                         messages.size(),
+                        nextOffset,
                         messages
                 )
         );
     }
 
+    /**
+     * Streaming peek (non-destructive): same document as {@link #peek}, written message by message
+     * ({@code count} and {@code nextOffset} come after {@code messages}).
+     * Memory stays constant whatever the topic depth; stops at the end offset seen at the start.
+     */
+    @GetMapping(value = "/{topic}", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> peekStreaming(
+            @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition,
+            @RequestParam(name = "offset", required = false) Long offset,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "decode", required = false) String decode
+    ) {
+        KafkaDecodeMode mode = KafkaDecodeMode.from(decode);
+
+        log.debug("ADMIN → Kafka streaming peek requested: topic={}, offset={}, limit={}, decode={}", topic, offset, limit, mode.wireValue());
+
+        String storeTopic = storeTopic(topic, partition);
+        if (!validPage(offset, limit) || storeTopic == null) {
+            log.warn("ADMIN ← Kafka streaming peek rejected: topic={}, partition={}, offset={}, limit={}", topic, partition, offset, limit);
+            return ResponseEntity.badRequest().build();
+        }
+
+        long from = Math.max(offset == null ? 0L : offset, store.startOffset(storeTopic));
+        long max = limit == null ? Long.MAX_VALUE : limit;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writePeek(out, topic, storeTopic, from, max, mode));
+    }
+
+    private void writePeek(OutputStream out, String topic, String storeTopic, long from, long max, KafkaDecodeMode mode)
+            throws IOException {
+
+        ObjectWriter messageWriter = objectMapper.writerFor(KafkaMessageDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        long end = store.endOffset(storeTopic);
+        long next = from;
+        long count = 0;
+
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            json.writeStartObject();
+            json.writeStringField("topic", topic);
+            json.writeArrayFieldStart("messages");
+
+            // each chunk is a seek to `next`, so the whole peek is linear in the messages written
+            while (count < max && next < end) {
+                List<StoredKafkaMessage> chunk = store.read(storeTopic, next, (int) Math.min(STREAM_CHUNK, max - count));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                for (StoredKafkaMessage stored : chunk) {
+                    if (stored.offset() >= end) {
+                        break;
+                    }
+                    messageWriter.writeValue(json, toDto(stored.message(), stored.offset(), mode));
+                    next = stored.offset() + 1;
+                    count++;
+                }
+
+                // one flush per chunk, not per message
+                json.flush();
+
+                if (chunk.get(chunk.size() - 1).offset() >= end) {
+                    break;
+                }
+            }
+
+            json.writeEndArray();
+            json.writeNumberField("count", count);
+            json.writeNumberField("nextOffset", next);
+            json.writeEndObject();
+        }
+
+        log.debug("ADMIN ← Kafka streaming peek result: topic={}, count={}, nextOffset={}", topic, count, next);
+    }
+
+    private static boolean validPage(Long offset, Integer limit) {
+        return (offset == null || offset >= 0) && (limit == null || limit > 0);
+    }
+
     /**
      * Take first message (destructive).
      */
     @PostMapping("/{topic}/take")
     public ResponseEntity<KafkaMessageDTO> take(
             @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition,
             @RequestParam(name = "decode", required = false) String decode
     ) {
         KafkaDecodeMode mode = KafkaDecodeMode.from(decode);
-        log.debug("ADMIN → Kafka take requested: topic={}, decode={}", topic, mode.wireValue());
+        log.debug("ADMIN → Kafka take requested: topic={}, partition={}, decode={}", topic, partition, mode.wireValue());
 
-        Optional<KafkaMessage> message = store.take(topic);
+        String storeTopic = storeTopic(topic, partition);
+        if (storeTopic == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Optional<KafkaMessage> message = store.take(storeTopic);
 
         if (message.isPresent()) {
-            KafkaMessageDTO dto = toDto(message.get(), mode);
+            KafkaMessageDTO dto = toDto(message.get(), null, mode);
 
             log.debug("ADMIN ← Kafka take success: topic={}, key={}, decode={}", dto.topic(), dto.key(), mode.wireValue());
 
@@ -93,7 +244,188 @@ public final class KafkaPollController {
     }
 
     /**
-     * Clear topic.
+     * Long-poll take (destructive): answers as soon as a message is published,
+     * or 204 after {@code waitMs}.
+     */
+    @PostMapping(value = "/{topic}/take", params = {"waitMs", "!max"})
+    public DeferredResult<ResponseEntity<KafkaMessageDTO>> takeWaiting(
+            @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition,
+            @RequestParam(name = "waitMs") long waitMs,
+            @RequestParam(name = "decode", required = false) String decode
+    ) {
+        KafkaDecodeMode mode = KafkaDecodeMode.from(decode);
+        long wait = Math.min(Math.max(0L, waitMs), MAX_WAIT_MS);
+
+        log.debug("ADMIN → Kafka long-poll take requested: topic={}, waitMs={}, decode={}", topic, wait, mode.wireValue());
+
+        DeferredResult<ResponseEntity<KafkaMessageDTO>> result = new DeferredResult<>(
+                wait + ASYNC_TIMEOUT_GRACE_MS,
+                ResponseEntity.noContent().build()
+        );
+
+        String storeTopic = storeTopic(topic, partition);
+        if (storeTopic == null) {
+            result.setResult(ResponseEntity.badRequest().build());
+            return result;
+        }
+
+        CompletableFuture<Optional<KafkaMessage>> pending = topicWaiter.take(storeTopic, Duration.ofMillis(wait));
+        abandonWhenDone(result, pending);
+
+        pending.thenAccept(message -> {
+            if (message.isEmpty()) {
+                log.debug("ADMIN ← Kafka long-poll take empty: topic={}, waitMs={}", topic, wait);
+                result.setResult(ResponseEntity.noContent().build());
+                return;
+            }
+
+            KafkaMessageDTO dto = toDto(message.get(), null, mode);
+
+            if (!result.setResult(ResponseEntity.ok(dto))) {
+                log.warn("ADMIN ← Kafka long-poll take lost message, client gone: topic={}, key={}", topic, dto.key());
+                return;
+            }
+            log.debug("ADMIN ← Kafka long-poll take success: topic={}, key={}", topic, dto.key());
+        });
+
+        return result;
+    }
+
+    /**
+     * Batch take (destructive): up to {@code max} messages in one call.
+     * With {@code waitMs} it waits for at least one message, 204 after the wait.
+     */
+    @PostMapping(value = "/{topic}/take", params = "max")
+    public DeferredResult<ResponseEntity<KafkaTakeBatchResponse>> takeBatch(
+            @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition,
+            @RequestParam(name = "max") int max,
+            @RequestParam(name = "waitMs", defaultValue = "0") long waitMs,
+            @RequestParam(name = "decode", required = false) String decode
+    ) {
+        KafkaDecodeMode mode = KafkaDecodeMode.from(decode);
+        long wait = Math.min(Math.max(0L, waitMs), MAX_WAIT_MS);
+
+        log.debug("ADMIN → Kafka batch take requested: topic={}, max={}, waitMs={}, decode={}", topic, max, wait, mode.wireValue());
+
+        DeferredResult<ResponseEntity<KafkaTakeBatchResponse>> result = new DeferredResult<>(
+                wait + ASYNC_TIMEOUT_GRACE_MS,
+                ResponseEntity.noContent().build()
+        );
+
+        String storeTopic = storeTopic(topic, partition);
+        if (max <= 0 || max > MAX_BATCH || storeTopic == null) {
+            log.warn("ADMIN ← Kafka batch take rejected: topic={}, partition={}, max={}", topic, partition, max);
+            result.setResult(ResponseEntity.badRequest().build());
+            return result;
+        }
+
+        if (wait == 0) {
+            result.setResult(batchResponse(topic, store.drain(storeTopic, max), mode));
+            return result;
+        }
+
+        CompletableFuture<List<StoredKafkaMessage>> pending = topicWaiter.drain(storeTopic, max, Duration.ofMillis(wait));
+        abandonWhenDone(result, pending);
+
+        pending.thenAccept(drained -> {
+            if (!result.setResult(batchResponse(topic, drained, mode)) && !drained.isEmpty()) {
+                log.warn("ADMIN ← Kafka batch take lost messages, client gone: topic={}, count={}", topic, drained.size());
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Client gone, async timeout or any other completion: a waiter still pending must not take
+     * a message nobody will receive (no-op once the waiter answered).
+     */
+    private static void abandonWhenDone(DeferredResult<?> result, CompletableFuture<?> pending) {
+        result.onTimeout(() -> pending.cancel(false));
+        result.onError(e -> pending.cancel(false));
+        result.onCompletion(() -> pending.cancel(false));
+    }
+
+    private ResponseEntity<KafkaTakeBatchResponse> batchResponse(
+            String topic,
+            List<StoredKafkaMessage> drained,
+            KafkaDecodeMode mode
+    ) {
+        if (drained.isEmpty()) {
+            log.debug("ADMIN ← Kafka batch take empty: topic={}", topic);
+            return ResponseEntity.noContent().build();
+        }
+
+        List<KafkaMessageDTO> messages = drained.stream()
+                .map(m -> toDto(m.message(), m.offset(), mode))
+                .toList();
+
+        log.debug("ADMIN ← Kafka batch take result: topic={}, count={}", topic, messages.size());
+
+        return ResponseEntity.ok(new KafkaTakeBatchResponse(topic, messages.size(), messages));
+    }
+
+    /**
+     * Server-sent events stream of topic messages (event id = offset).
+     * Without a group the stream is non-destructive and starts at {@code fromOffset};
+     * with a group it continues from, and commits, the group's offset.
+     */
+    @GetMapping(value = "/{topic}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition,
+            @RequestParam(name = "group", required = false) String group,
+            @RequestParam(name = "fromOffset", defaultValue = "0") long fromOffset,
+            @RequestParam(name = "decode", required = false) String decode
+    ) {
+        KafkaDecodeMode mode = KafkaDecodeMode.from(decode);
+
+        log.debug("ADMIN → Kafka stream requested: topic={}, partition={}, group={}, fromOffset={}, decode={}", topic, partition, group, fromOffset, mode.wireValue());
+
+        String storeTopic = storeTopic(topic, partition);
+        if (storeTopic == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, partitionError(topic));
+        }
+
+        // no server-side timeout: the stream ends when the client goes away
+        SseEmitter emitter = new SseEmitter(0L);
+
+        TopicWaiter.Subscription subscription = topicWaiter.stream(
+                storeTopic,
+                group == null || group.isBlank() ? null : group,
+                fromOffset,
+                batch -> send(emitter, batch, mode)
+        );
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        return emitter;
+    }
+
+    private boolean send(SseEmitter emitter, List<StoredKafkaMessage> batch, KafkaDecodeMode mode) {
+        try {
+            for (StoredKafkaMessage stored : batch) {
+                emitter.send(
+                        SseEmitter.event()
+                                .id(Long.toString(stored.offset()))
+                                .name("message")
+                                .data(toDto(stored.message(), stored.offset(), mode), MediaType.APPLICATION_JSON)
+                );
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("ADMIN ← Kafka stream closed by client: {}", e.toString());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Clear topic (all partitions of a partitioned topic).
      */
     @PostMapping("/{topic}/clear")
     public ResponseEntity<Map<String, Boolean>> clear(@PathVariable String topic) {
@@ -101,46 +433,176 @@ public final class KafkaPollController {
 
         store.clear(topic);
 
-        log.info("ADMIN ← Kafka topic cleared: topic={}", topic);
+        int partitions = scenarioService.partitions(topic);
+        for (int partition = 0; partition < partitions; partition++) {
+            store.clear(KafkaPartitions.storeTopic(topic, partition));
+        }
+
+        log.info("ADMIN ← Kafka topic cleared: topic={}, partitions={}", topic, partitions);
 
         return ResponseEntity.ok().build();
     }
 
-    private KafkaMessageDTO toDto(KafkaMessage message, KafkaDecodeMode decodeMode) {
+    /**
+     * Poll a batch for a consumer group (non-destructive, auto-commits the group offset).
+     */
+    @PostMapping("/{topic}/poll")
+    public ResponseEntity<KafkaGroupPollResponse> poll(
+            @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition,
+            @RequestParam(name = "group") String group,
+            @RequestParam(name = "max", defaultValue = "100") int max,
+            @RequestParam(name = "decode", required = false) String decode
+    ) {
+        KafkaDecodeMode mode = KafkaDecodeMode.from(decode);
+        log.debug("ADMIN → Kafka group poll requested: topic={}, group={}, max={}, decode={}", topic, group, max, mode.wireValue());
 
-        ResolvedBody body = message.value();
-        byte[] bytes = body.bytes();
+        String storeTopic = storeTopic(topic, partition);
+        if (group.isBlank() || max <= 0 || storeTopic == null) {
+            log.warn("ADMIN ← Kafka group poll rejected: topic={}, partition={}, group='{}', max={}", topic, partition, group, max);
+            return ResponseEntity.badRequest().build();
+        }
 
-        String rawBase64 = Base64.getEncoder().encodeToString(bytes);
+        ConsumerGroupOffsets.Batch batch = consumerGroups.poll(group, storeTopic, max);
 
-        Object decoded = null;
+        List<KafkaMessageDTO> messages = batch.messages().stream()
+                .map(m -> toDto(m.message(), m.offset(), mode))
+                .toList();
 
-        switch (decodeMode) {
-            case TEXT -> decoded = new String(bytes, StandardCharsets.UTF_8);
+        log.debug(
+                "ADMIN ← Kafka group poll result: topic={}, group={}, fromOffset={}, nextOffset={}, count={}",
+                topic,
+                group,
+                batch.fromOffset(),
+                batch.nextOffset(),
+                messages.size()
+        );
 
-            case JSON -> {
-                try {
-                    decoded = objectMapper.readTree(bytes);
-                } catch (Exception ex) {
-                    // intentionally swallow; keep decoded = null
-                    log.debug("Kafka message JSON decode failed: topic={}, key={}, bytes={}", message.topic(), message.key(), bytes.length);
-                }
-            }
+        return ResponseEntity.ok(
+                new KafkaGroupPollResponse(
+                        topic,
+                        group,
+                        batch.fromOffset(),
+                        batch.nextOffset(),
+                        messages.size(),
+                        messages
+                )
+        );
+    }
 
-            case NONE -> {
-                // leave decoded null
-            }
+    /**
+     * Commit (or seek) a consumer group offset.
+     */
+    @PostMapping("/{topic}/commit")
+    public ResponseEntity<KafkaConsumerGroupDTO> commit(
+            @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition,
+            @RequestParam(name = "group") String group,
+            @RequestParam(name = "offset") long offset
+    ) {
+        log.debug("ADMIN → Kafka group commit requested: topic={}, group={}, offset={}", topic, group, offset);
+
+        String storeTopic = storeTopic(topic, partition);
+        if (group.isBlank() || offset < 0 || storeTopic == null) {
+            log.warn("ADMIN ← Kafka group commit rejected: topic={}, partition={}, group='{}', offset={}", topic, partition, group, offset);
+            return ResponseEntity.badRequest().build();
         }
+        consumerGroups.commit(group, storeTopic, offset);
 
+        return ResponseEntity.ok(
+                new KafkaConsumerGroupDTO(group, offset, consumerGroups.lag(group, storeTopic))
+        );
+    }
+
+    /**
+     * Consumer groups known for topic, with committed offset and lag.
+     */
+    @GetMapping("/{topic}/groups")
+    public ResponseEntity<List<KafkaConsumerGroupDTO>> groups(
+            @PathVariable String topic,
+            @RequestParam(name = "partition", required = false) Integer partition
+    ) {
+        String storeTopic = storeTopic(topic, partition);
+        if (storeTopic == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<KafkaConsumerGroupDTO> groups = groupsOf(storeTopic);
+
+        log.debug("ADMIN ← Kafka groups result: topic={}, partition={}, groups={}", topic, partition, groups.size());
+
+        return ResponseEntity.ok(groups);
+    }
+
+    /**
+     * Per-partition offsets and lag of a partitioned topic (404 if the topic is not partitioned).
+     */
+    @GetMapping("/{topic}/partitions")
+    public ResponseEntity<List<KafkaPartitionDTO>> partitions(@PathVariable String topic) {
+        int partitions = scenarioService.partitions(topic);
+        if (partitions == 0) {
+            log.debug("ADMIN ← Kafka partitions: topic not partitioned: topic={}", topic);
+            return ResponseEntity.notFound().build();
+        }
+
+        List<KafkaPartitionDTO> result = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            String storeTopic = KafkaPartitions.storeTopic(topic, partition);
+            long start = store.startOffset(storeTopic);
+            long end = store.endOffset(storeTopic);
+
+            result.add(new KafkaPartitionDTO(
+                    partition,
+                    start,
+                    end,
+                    Math.max(0L, end - start),
+                    groupsOf(storeTopic)
+            ));
+        }
+
+        log.debug("ADMIN ← Kafka partitions result: topic={}, partitions={}", topic, partitions);
+
+        return ResponseEntity.ok(result);
+    }
+
+    private List<KafkaConsumerGroupDTO> groupsOf(String storeTopic) {
+        return consumerGroups.committedOffsets(storeTopic).entrySet().stream()
+                .map(e -> new KafkaConsumerGroupDTO(
+                        e.getKey(),
+                        e.getValue(),
+                        consumerGroups.lag(e.getKey(), storeTopic)
+                ))
+                .toList();
+    }
+
+    /**
+     * Store topic addressed by topic and partition, or null if they do not fit the active contract:
+     * a partitioned topic needs a partition in [0, partitions), a non-partitioned topic takes none.
+     */
+    private String storeTopic(String topic, Integer partition) {
+        int partitions = scenarioService.partitions(topic);
+        if (partitions == 0) {
+            return partition == null ? topic : null;
+        }
+        if (partition == null || partition < 0 || partition >= partitions) {
+            return null;
+        }
+        return KafkaPartitions.storeTopic(topic, partition);
+    }
+
+    private String partitionError(String topic) {
+        int partitions = scenarioService.partitions(topic);
+        return partitions == 0
+                ? "topic " + topic + " is not partitioned: partition must not be set"
+                : "topic " + topic + " has " + partitions + " partitions: partition must be in [0, " + partitions + ")";
+    }
+
+    private KafkaMessageDTO toDto(KafkaMessage message, Long offset, KafkaDecodeMode decodeMode) {
         return new KafkaMessageDTO(
                 message.topic(),
                 message.key(),
-                new KafkaValueDTO(
-                        rawBase64,
-                        decoded,
-                        decodeMode.wireValue(),
-                        body.source().name().toLowerCase()
-                )
+                valueEncoder.encode(message.value(), decodeMode),
+                offset
         );
     }
 
@@ -0,0 +1,16 @@
+package com.mockavior.app.admin.dto.kafka;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Consumer group position on a topic")
+public record KafkaConsumerGroupDTO(
+
+        @Schema(description = "Consumer group id", example = "billing")
+        String group,
+
+        @Schema(description = "Committed offset (next offset to deliver)", example = "12")
+        long committedOffset,
+
+        @Schema(description = "Messages not yet delivered to the group", example = "3")
+        long lag
+) {}
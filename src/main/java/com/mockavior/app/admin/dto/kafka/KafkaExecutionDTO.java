@@ -0,0 +1,37 @@
+package com.mockavior.app.admin.dto.kafka;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Progress of one Kafka scenario execution")
+public record KafkaExecutionDTO(
+
+        @Schema(description = "Execution id", example = "3f1c9a2e-8d4b-4c1e-9a57-0b8f2d6e4a11")
+        String executionId,
+
+        @Schema(description = "Scenario id", example = "user-events")
+        String scenarioId,
+
+        @Schema(description = "Execution state", example = "RUNNING")
+        String state,
+
+        @Schema(description = "Shard of the execution (0 when not sharded)", example = "0")
+        int shard,
+
+        @Schema(description = "Number of shards the scenario was started with", example = "1")
+        int shards,
+
+        @Schema(description = "Messages published so far", example = "1200")
+        long emitted,
+
+        @Schema(description = "Messages published when the execution runs to the end", example = "5000")
+        long total,
+
+        @Schema(description = "Milliseconds since start, frozen when the execution ends", example = "6000")
+        long elapsedMs,
+
+        @Schema(description = "Achieved rate (messages/s): 1s window when rate-paced, average since start otherwise", example = "200.0")
+        double ratePerSecond,
+
+        @Schema(description = "Target rate (messages/s) of a rate-paced scenario, null otherwise", example = "200.0", nullable = true)
+        Double targetPerSecond
+) {}
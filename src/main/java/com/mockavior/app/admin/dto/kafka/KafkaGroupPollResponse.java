@@ -0,0 +1,42 @@
+package com.mockavior.app.admin.dto.kafka;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(
+        description = "Kafka consumer group poll response (messages are committed for the group)",
+        example = """
+    {
+      "topic": "user.created",
+      "group": "billing",
+      "fromOffset": 10,
+      "nextOffset": 12,
+      "count": 2,
+      "messages": [
+        { "topic": "user.created", "key": "1", "value": { "raw": "..." }, "offset": 10 },
+        { "topic": "user.created", "key": "2", "value": { "raw": "..." }, "offset": 11 }
+      ]
+    }
+    """
+)
+public record KafkaGroupPollResponse(
+
+        @Schema(description = "Kafka topic name", example = "user.created")
+        String topic,
+
+        @Schema(description = "Consumer group id", example = "billing")
+        String group,
+
+        @Schema(description = "First offset considered by this poll", example = "10")
+        long fromOffset,
+
+        @Schema(description = "Committed offset after this poll (next offset to deliver)", example = "12")
+        long nextOffset,
+
+        @Schema(description = "Number of messages in batch", example = "2")
+        int count,
+
+        @Schema(description = "Messages in offset order")
+        List<KafkaMessageDTO> messages
+) {}
@@ -1,5 +1,6 @@
 package com.mockavior.app.admin.dto.kafka;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -16,6 +17,10 @@ public record KafkaMessageDTO(
         String key,
 
         @Schema(description = "Message payload")
-        KafkaValueDTO value
+        KafkaValueDTO value,
+
+        @Schema(description = "Message offset in topic (consumer group poll only)", example = "42")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long offset
 ) {
 }
@@ -0,0 +1,24 @@
+package com.mockavior.app.admin.dto.kafka;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Offsets and lag of one partition of a partitioned topic")
+public record KafkaPartitionDTO(
+
+        @Schema(description = "Partition number", example = "0")
+        int partition,
+
+        @Schema(description = "First offset still stored (moved by take / clear)", example = "10")
+        long startOffset,
+
+        @Schema(description = "Offset of the next published message", example = "25")
+        long endOffset,
+
+        @Schema(description = "Messages not yet taken from the partition", example = "15")
+        long lag,
+
+        @Schema(description = "Consumer groups on the partition, with their lag")
+        List<KafkaConsumerGroupDTO> groups
+) {}
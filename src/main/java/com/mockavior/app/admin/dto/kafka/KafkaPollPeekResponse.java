@@ -10,8 +10,9 @@ import java.util.List;
     {
       "topic": "user.created",
       "count": 3,
+      "nextOffset": 3,
       "messages": [
-        { "key": "1", "value": "{...}", "topic": "user.created" }
+        { "key": "1", "value": "{...}", "topic": "user.created", "offset": 0 }
       ]
     }
     """
@@ -21,9 +22,12 @@ public record KafkaPollPeekResponse(
         @Schema(description = "Kafka topic name", example = "user.created")
         String topic,
 
-        @Schema(description = "Number of messages in topic", example = "3")
+        @Schema(description = "Number of messages returned (whole topic unless limit is set)", example = "3")
         int count,
 
-        @Schema(description = "Messages currently stored in topic")
+        @Schema(description = "Offset to pass as offset= for the next page", example = "3")
+        long nextOffset,
+
+        @Schema(description = "Messages currently stored in topic, in offset order")
         List<KafkaMessageDTO> messages
 ) {}
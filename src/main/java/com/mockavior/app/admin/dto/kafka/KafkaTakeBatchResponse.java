@@ -0,0 +1,30 @@
+package com.mockavior.app.admin.dto.kafka;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(
+        description = "Kafka batch take response (messages are removed from topic)",
+        example = """
+    {
+      "topic": "user.created",
+      "count": 2,
+      "messages": [
+        { "topic": "user.created", "key": "1", "value": { "raw": "..." }, "offset": 0 },
+        { "topic": "user.created", "key": "2", "value": { "raw": "..." }, "offset": 1 }
+      ]
+    }
+    """
+)
+public record KafkaTakeBatchResponse(
+
+        @Schema(description = "Kafka topic name", example = "user.created")
+        String topic,
+
+        @Schema(description = "Number of messages taken", example = "2")
+        int count,
+
+        @Schema(description = "Taken messages in offset order")
+        List<KafkaMessageDTO> messages
+) {}
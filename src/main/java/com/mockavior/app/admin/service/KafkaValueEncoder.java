@@ -0,0 +1,163 @@
+package com.mockavior.app.admin.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockavior.app.admin.dto.kafka.KafkaDecodeMode;
+import com.mockavior.app.admin.dto.kafka.KafkaValueDTO;
+import com.mockavior.contract.payload.ResolvedBody;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Renders Kafka payloads for the Admin API (Base64 raw value + optional decoded form).
+ * Responsibilities:
+ * - Encode / decode a payload once and reuse the result for every message sharing it
+ * Design notes:
+ * - Keyed by payload identity: repeated scenario messages share one ResolvedBody instance
+ *   (heap stores keep it, the segment log interns it), so a lookup is O(1) regardless of size
+ * - Bounded LRU (maxEntries payloads); a miss costs what an uncached render did
+ * - Decoded forms are computed lazily per decode mode; a JsonNode is shared between DTOs
+ *   and never mutated
+ */
+@Slf4j
+public final class KafkaValueEncoder {
+
+    private final ObjectMapper objectMapper;
+    private final Map<PayloadKey, Rendered> cache;
+
+    public KafkaValueEncoder(ObjectMapper objectMapper, int maxEntries) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PayloadKey, Rendered> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public KafkaValueDTO encode(ResolvedBody body, KafkaDecodeMode decodeMode) {
+        Objects.requireNonNull(body, "body must not be null");
+        Objects.requireNonNull(decodeMode, "decodeMode must not be null");
+
+        Rendered rendered = rendered(body);
+
+        return new KafkaValueDTO(
+                rendered.base64,
+                rendered.decoded(decodeMode),
+                decodeMode.wireValue(),
+                rendered.source
+        );
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private Rendered rendered(ResolvedBody body) {
+        PayloadKey key = new PayloadKey(body);
+
+        synchronized (cache) {
+            Rendered cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // encode outside the lock; a concurrent miss on the same payload just renders twice
+        Rendered rendered = new Rendered(body);
+
+        synchronized (cache) {
+            Rendered raced = cache.putIfAbsent(key, rendered);
+            return raced != null ? raced : rendered;
+        }
+    }
+
+    // ------------------------------------------------------------
+    // cache entries
+    // ------------------------------------------------------------
+
+    private final class Rendered {
+
+        private final byte[] bytes;
+        private final String base64;
+        private final String source;
+
+        private volatile String text;
+        private volatile JsonNode json;
+        private volatile boolean jsonFailed;
+
+        private Rendered(ResolvedBody body) {
+            this.bytes = body.bytes();
+            this.base64 = Base64.getEncoder().encodeToString(bytes);
+            this.source = body.source().name().toLowerCase(Locale.ROOT);
+        }
+
+        Object decoded(KafkaDecodeMode mode) {
+            return switch (mode) {
+                case TEXT -> text();
+                case JSON -> json();
+                case NONE -> null;
+            };
+        }
+
+        private String text() {
+            String value = text;
+            if (value == null) {
+                value = new String(bytes, StandardCharsets.UTF_8);
+                text = value;
+            }
+            return value;
+        }
+
+        private JsonNode json() {
+            JsonNode value = json;
+            if (value != null || jsonFailed) {
+                return value;
+            }
+
+            try {
+                value = objectMapper.readTree(bytes);
+                json = value;
+            } catch (Exception ex) {
+                // intentionally swallow; keep decoded = null
+                log.debug("Kafka payload JSON decode failed: bytes={}", bytes.length);
+                jsonFailed = true;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Identity key: equal only to the same payload instance.
+     */
+    private static final class PayloadKey {
+
+        private final ResolvedBody body;
+
+        private PayloadKey(ResolvedBody body) {
+            this.body = body;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PayloadKey other && other.body == body;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(body);
+        }
+    }
+}
@@ -15,4 +15,9 @@ public class AdminProperties {
      * Base path for all administrative endpoints.
      */
     private String prefix = "/__mockavior__";
+
+    /**
+     * Kafka poll API: distinct payloads whose Base64 / decoded forms are cached.
+     */
+    private int kafkaValueCacheSize = 1024;
 }
@@ -0,0 +1,76 @@
+package com.mockavior.app.config;
+
+import com.mockavior.kafka.runtime.DefaultInMemoryKafkaStore;
+import com.mockavior.kafka.runtime.InMemoryKafkaStore;
+import com.mockavior.kafka.runtime.RingBufferKafkaStore;
+import com.mockavior.kafka.runtime.SegmentLogKafkaStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * Kafka store implementations, selected by mockavior.kafka.store.type (default unless set).
+ */
+@Slf4j
+@Configuration
+public class KafkaStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "mockavior.kafka.store.type", havingValue = "default", matchIfMissing = true)
+    public InMemoryKafkaStore defaultInMemoryKafkaStore(
+            KafkaStoreProperties properties,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        log.info("Initializing DefaultInMemoryKafkaStore");
+        return new DefaultInMemoryKafkaStore(
+                new DefaultInMemoryKafkaStore.Retention(
+                        properties.getMaxMessages(),
+                        properties.getMaxBytes().toBytes(),
+                        properties.getMaxAge(),
+                        clock
+                ),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mockavior.kafka.store.type", havingValue = "ring-buffer")
+    public InMemoryKafkaStore ringBufferKafkaStore(KafkaStoreProperties properties) {
+        log.info("Initializing RingBufferKafkaStore");
+        return new RingBufferKafkaStore(
+                properties.getCapacity(),
+                properties.getOverflow(),
+                properties.getBlockTimeout()
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mockavior.kafka.store.type", havingValue = "segment-log")
+    public InMemoryKafkaStore segmentLogKafkaStore(KafkaStoreProperties properties, Clock clock) {
+        log.info("Initializing SegmentLogKafkaStore");
+
+        long segmentBytes = properties.getSegmentSize().toBytes();
+        if (segmentBytes <= 0 || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                    "mockavior.kafka.store.segment-size must be between 1 byte and 2GB: " + properties.getSegmentSize()
+            );
+        }
+
+        return new SegmentLogKafkaStore(
+                new SegmentLogKafkaStore.Settings(
+                        Path.of(properties.getLogDir()),
+                        (int) segmentBytes,
+                        properties.getRetentionSize().toBytes(),
+                        properties.getRetentionTime(),
+                        (int) properties.getIndexInterval().toBytes(),
+                        clock
+                )
+        );
+    }
+}
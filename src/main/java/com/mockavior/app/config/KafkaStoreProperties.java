@@ -0,0 +1,78 @@
+package com.mockavior.app.config;
+
+import com.mockavior.kafka.runtime.RingBufferKafkaStore;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "mockavior.kafka.store")
+@Setter
+public class KafkaStoreProperties {
+
+    /**
+     * Store implementation: default (unbounded queues) | ring-buffer (bounded per topic)
+     * | segment-log (memory-mapped files, survives restarts).
+     */
+    private String type = "default";
+
+    /**
+     * default: per-topic message limit, oldest messages are evicted above it (0 = unlimited).
+     */
+    private long maxMessages = 0L;
+
+    /**
+     * default: per-topic size limit (key + value bytes), oldest messages are evicted above it (0 = unlimited).
+     */
+    private DataSize maxBytes = DataSize.ofBytes(0);
+
+    /**
+     * default: messages published longer ago are evicted on the next publish to the topic (0 = unlimited).
+     */
+    private Duration maxAge = Duration.ZERO;
+
+    /**
+     * ring-buffer: messages kept per topic (rounded up to a power of two).
+     */
+    private int capacity = 65_536;
+
+    /**
+     * ring-buffer: behavior when a topic is full: drop-oldest | block.
+     */
+    private RingBufferKafkaStore.OverflowPolicy overflow = RingBufferKafkaStore.OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * ring-buffer with overflow=block: max time a publisher waits for space before failing.
+     */
+    private Duration blockTimeout = Duration.ofSeconds(5);
+
+    /**
+     * segment-log: directory holding one sub-directory per topic.
+     */
+    private String logDir = "data/kafka-log";
+
+    /**
+     * segment-log: size of one segment file; a topic rolls to a new segment when full.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * segment-log: per-topic size limit, oldest segments are deleted above it (0 = unlimited).
+     */
+    private DataSize retentionSize = DataSize.ofGigabytes(1);
+
+    /**
+     * segment-log: segments with no append for this long are deleted (0 = unlimited).
+     */
+    private Duration retentionTime = Duration.ofHours(24);
+
+    /**
+     * segment-log: bytes between sparse offset index entries.
+     */
+    private DataSize indexInterval = DataSize.ofKilobytes(4);
+}
@@ -0,0 +1,20 @@
+package com.mockavior.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "mockavior.proxy")
+@Setter
+public class ProxyProperties {
+
+    /**
+     * Stream proxied bodies instead of buffering them.
+     * Request bodies are piped upstream as they are read, upstream response bytes
+     * are written to the client as they arrive (non-blocking servlet I/O).
+     */
+    private boolean streaming = false;
+}
@@ -0,0 +1,20 @@
+package com.mockavior.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "mockavior.request")
+@Setter
+public class RequestProperties {
+
+    /**
+     * Max request body size that may be buffered in memory (e.g. buffered proxy).
+     * Bodies are read lazily; requests whose body is never used are not limited.
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(10);
+}
@@ -3,6 +3,7 @@ package com.mockavior.app.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mockavior.app.admin.service.ContractAdminService;
 import com.mockavior.app.admin.service.ContractValidationService;
+import com.mockavior.app.admin.service.KafkaValueEncoder;
 import com.mockavior.contract.compiler.ContractCompiler;
 import com.mockavior.contract.parse.ContractParser;
 import com.mockavior.contract.parse.YamlContractParser;
@@ -14,6 +15,7 @@ import com.mockavior.kafka.compiler.KafkaScenarioCompiler;
 import com.mockavior.kafka.runtime.ScenarioExecutionRegistry;
 import com.mockavior.reload.ReloadService;
 import com.mockavior.reload.watch.ContractFileWatcher;
+import com.mockavior.routing.RoutingMetrics;
 import com.mockavior.runtime.RequestProcessor;
 import com.mockavior.runtime.proxy.HttpProxyClient;
 import com.mockavior.runtime.snapshot.SnapshotRegistry;
@@ -26,6 +28,7 @@ import org.springframework.context.annotation.Profile;
 
 import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 
 @Slf4j
 @Configuration
@@ -58,6 +61,12 @@ public class RuntimeConfig {
         return new ContractValidationService(parser, compiler, registry);
     }
 
+    @Bean
+    public KafkaValueEncoder kafkaValueEncoder(ObjectMapper objectMapper, AdminProperties adminProperties) {
+        log.info("Initializing KafkaValueEncoder");
+        return new KafkaValueEncoder(objectMapper, adminProperties.getKafkaValueCacheSize());
+    }
+
     /**
      * Path to mockapi.yml (MVP). Replace with @Value later.
      */
@@ -96,16 +105,23 @@ public class RuntimeConfig {
         return new YamlContractParser();
     }
 
+    /**
+     * Finished / stopped Kafka executions are reaped after this TTL.
+     */
     @Bean
-    public ScenarioExecutionRegistry scenarioExecutionRegistry() {
-        return new ScenarioExecutionRegistry();
+    public ScenarioExecutionRegistry scenarioExecutionRegistry(
+            @Value("${mockavior.kafka.executions.ttl:5m}") Duration ttl
+    ) {
+        log.info("Kafka execution TTL: {}", ttl);
+        return new ScenarioExecutionRegistry(ttl);
     }
 
     @Bean
     public ContractCompiler contractCompiler(Clock clock,
                                              KafkaScenarioCompiler kafkaScenarioCompiler,
                                              ObjectMapper objectMapper,
-                                             YamlFileContractSource contractSource) {
+                                             YamlFileContractSource contractSource,
+                                             MeterRegistry meterRegistry) {
 
         Path workspaceRoot = contractSource.workspaceRoot();
 
@@ -116,7 +132,13 @@ public class RuntimeConfig {
         }
 
         log.info("Initializing ContractCompiler with workspaceRoot={}", workspaceRoot);
-        return new ContractCompiler(clock, kafkaScenarioCompiler, objectMapper,  workspaceRoot);
+        return new ContractCompiler(
+                clock,
+                kafkaScenarioCompiler,
+                objectMapper,
+                workspaceRoot,
+                RoutingMetrics.micrometer(meterRegistry)
+        );
     }
 
     @Bean
@@ -1,6 +1,8 @@
 package com.mockavior.app.config;
 
 import com.mockavior.runtime.scheduler.RuntimeScheduler;
+import com.mockavior.runtime.scheduler.SchedulerType;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -10,8 +12,23 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class SchedulerConfig {
 
     @Bean(destroyMethod = "shutdown")
-    public RuntimeScheduler runtimeScheduler() {
-        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
-        return new RuntimeScheduler(threads);
+    public RuntimeScheduler runtimeScheduler(
+            SchedulerProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        if (properties.getType() == SchedulerType.TIMING_WHEEL) {
+            return new RuntimeScheduler(
+                    threads,
+                    properties.getExecutionMode(),
+                    properties.getTick(),
+                    properties.getWheelSize(),
+                    meterRegistry
+            );
+        }
+        return new RuntimeScheduler(threads, properties.getExecutionMode(), meterRegistry);
     }
 }
@@ -0,0 +1,45 @@
+package com.mockavior.app.config;
+
+import com.mockavior.runtime.scheduler.ExecutionMode;
+import com.mockavior.runtime.scheduler.SchedulerType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "mockavior.scheduler")
+@Setter
+public class SchedulerProperties {
+
+    /**
+     * Delay queue implementation: executor | timing-wheel.
+     */
+    private SchedulerType type = SchedulerType.EXECUTOR;
+
+    /**
+     * Threads that run scheduled work (response writing, proxy calls): platform | virtual.
+     * virtual requires JDK 21.
+     */
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+
+    /**
+     * Platform worker threads. 0 = max(2, available processors).
+     * Ignored when execution-mode=virtual.
+     */
+    private int threads = 0;
+
+    /**
+     * Timing wheel tick (delay resolution). Only used when type=timing-wheel.
+     */
+    private Duration tick = Duration.ofMillis(5);
+
+    /**
+     * Number of timing wheel buckets (rounded up to a power of two).
+     * Only used when type=timing-wheel.
+     */
+    private int wheelSize = 512;
+}
@@ -10,8 +10,9 @@ import org.springframework.context.annotation.Configuration;
 public class TransportConfig {
 
     @Bean
-    public HttpTransportAdapter httpTransportAdapter() {
-        log.info("Initializing HttpTransportAdapter");
-        return new HttpTransportAdapter();
+    public HttpTransportAdapter httpTransportAdapter(RequestProperties requestProperties) {
+        int maxBodyBytes = Math.toIntExact(requestProperties.getMaxBodySize().toBytes());
+        log.info("Initializing HttpTransportAdapter: maxBodyBytes={}", maxBodyBytes);
+        return new HttpTransportAdapter(maxBodyBytes);
     }
 }
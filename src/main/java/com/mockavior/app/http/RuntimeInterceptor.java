@@ -1,14 +1,17 @@
 package com.mockavior.app.http;
 
 import com.mockavior.app.config.AdminProperties;
+import com.mockavior.app.config.ProxyProperties;
 import com.mockavior.behavior.BehaviorResult;
 import com.mockavior.core.engine.EngineResult;
 import com.mockavior.core.request.GenericRequest;
+import com.mockavior.core.request.RequestBody;
 import com.mockavior.core.snapshot.ContractSnapshot;
 import com.mockavior.runtime.RequestProcessor;
 import com.mockavior.runtime.proxy.HttpProxyClient;
 import com.mockavior.runtime.proxy.ProxyConfig;
 import com.mockavior.runtime.proxy.ProxyResponseWriter;
+import com.mockavior.runtime.proxy.StreamingProxyResponseWriter;
 import com.mockavior.runtime.scheduler.RuntimeScheduler;
 import com.mockavior.runtime.snapshot.SnapshotHandle;
 import com.mockavior.runtime.snapshot.SnapshotRegistry;
@@ -17,6 +20,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
@@ -28,6 +32,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import java.net.URI;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
@@ -36,6 +41,9 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
     @NotNull
     private final AdminProperties adminProperties;
 
+    @NotNull
+    private final ProxyProperties proxyProperties;
+
     @NotNull
     private final RequestProcessor requestProcessor;
 
@@ -59,6 +67,7 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
 
     public RuntimeInterceptor(
             AdminProperties adminProperties,
+            ProxyProperties proxyProperties,
             RequestProcessor requestProcessor,
             HttpTransportAdapter transportAdapter,
             HttpProxyClient proxyClient,
@@ -67,6 +76,7 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
             MeterRegistry meterRegistry
     ) {
         this.adminProperties = adminProperties;
+        this.proxyProperties = proxyProperties;
         this.requestProcessor = requestProcessor;
         this.transportAdapter = transportAdapter;
         this.proxyClient = proxyClient;
@@ -92,6 +102,12 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
             @NonNull Object handler
     ) throws Exception {
 
+        // the runtime answers a request on its original dispatch only
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            StreamingProxyResponseWriter.rethrowAbort(request);
+            return true;
+        }
+
         String path = request.getRequestURI();
         String method = request.getMethod();
 
@@ -140,6 +156,9 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
             asyncContext.setTimeout(0);
 
             // 5️⃣ Schedule response writing
+            // set when a streaming proxy takes over completion of the async context
+            AtomicBoolean handedOff = new AtomicBoolean(false);
+
             runtimeScheduler.scheduleTask(() -> {
                 try {
                     HttpServletResponse asyncResponse =
@@ -170,6 +189,15 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
                                 ProxyConfig config =
                                         new ProxyConfig(proxyBaseUri);
 
+                                if (proxyProperties.isStreaming()) {
+                                    streamProxy(config, req, asyncContext, () -> {
+                                        timerSample.stop(httpRequestTimer);
+                                        logCompleted(method, path, resp.getStatus(), delay);
+                                    });
+                                    handedOff.set(true);
+                                    return;
+                                }
+
                                 try {
                                     HttpResponse<byte[]> proxyResponse =
                                             proxyClient.forward(config, req);
@@ -179,6 +207,10 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
                                             resp
                                     );
 
+                                } catch (RequestBody.TooLargeException e) {
+                                    log.warn("Proxy request rejected: {}", e.getMessage());
+                                    resp.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                                    resp.getWriter().write("Payload Too Large");
                                 } catch (Exception e) {
                                     log.error("Proxy call failed", e);
                                     resp.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
@@ -187,19 +219,17 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
                             }
                     );
 
-                    log.info(
-                            "Runtime response completed: {} {} -> {} (delay={})",
-                            method,
-                            path,
-                            asyncResponse.getStatus(),
-                            delay
-                    );
+                    if (!handedOff.get()) {
+                        logCompleted(method, path, asyncResponse.getStatus(), delay);
+                    }
 
                 } catch (Exception e) {
                     log.error("Failed to write runtime response", e);
                 } finally {
-                    timerSample.stop(httpRequestTimer);
-                    asyncContext.complete();
+                    if (!handedOff.get()) {
+                        timerSample.stop(httpRequestTimer);
+                        asyncContext.complete();
+                    }
                 }
             }, delay);
 
@@ -226,6 +256,48 @@ public final class RuntimeInterceptor implements HandlerInterceptor {
         }
     }
 
+    /**
+     * Streaming proxy: returns as soon as the upstream call is started.
+     * Status/headers are written when they arrive, body bytes are streamed by
+     * StreamingProxyResponseWriter, which completes the async context and calls onDone.
+     */
+    private void streamProxy(
+            ProxyConfig config,
+            GenericRequest request,
+            AsyncContext asyncContext,
+            Runnable onDone
+    ) {
+        proxyClient.forwardStreaming(config, request).whenComplete((proxyResponse, error) -> {
+            try {
+                if (error != null) {
+                    log.error("Proxy call failed", error);
+                    HttpServletResponse resp = (HttpServletResponse) asyncContext.getResponse();
+                    resp.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+                    resp.getWriter().write("Bad Gateway");
+                } else {
+                    StreamingProxyResponseWriter.stream(proxyResponse, asyncContext, onDone);
+                    return;
+                }
+            } catch (Exception e) {
+                log.error("Failed to write streaming proxy response", e);
+            }
+
+            // not streaming: finish here
+            asyncContext.complete();
+            onDone.run();
+        });
+    }
+
+    private static void logCompleted(String method, String path, int status, Duration delay) {
+        log.info(
+                "Runtime response completed: {} {} -> {} (delay={})",
+                method,
+                path,
+                status,
+                delay
+        );
+    }
+
     private boolean isInfraPath(String path) {
         return path.startsWith("/swagger-ui")
                 || path.startsWith("/v3/api-docs")
@@ -8,7 +8,7 @@ import java.util.Objects;
 /**
  * Result of behavior resolution by runtime engine.
  * payload:
- * - String, Map, List, or null
+ * - String, Map, List, EncodedBody (pre-encoded static body), or null
  * metadata:
  * - "status"  -> HTTP status code
  * - "headers" -> Map<String, Object>
@@ -0,0 +1,49 @@
+package com.mockavior.behavior;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Response body that is already encoded to its wire bytes.
+ * Used for static mock bodies (no template placeholders): encoded once at contract compile time,
+ * written as-is on every request with a precomputed Content-Length.
+ * Design notes:
+ * - Immutable; the byte array is never exposed, so one instance is safely shared across requests
+ * - Bytes are kept exactly as resolved (inline or bodyFile), no charset round-trip
+ */
+public final class EncodedBody {
+
+    private final byte[] bytes;
+    private final int contentLength;
+
+    public EncodedBody(byte[] bytes) {
+        this.bytes = Objects.requireNonNull(bytes, "bytes must not be null");
+        this.contentLength = bytes.length;
+    }
+
+    public int contentLength() {
+        return contentLength;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        if (contentLength > 0) {
+            out.write(bytes, 0, contentLength);
+        }
+    }
+
+    /**
+     * Decoded view for logging/debugging only.
+     */
+    public String asString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "EncodedBody{" +
+                "contentLength=" + contentLength +
+                '}';
+    }
+}
@@ -1,11 +1,15 @@
 package com.mockavior.behavior;
 
+import com.mockavior.behavior.template.CompiledTemplate;
 import com.mockavior.behavior.template.ResponseTemplateProcessor;
 import com.mockavior.core.request.GenericRequest;
 import com.mockavior.routing.MatchResult;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,9 +18,17 @@ import java.util.Map;
  * Supported template parameters:
  * - path variables (e.g. /users/{id})
  * - query parameters (?limit=10)
- * Templates are applied recursively to:
+ * Templates are applied to:
  * - response body
  * - response headers
+ * Body forms:
+ * - EncodedBody: static, returned as-is without template processing
+ * - CompiledTemplate: pre-parsed at contract load, rendered in a single pass per request
+ * - anything else (String/Map/List): processed by ResponseTemplateProcessor
+ * Header values containing {placeholders} are pre-compiled once in the constructor:
+ * - String: a CompiledTemplate
+ * - List: each String element with placeholders is a CompiledTemplate (multi-value headers)
+ * - other structured values (Map): rendered per request by ResponseTemplateProcessor
  */
 @Slf4j
 public final class MockBehavior implements Behavior {
@@ -24,11 +36,14 @@ public final class MockBehavior implements Behavior {
     private final Object body;
     private final int status;
     private final Map<String, Object> headers;
+    private final boolean templated;
 
     public MockBehavior(Object body, int status, Map<String, Object> headers) {
         this.body = body;
         this.status = status;
-        this.headers = headers == null ? Map.of() : Map.copyOf(headers);
+        this.headers = compileHeaders(headers);
+        this.templated = !(body instanceof EncodedBody || body == null)
+                || this.headers.values().stream().anyMatch(MockBehavior::isTemplatedHeader);
     }
 
     @Override
@@ -37,9 +52,14 @@ public final class MockBehavior implements Behavior {
                 "Applying MockBehavior: status={}, bodyPresent={}, headersPresent={}",
                 status,
                 body != null,
-                headers != null && !headers.isEmpty()
+                !headers.isEmpty()
         );
 
+        if (!templated) {
+            // static response: nothing depends on request params
+            return BehaviorResult.mock(body, status, headers);
+        }
+
         Map<String, Object> templateParams = new HashMap<>();
 
         // path params (/users/{id})
@@ -53,15 +73,8 @@ public final class MockBehavior implements Behavior {
                 templateParams.keySet()
         );
 
-        Object resolvedBody =
-                ResponseTemplateProcessor.apply(body, templateParams);
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> resolvedHeaders =
-                headers == null
-                        ? Map.of()
-                        : (Map<String, Object>)
-                        ResponseTemplateProcessor.apply(headers, templateParams);
+        Object resolvedBody = resolveBody(templateParams);
+        Map<String, Object> resolvedHeaders = resolveHeaders(templateParams);
 
         log.trace(
                 "MockBehavior resolved body type={}, resolvedHeadersKeys={}",
@@ -72,6 +85,79 @@ public final class MockBehavior implements Behavior {
         return BehaviorResult.mock(resolvedBody, status, resolvedHeaders);
     }
 
+    private Object resolveBody(Map<String, Object> templateParams) {
+        if (body instanceof EncodedBody) {
+            return body;
+        }
+        if (body instanceof CompiledTemplate template) {
+            return new EncodedBody(template.renderBytes(templateParams));
+        }
+        return ResponseTemplateProcessor.apply(body, templateParams);
+    }
+
+    private Map<String, Object> resolveHeaders(Map<String, Object> templateParams) {
+        Map<String, Object> resolved = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> e : headers.entrySet()) {
+            resolved.put(e.getKey(), resolveHeader(e.getValue(), templateParams));
+        }
+        return resolved;
+    }
+
+    private static Object resolveHeader(Object value, Map<String, Object> templateParams) {
+        if (value instanceof CompiledTemplate template) {
+            return template.render(templateParams);
+        }
+        if (value instanceof TemplatedValues values) {
+            List<Object> rendered = new ArrayList<>(values.elements().size());
+            for (Object element : values.elements()) {
+                rendered.add(resolveHeader(element, templateParams));
+            }
+            return rendered;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return ResponseTemplateProcessor.apply(map, templateParams);
+        }
+        return value;
+    }
+
+    private static boolean isTemplatedHeader(Object value) {
+        return value instanceof CompiledTemplate || value instanceof TemplatedValues || value instanceof Map<?, ?>;
+    }
+
+    private static Map<String, Object> compileHeaders(Map<String, Object> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Object> compiled = new HashMap<>();
+        for (Map.Entry<String, Object> e : headers.entrySet()) {
+            compiled.put(e.getKey(), compileHeader(e.getValue()));
+        }
+        return Map.copyOf(compiled);
+    }
+
+    private static Object compileHeader(Object value) {
+        if (value instanceof String s) {
+            return ResponseTemplateProcessor.hasPlaceholders(s) ? CompiledTemplate.compile(s) : s;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> elements = new ArrayList<>(list.size());
+            boolean templated = false;
+            for (Object element : list) {
+                Object compiledElement = compileHeader(element);
+                templated |= isTemplatedHeader(compiledElement);
+                elements.add(compiledElement);
+            }
+            return templated ? new TemplatedValues(Collections.unmodifiableList(elements)) : value;
+        }
+        return value;
+    }
+
+    /**
+     * Multi-value header with at least one templated element; rendered back to a List per request.
+     */
+    private record TemplatedValues(List<Object> elements) {
+    }
+
     @SuppressWarnings("unchecked")
     private static Map<String, Object> extractQueryParams(GenericRequest request) {
         Object queryObj = request.metadata("query");
@@ -1,15 +1,25 @@
 package com.mockavior.behavior.delay;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class DelaySpec {
 
     private final Duration fixed;
     private final RandomDelay random;
 
+    // further random parts, each drawn `count` times; only set by plus() / times()
+    private final List<Draws> draws;
+
     public DelaySpec(Duration fixed, RandomDelay random) {
+        this(fixed, random, List.of());
+    }
+
+    private DelaySpec(Duration fixed, RandomDelay random, List<Draws> draws) {
         this.fixed = fixed;
         this.random = random;
+        this.draws = draws;
     }
 
     public Duration resolve() {
@@ -23,14 +33,80 @@ public final class DelaySpec {
             result = result.plus(random.next());
         }
 
+        for (Draws d : draws) {
+            for (long i = 0; i < d.count(); i++) {
+                result = result.plus(d.delay().next());
+            }
+        }
+
         return result;
     }
 
+    /**
+     * @return true if resolve() always returns zero
+     */
+    public boolean isZero() {
+        return (fixed == null || fixed.isZero()) && random == null && draws.isEmpty();
+    }
+
+    /**
+     * Wait of this delay followed by {@code other}: fixed parts add up, random parts are still
+     * drawn one by one on every resolve().
+     */
+    public DelaySpec plus(DelaySpec other) {
+        if (other.isZero()) {
+            return this;
+        }
+        if (isZero()) {
+            return other;
+        }
+
+        List<Draws> combined = new ArrayList<>(randomParts());
+        combined.addAll(other.randomParts());
+        return new DelaySpec(fixedOrZero().plus(other.fixedOrZero()), null, List.copyOf(combined));
+    }
+
+    /**
+     * {@code n} consecutive waits of this delay.
+     */
+    public DelaySpec times(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        if (n == 1 || isZero()) {
+            return this;
+        }
+
+        List<Draws> repeated = new ArrayList<>();
+        for (Draws d : randomParts()) {
+            repeated.add(new Draws(d.delay(), d.count() * n));
+        }
+        return new DelaySpec(fixedOrZero().multipliedBy(n), null, List.copyOf(repeated));
+    }
+
+    private Duration fixedOrZero() {
+        return fixed == null ? Duration.ZERO : fixed;
+    }
+
+    private List<Draws> randomParts() {
+        if (random == null) {
+            return draws;
+        }
+        List<Draws> parts = new ArrayList<>(draws.size() + 1);
+        parts.add(new Draws(random, 1));
+        parts.addAll(draws);
+        return parts;
+    }
+
+    private record Draws(RandomDelay delay, long count) {
+    }
+
     @Override
     public String toString() {
         return "DelaySpec{" +
                 "fixed=" + fixed +
                 ", random=" + random +
+                (draws.isEmpty() ? "" : ", draws=" + draws) +
                 '}';
     }
-}
\ No newline at end of file
+}
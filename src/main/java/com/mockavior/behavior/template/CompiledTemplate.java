@@ -0,0 +1,172 @@
+package com.mockavior.behavior.template;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Template pre-parsed into literal chunks and {param} slots.
+ * Example:
+ *   {"id": "{id}", "owner": "{id}"}  ->  [ {"id": " ][ id ][ ", "owner": " ][ id ][ "} ]
+ * Design notes:
+ * - Compiled once (contract compile time), immutable and thread-safe
+ * - Literal chunks are kept pre-encoded as UTF-8; only param values are encoded per render
+ * - Rendering is a single pass into an exactly-sized array: no intermediate Strings,
+ *   no "{" + key + "}" concatenation, each distinct param encoded once
+ * - Missing parameters are not replaced ({name} is kept as-is)
+ * - Param values are never re-scanned, so a value containing {other} stays literal
+ */
+public final class CompiledTemplate {
+
+    static final Pattern PLACEHOLDER =
+            Pattern.compile("\\{([^{}\"\\s]+)}");
+
+    private final String source;
+
+    // segments: literal bytes, or slot (index into paramNames) when literal == null
+    private final byte[][] literals;
+    private final int[] slots;
+    private final String[] paramNames;
+    private final byte[][] rawPlaceholders;
+    private final int literalBytes;
+
+    private CompiledTemplate(
+            String source,
+            byte[][] literals,
+            int[] slots,
+            String[] paramNames,
+            byte[][] rawPlaceholders,
+            int literalBytes
+    ) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.paramNames = paramNames;
+        this.rawPlaceholders = rawPlaceholders;
+        this.literalBytes = literalBytes;
+    }
+
+    public static CompiledTemplate compile(String text) {
+        Matcher matcher = PLACEHOLDER.matcher(text);
+
+        List<byte[]> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        Map<String, Integer> names = new LinkedHashMap<>();
+
+        int literalBytes = 0;
+        int lastEnd = 0;
+
+        while (matcher.find()) {
+            if (matcher.start() > lastEnd) {
+                byte[] chunk = text.substring(lastEnd, matcher.start()).getBytes(StandardCharsets.UTF_8);
+                literals.add(chunk);
+                slots.add(-1);
+                literalBytes += chunk.length;
+            }
+
+            int nameIndex = names.computeIfAbsent(matcher.group(1), n -> names.size());
+            literals.add(null);
+            slots.add(nameIndex);
+
+            lastEnd = matcher.end();
+        }
+
+        if (lastEnd < text.length()) {
+            byte[] chunk = text.substring(lastEnd).getBytes(StandardCharsets.UTF_8);
+            literals.add(chunk);
+            slots.add(-1);
+            literalBytes += chunk.length;
+        }
+
+        String[] paramNames = names.keySet().toArray(String[]::new);
+        byte[][] raw = new byte[paramNames.length][];
+        for (int i = 0; i < paramNames.length; i++) {
+            raw[i] = ("{" + paramNames[i] + "}").getBytes(StandardCharsets.UTF_8);
+        }
+
+        return new CompiledTemplate(
+                text,
+                literals.toArray(byte[][]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                paramNames,
+                raw,
+                literalBytes
+        );
+    }
+
+    /**
+     * @return true if template has no {param} slots
+     */
+    public boolean isStatic() {
+        return paramNames.length == 0;
+    }
+
+    public Set<String> paramNames() {
+        return Set.of(paramNames);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Renders template as UTF-8 bytes.
+     */
+    public byte[] renderBytes(Map<String, ?> params) {
+        byte[][] values = resolveValues(params);
+
+        int size = literalBytes;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] >= 0) {
+                size += values[slots[i]].length;
+            }
+        }
+
+        byte[] out = new byte[size];
+        int pos = 0;
+        for (int i = 0; i < slots.length; i++) {
+            byte[] chunk = slots[i] >= 0 ? values[slots[i]] : literals[i];
+            System.arraycopy(chunk, 0, out, pos, chunk.length);
+            pos += chunk.length;
+        }
+        return out;
+    }
+
+    /**
+     * Renders template as String (used for short values such as headers).
+     */
+    public String render(Map<String, ?> params) {
+        if (isStatic()) {
+            return source;
+        }
+        return new String(renderBytes(params), StandardCharsets.UTF_8);
+    }
+
+    private byte[][] resolveValues(Map<String, ?> params) {
+        byte[][] values = new byte[paramNames.length][];
+        for (int i = 0; i < paramNames.length; i++) {
+            String name = paramNames[i];
+            Object value = params == null ? null : params.get(name);
+
+            if (value == null && (params == null || !params.containsKey(name))) {
+                values[i] = rawPlaceholders[i];
+            } else {
+                values[i] = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledTemplate{" +
+                "params=" + List.of(paramNames) +
+                ", literalBytes=" + literalBytes +
+                '}';
+    }
+}
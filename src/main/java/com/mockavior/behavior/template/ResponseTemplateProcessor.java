@@ -18,6 +18,11 @@ import java.util.Map;
  * Unsupported types are returned as-is.
  *
  * Missing parameters are not replaced.
+ *
+ * Placeholder syntax: {name}, where name has no braces, quotes or whitespace.
+ * This keeps plain JSON objects ({"id": 1}) from being mistaken for placeholders.
+ *
+ * Hot path (mock bodies/headers) uses templates pre-compiled at contract load, see CompiledTemplate.
  */
 @Slf4j
 public final class ResponseTemplateProcessor {
@@ -25,6 +30,13 @@ public final class ResponseTemplateProcessor {
     private ResponseTemplateProcessor() {
     }
 
+    /**
+     * @return true if text contains at least one {name} token that a request param could replace
+     */
+    public static boolean hasPlaceholders(String text) {
+        return text != null && CompiledTemplate.PLACEHOLDER.matcher(text).find();
+    }
+
     public static Object apply(Object body, Map<String, ?> params) {
         if (body == null || params == null  || params.isEmpty()) {
             log.trace("Template processing skipped (body={}, paramsEmpty={})",
@@ -57,14 +69,10 @@ public final class ResponseTemplateProcessor {
     }
 
     private static String applyToString(String s, Map<String, ?> params) {
-        String result = s;
-        for (Map.Entry<String, ?> e : params.entrySet()) {
-            result = result.replace(
-                    "{" + e.getKey() + "}",
-                    String.valueOf(e.getValue())
-            );
+        if (!hasPlaceholders(s)) {
+            return s;
         }
-        return result;
+        return CompiledTemplate.compile(s).render(params);
     }
 
     private static Map<String, Object> applyToMap(
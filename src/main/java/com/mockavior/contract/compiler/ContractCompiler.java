@@ -2,10 +2,13 @@ package com.mockavior.contract.compiler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mockavior.behavior.Behavior;
+import com.mockavior.behavior.EncodedBody;
 import com.mockavior.behavior.ErrorBehavior;
 import com.mockavior.behavior.MockBehavior;
 import com.mockavior.behavior.ProxyBehavior;
 import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.behavior.template.CompiledTemplate;
+import com.mockavior.behavior.template.ResponseTemplateProcessor;
 import com.mockavior.contract.model.CompiledContract;
 import com.mockavior.contract.model.Mode;
 import com.mockavior.contract.model.RawContract;
@@ -22,6 +25,7 @@ import com.mockavior.kafka.model.KafkaScenario;
 import com.mockavior.routing.DefaultRouter;
 import com.mockavior.routing.Route;
 import com.mockavior.routing.Router;
+import com.mockavior.routing.RoutingMetrics;
 import com.mockavior.routing.when.WhenCondition;
 import com.mockavior.transport.http.HttpMethod;
 import com.mockavior.transport.http.HttpRouteMatcher;
@@ -43,10 +47,20 @@ public final class ContractCompiler {
     private final Clock clock;
     private final KafkaScenarioCompiler kafkaScenarioCompiler;
     private final BodyResolver bodyResolver;
+    private final RoutingMetrics routingMetrics;
 
     public ContractCompiler(Clock clock, KafkaScenarioCompiler kafkaScenarioCompiler,  ObjectMapper objectMapper,
                             Path workspaceRoot) {
+        this(clock, kafkaScenarioCompiler, objectMapper, workspaceRoot, RoutingMetrics.NOOP);
+    }
+
+    /**
+     * @param routingMetrics lookup counters of every router compiled by this compiler
+     */
+    public ContractCompiler(Clock clock, KafkaScenarioCompiler kafkaScenarioCompiler, ObjectMapper objectMapper,
+                            Path workspaceRoot, RoutingMetrics routingMetrics) {
         this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.routingMetrics = Objects.requireNonNull(routingMetrics, "routingMetrics must not be null");
         this.kafkaScenarioCompiler = kafkaScenarioCompiler;
         this.bodyResolver = new BodyResolver(
                 Objects.requireNonNull(objectMapper, "objectMapper must not be null"),
@@ -104,9 +118,10 @@ public final class ContractCompiler {
                 }
             }
 
-            Router router = new DefaultRouter(routes);
+            Router router = new DefaultRouter(routes, routingMetrics);
 
             Map<String, KafkaScenario> kafkaScenarios = Map.of();
+            Map<String, Integer> kafkaPartitions = Map.of();
 
             if (raw.kafka() != null) {
                 log.info(
@@ -115,6 +130,7 @@ public final class ContractCompiler {
                 );
 
                 kafkaScenarios = kafkaScenarioCompiler.compileAll(raw.kafka());
+                kafkaPartitions = raw.kafka().partitions();
             }
 
 
@@ -127,7 +143,8 @@ public final class ContractCompiler {
                     router,
                     snapshotSettings,
                     routeDelays,
-                    kafkaScenarios
+                    kafkaScenarios,
+                    kafkaPartitions
             );
 
             Behavior fallbackBehavior = resolveFallback(snapshotSettings);
@@ -160,7 +177,20 @@ public final class ContractCompiler {
         return switch (r.type().toLowerCase()) {
             case "mock" -> {
                 ResolvedBody resolvedBody = bodyResolver.resolve(r.body(), r.bodyFile());
-                Object bodyForBehavior = resolvedBody.asString();
+                String bodyText = resolvedBody.asString();
+
+                // Static body (no {placeholders}, or binary): keep the exact resolved bytes, encoded once
+                // Templated body: pre-parse into literal chunks + param slots
+                Object bodyForBehavior = ResponseTemplateProcessor.hasPlaceholders(bodyText) && resolvedBody.isUtf8()
+                        ? CompiledTemplate.compile(bodyText)
+                        : new EncodedBody(resolvedBody.bytes());
+
+                log.debug(
+                        "Mock body resolved: source={}, bytes={}, static={}",
+                        resolvedBody.source(),
+                        resolvedBody.bytes().length,
+                        bodyForBehavior instanceof EncodedBody
+                );
 
                 yield new MockBehavior(bodyForBehavior, r.status(), r.headers());
             }
@@ -10,10 +10,16 @@ public final class RawWhen {
 
     private final Map<String, Object> query;
     private final Map<String, Object> headers;
+    private final Map<String, Object> body;
 
     public RawWhen(Map<String, Object> query, Map<String, Object> headers) {
+        this(query, headers, Map.of());
+    }
+
+    public RawWhen(Map<String, Object> query, Map<String, Object> headers, Map<String, Object> body) {
         this.query = query == null ? Map.of() : Map.copyOf(query);
         this.headers = headers == null ? Map.of() : Map.copyOf(headers);
+        this.body = body == null ? Map.of() : Map.copyOf(body);
     }
 
     public Map<String, Object> query() {
@@ -24,6 +30,13 @@ public final class RawWhen {
         return headers;
     }
 
+    /**
+     * JSON pointer / JSONPath -> rule.
+     */
+    public Map<String, Object> body() {
+        return body;
+    }
+
     @SuppressWarnings("unchecked")
     public static RawWhen fromMap(Map<String, Object> data) {
 
@@ -33,13 +46,15 @@ public final class RawWhen {
 
         Map<String, Object> query = extractMap(data.get("query"));
         Map<String, Object> headers = extractMap(data.get("headers"));
+        Map<String, Object> body = extractMap(data.get("body"));
 
         if (log.isTraceEnabled()) {
             log.trace("Parsed when.query={}", query);
             log.trace("Parsed when.headers={}", headers);
+            log.trace("Parsed when.body={}", body);
         }
 
-        return new RawWhen(query, headers);
+        return new RawWhen(query, headers, body);
     }
 
     private static Map<String, Object> extractMap(Object value) {
@@ -1,5 +1,7 @@
 package com.mockavior.contract.payload;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
@@ -17,6 +19,18 @@ public record ResolvedBody(
         return new String(bytes, StandardCharsets.UTF_8);
     }
 
+    /**
+     * @return true if the bytes are well-formed UTF-8 text (asString() is lossless)
+     */
+    public boolean isUtf8() {
+        try {
+            StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes));
+            return true;
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,45 @@
+package com.mockavior.core.request;
+
+import java.io.InputStream;
+
+/**
+ * Request body captured as raw bytes and read lazily.
+ * Notes:
+ * - Raw bytes are the source of truth: binary payloads and line endings are preserved
+ * - Nothing is read until bytes()/asString()/stream() is called; a body nobody asks for
+ *   is never read and is discarded by the transport
+ * - bytes() is bounded by a transport-configured max size
+ * - stream() hands the unread body to a pass-through consumer (streaming proxy);
+ *   after that the body can no longer be buffered
+ */
+public interface RequestBody {
+
+    /**
+     * @return declared length in bytes, -1 if unknown (chunked)
+     */
+    long contentLength();
+
+    /**
+     * Reads the whole body (once) and returns it.
+     *
+     * @throws TooLargeException if the body exceeds the configured max size
+     */
+    byte[] bytes();
+
+    /**
+     * Body decoded with the request charset (UTF-8 by default). Decoded once, on first call.
+     */
+    String asString();
+
+    /**
+     * Body as a stream: the buffered bytes if already read, otherwise the raw transport stream.
+     */
+    InputStream stream();
+
+    final class TooLargeException extends RuntimeException {
+
+        public TooLargeException(long maxBytes) {
+            super("Request body exceeds max size of " + maxBytes + " bytes");
+        }
+    }
+}
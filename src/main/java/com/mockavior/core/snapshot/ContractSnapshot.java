@@ -23,7 +23,7 @@ public final class ContractSnapshot {
     private final ContractSnapshot.Settings settings;
     private final Map<String, DelaySpec> routeDelays;
     private final Map<String, KafkaScenario> kafkaScenarios;
-
+    private final Map<String, Integer> kafkaPartitions;
 
     public ContractSnapshot(
             SnapshotVersion version,
@@ -31,7 +31,8 @@ public final class ContractSnapshot {
             Router router,
             ContractSnapshot.Settings settings,
             Map<String, DelaySpec> routeDelays,
-            Map<String, KafkaScenario> kafkaScenarios
+            Map<String, KafkaScenario> kafkaScenarios,
+            Map<String, Integer> kafkaPartitions
     ) {
         this.version = Objects.requireNonNull(version, "version must not be null");
         this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
@@ -40,7 +41,8 @@ public final class ContractSnapshot {
         this.routeDelays = routeDelays == null ? Map.of() : Map.copyOf(routeDelays);
         this.kafkaScenarios =
                 kafkaScenarios == null ? Map.of() : Map.copyOf(kafkaScenarios);
-
+        this.kafkaPartitions =
+                kafkaPartitions == null ? Map.of() : Map.copyOf(kafkaPartitions);
 
     }
 
@@ -73,6 +75,13 @@ public final class ContractSnapshot {
         return kafkaScenarios;
     }
 
+    /**
+     * Partition count of a partitioned topic, 0 if the topic is not partitioned.
+     */
+    public int kafkaPartitions(String topic) {
+        return kafkaPartitions.getOrDefault(topic, 0);
+    }
+
     @Override
     public String toString() {
         return "ContractSnapshot{" +
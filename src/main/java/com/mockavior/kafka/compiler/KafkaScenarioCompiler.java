@@ -3,6 +3,7 @@ package com.mockavior.kafka.compiler;
 import com.mockavior.contract.payload.BodyResolver;
 import com.mockavior.contract.payload.ResolvedBody;
 import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.KafkaPartitions;
 import com.mockavior.kafka.model.KafkaRecord;
 import com.mockavior.kafka.model.KafkaScenario;
 import com.mockavior.kafka.raw.RawKafkaMessage;
@@ -29,22 +30,38 @@ public final class KafkaScenarioCompiler {
     }
 
     public KafkaScenario compile(RawKafkaScenario raw) {
+        return compile(raw, Map.of());
+    }
+
+    /**
+     * @param partitions topic -> partitions for partitioned topics; records of those topics are
+     *                   routed to a partition by key
+     */
+    public KafkaScenario compile(RawKafkaScenario raw, Map<String, Integer> partitions) {
         Objects.requireNonNull(raw, "raw kafkaScenario must not be null");
+        Objects.requireNonNull(partitions, "partitions must not be null");
 
         String scenarioId = raw.getId();
         int scenarioRepeat = raw.getRepeat() != null ? raw.getRepeat() : 1;
 
-        log.debug("Compiling Kafka scenario: id={}, repeat={}, messages={}", scenarioId, scenarioRepeat, raw.getMessages().size());
+        log.debug(
+                "Compiling Kafka scenario: id={}, repeat={}, messages={}, rate={}",
+                scenarioId,
+                scenarioRepeat,
+                raw.getMessages().size(),
+                raw.getRate()
+        );
 
         List<KafkaRecord> records =
                 raw.getMessages().stream()
-                        .map(this::compileMessage)
+                        .map(m -> compileMessage(m, partitions))
                         .toList();
 
         return new KafkaScenario(
                 scenarioId,
                 scenarioRepeat,
-                records
+                records,
+                raw.getRate()
         );
     }
 
@@ -54,7 +71,7 @@ public final class KafkaScenarioCompiler {
         Map<String, KafkaScenario> result = new HashMap<>();
 
         for (RawKafkaScenario rawScenario : section.scenarios()) {
-            KafkaScenario scenario = compile(rawScenario);
+            KafkaScenario scenario = compile(rawScenario, section.partitions());
 
             if (result.containsKey(scenario.id())) {
                 throw new IllegalArgumentException(
@@ -71,7 +88,7 @@ public final class KafkaScenarioCompiler {
         return Map.copyOf(result);
     }
 
-    private KafkaRecord compileMessage(RawKafkaMessage raw) {
+    private KafkaRecord compileMessage(RawKafkaMessage raw, Map<String, Integer> partitions) {
 
         if (raw.topic == null || raw.topic.isBlank()) {
             throw new IllegalArgumentException("kafkaScenario.messages[].topic must not be empty");
@@ -93,6 +110,11 @@ public final class KafkaScenarioCompiler {
                 raw.delay
         );
 
-        return new KafkaRecord(raw.topic, message);
+        Integer topicPartitions = partitions.get(raw.topic);
+        Integer partition = topicPartitions == null
+                ? null
+                : KafkaPartitions.partitionFor(raw.getKey(), topicPartitions);
+
+        return new KafkaRecord(raw.topic, message, partition);
     }
 }
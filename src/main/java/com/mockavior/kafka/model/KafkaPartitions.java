@@ -0,0 +1,85 @@
+package com.mockavior.kafka.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Partitioning rules for topics declared with {@code partitions} in the kafka section.
+ * Design notes:
+ * - A partition is stored as its own store topic {@code <topic>#<partition>}, so every store
+ *   implementation gets per-partition queues without knowing about partitions
+ * - Keys are routed like Kafka's default partitioner (murmur2 of the UTF-8 key, positive, mod partitions),
+ *   so a consumer computing the partition of a key gets the same answer as with real Kafka
+ * - Stateless, thread-safe.
+ */
+public final class KafkaPartitions {
+
+    public static final char SEPARATOR = '#';
+
+    private KafkaPartitions() {
+    }
+
+    /**
+     * Store topic of one partition.
+     */
+    public static String storeTopic(String topic, int partition) {
+        Objects.requireNonNull(topic, "topic must not be null");
+        if (partition < 0) {
+            throw new IllegalArgumentException("partition must be >= 0: " + partition);
+        }
+        return topic + SEPARATOR + partition;
+    }
+
+    /**
+     * Partition of {@code key} in a topic with {@code partitions} partitions.
+     */
+    public static int partitionFor(String key, int partitions) {
+        Objects.requireNonNull(key, "key must not be null");
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions must be >= 1: " + partitions);
+        }
+        return (murmur2(key.getBytes(StandardCharsets.UTF_8)) & 0x7fffffff) % partitions;
+    }
+
+    // same as org.apache.kafka.common.utils.Utils#murmur2
+    static int murmur2(byte[] data) {
+        int length = data.length;
+        int seed = 0x9747b28c;
+        int m = 0x5bd1e995;
+        int r = 24;
+
+        int h = seed ^ length;
+        int length4 = length / 4;
+
+        for (int i = 0; i < length4; i++) {
+            int i4 = i * 4;
+            int k = (data[i4] & 0xff)
+                    + ((data[i4 + 1] & 0xff) << 8)
+                    + ((data[i4 + 2] & 0xff) << 16)
+                    + ((data[i4 + 3] & 0xff) << 24);
+            k *= m;
+            k ^= k >>> r;
+            k *= m;
+            h *= m;
+            h ^= k;
+        }
+
+        switch (length % 4) {
+            case 3:
+                h ^= (data[(length & ~3) + 2] & 0xff) << 16;
+            case 2:
+                h ^= (data[(length & ~3) + 1] & 0xff) << 8;
+            case 1:
+                h ^= data[length & ~3] & 0xff;
+                h *= m;
+            default:
+                break;
+        }
+
+        h ^= h >>> 13;
+        h *= m;
+        h ^= h >>> 15;
+
+        return h;
+    }
+}
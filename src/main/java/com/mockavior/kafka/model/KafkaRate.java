@@ -0,0 +1,92 @@
+package com.mockavior.kafka.model;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Scenario-level emission rate (messages per second over time since start).
+ * Profiles:
+ * - CONSTANT: perSecond
+ * - RAMP: linear from {@code from} to perSecond over rampUp, then perSecond
+ * - BURST: perSecond, raised to burstPerSecond for burstFor at the start of every burstEvery
+ * Durations are relative to execution start. Immutable.
+ */
+public record KafkaRate(
+        Profile profile,
+        double perSecond,
+        double from,
+        Duration rampUp,
+        double burstPerSecond,
+        Duration burstEvery,
+        Duration burstFor
+) {
+
+    public enum Profile {
+        CONSTANT,
+        RAMP,
+        BURST
+    }
+
+    public KafkaRate {
+        Objects.requireNonNull(profile, "rate.profile must not be null");
+
+        if (!(perSecond > 0)) {
+            throw new IllegalArgumentException("rate.perSecond must be > 0");
+        }
+
+        switch (profile) {
+            case CONSTANT -> {
+            }
+            case RAMP -> {
+                Objects.requireNonNull(rampUp, "rate.rampUp must be set for profile ramp");
+                if (from < 0) {
+                    throw new IllegalArgumentException("rate.from must be >= 0");
+                }
+                if (rampUp.isNegative() || rampUp.isZero()) {
+                    throw new IllegalArgumentException("rate.rampUp must be > 0");
+                }
+            }
+            case BURST -> {
+                Objects.requireNonNull(burstEvery, "rate.burstEvery must be set for profile burst");
+                Objects.requireNonNull(burstFor, "rate.burstFor must be set for profile burst");
+                if (!(burstPerSecond > 0)) {
+                    throw new IllegalArgumentException("rate.burstPerSecond must be > 0");
+                }
+                if (burstFor.isNegative() || burstFor.isZero() || burstFor.compareTo(burstEvery) >= 0) {
+                    throw new IllegalArgumentException("rate.burstFor must be > 0 and < rate.burstEvery");
+                }
+            }
+        }
+    }
+
+    public static KafkaRate constant(double perSecond) {
+        return new KafkaRate(Profile.CONSTANT, perSecond, 0, null, 0, null, null);
+    }
+
+    public static KafkaRate ramp(double from, double to, Duration rampUp) {
+        return new KafkaRate(Profile.RAMP, to, from, rampUp, 0, null, null);
+    }
+
+    public static KafkaRate burst(double perSecond, double burstPerSecond, Duration burstEvery, Duration burstFor) {
+        return new KafkaRate(Profile.BURST, perSecond, 0, null, burstPerSecond, burstEvery, burstFor);
+    }
+
+    /**
+     * Target rate (messages per second) at {@code elapsedNanos} since execution start.
+     */
+    public double perSecondAt(long elapsedNanos) {
+        return switch (profile) {
+            case CONSTANT -> perSecond;
+            case RAMP -> {
+                long rampNanos = rampUp.toNanos();
+                if (elapsedNanos >= rampNanos) {
+                    yield perSecond;
+                }
+                yield from + (perSecond - from) * ((double) elapsedNanos / rampNanos);
+            }
+            case BURST -> elapsedNanos % burstEvery.toNanos() < burstFor.toNanos()
+                    ? burstPerSecond
+                    : perSecond;
+        };
+    }
+}
@@ -1,6 +1,23 @@
 package com.mockavior.kafka.model;
 
+/**
+ * Scenario record: message plus its target topic and, for partitioned topics,
+ * the partition its key routes to (null = topic is not partitioned).
+ */
 public record KafkaRecord(
         String topic,
-        KafkaMessage message
-) {}
+        KafkaMessage message,
+        Integer partition
+) {
+
+    public KafkaRecord(String topic, KafkaMessage message) {
+        this(topic, message, null);
+    }
+
+    /**
+     * Store topic the record is published to.
+     */
+    public String storeTopic() {
+        return partition == null ? topic : KafkaPartitions.storeTopic(topic, partition);
+    }
+}
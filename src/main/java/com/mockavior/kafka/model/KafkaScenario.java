@@ -6,11 +6,14 @@ import java.util.Objects;
 /**
  * Immutable compiled Kafka scenario.
  * Defines how Kafka messages should be produced during emulation.
+ * With a {@code rate}, emission is paced by the rate and message delays are ignored;
+ * without it (null), each message waits for its own delay.
  */
 public record KafkaScenario(
         String id,
         int repeat,
-        List<KafkaRecord> records
+        List<KafkaRecord> records,
+        KafkaRate rate
 ) {
 
     public KafkaScenario {
@@ -31,4 +34,11 @@ public record KafkaScenario(
 
         records = List.copyOf(records);
     }
+
+    /**
+     * Scenario without a rate (delays only).
+     */
+    public KafkaScenario(String id, int repeat, List<KafkaRecord> records) {
+        this(id, repeat, records, null);
+    }
 }
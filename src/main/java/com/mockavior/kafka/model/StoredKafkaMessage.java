@@ -0,0 +1,21 @@
+package com.mockavior.kafka.model;
+
+import java.util.Objects;
+
+/**
+ * Message as stored in a topic, with its offset.
+ * Offsets are per topic, start at 0 and only grow (take/clear/retention never reuse them).
+ */
+public record StoredKafkaMessage(
+        long offset,
+        KafkaMessage message
+) {
+
+    public StoredKafkaMessage {
+        Objects.requireNonNull(message, "message must not be null");
+
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must be >= 0");
+        }
+    }
+}
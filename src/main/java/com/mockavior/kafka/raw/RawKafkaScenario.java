@@ -1,8 +1,11 @@
 package com.mockavior.kafka.raw;
 
+import com.mockavior.kafka.model.KafkaRate;
 import lombok.Getter;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
@@ -16,15 +19,26 @@ public final class RawKafkaScenario {
     private final String id;
     private final Integer repeat;
     private final List<RawKafkaMessage> messages;
+    private final KafkaRate rate;
 
     public RawKafkaScenario(
             String id,
             Integer repeat,
             List<RawKafkaMessage> messages
+    ) {
+        this(id, repeat, messages, null);
+    }
+
+    public RawKafkaScenario(
+            String id,
+            Integer repeat,
+            List<RawKafkaMessage> messages,
+            KafkaRate rate
     ) {
         this.id = id;
         this.repeat = repeat;
         this.messages = messages;
+        this.rate = rate;
     }
 
     @SuppressWarnings("unchecked")
@@ -56,6 +70,75 @@ public final class RawKafkaScenario {
                         .map(e -> RawKafkaMessage.fromMap((Map<String, Object>) e))
                         .toList();
 
-        return new RawKafkaScenario(id, repeat, messages);
+        KafkaRate rate = parseRate(map.get("rate"));
+
+        return new RawKafkaScenario(id, repeat, messages, rate);
+    }
+
+    /**
+     * rate:
+     *   profile: constant | ramp | burst   (default constant)
+     *   perSecond: 100                     (constant rate, ramp target, burst base rate)
+     *   from: 0                            (ramp start rate)
+     *   rampUp: 10000                      (ramp duration, ms)
+     *   burstPerSecond: 1000               (burst rate)
+     *   burstEvery: 10000                  (burst period, ms)
+     *   burstFor: 1000                     (burst length, ms)
+     */
+    private static KafkaRate parseRate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Map<?, ?> map)) {
+            throw new IllegalArgumentException("kafkaScenario.rate must be a map");
+        }
+
+        Object profileRaw = map.get("profile");
+        if (profileRaw != null && !(profileRaw instanceof String)) {
+            throw new IllegalArgumentException("kafkaScenario.rate.profile must be a string");
+        }
+
+        KafkaRate.Profile profile;
+        try {
+            profile = profileRaw == null
+                    ? KafkaRate.Profile.CONSTANT
+                    : KafkaRate.Profile.valueOf(((String) profileRaw).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Unsupported kafkaScenario.rate.profile: " + profileRaw + " (constant | ramp | burst)"
+            );
+        }
+
+        return new KafkaRate(
+                profile,
+                number(map, "perSecond", 0),
+                number(map, "from", 0),
+                millis(map, "rampUp"),
+                number(map, "burstPerSecond", 0),
+                millis(map, "burstEvery"),
+                millis(map, "burstFor")
+        );
+    }
+
+    private static double number(Map<?, ?> map, String field, double defaultValue) {
+        Object value = map.get(field);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof Number n)) {
+            throw new IllegalArgumentException("kafkaScenario.rate." + field + " must be a number");
+        }
+        return n.doubleValue();
+    }
+
+    private static Duration millis(Map<?, ?> map, String field) {
+        Object value = map.get(field);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Number n)) {
+            throw new IllegalArgumentException("kafkaScenario.rate." + field + " must be a number of milliseconds");
+        }
+        return Duration.ofMillis(n.longValue());
     }
 }
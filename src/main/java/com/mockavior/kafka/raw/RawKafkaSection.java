@@ -1,5 +1,6 @@
 package com.mockavior.kafka.raw;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -7,12 +8,16 @@ public final class RawKafkaSection {
 
     public final List<RawKafkaScenario> scenarios;
 
+    // topic -> partitions, only for topics declared under kafka.topics
+    public final Map<String, Integer> partitions;
 
-    private RawKafkaSection(List<RawKafkaScenario> scenarios) {
+
+    private RawKafkaSection(List<RawKafkaScenario> scenarios, Map<String, Integer> partitions) {
         if (scenarios == null || scenarios.isEmpty()) {
             throw new IllegalArgumentException("kafka.scenarios must not be empty");
         }
         this.scenarios = List.copyOf(scenarios);
+        this.partitions = Map.copyOf(partitions);
     }
 
     @SuppressWarnings("unchecked")
@@ -28,10 +33,53 @@ public final class RawKafkaSection {
                         .map(e -> RawKafkaScenario.fromMap((Map<String, Object>) e))
                         .toList();
 
-        return new RawKafkaSection(scenarios);
+        return new RawKafkaSection(scenarios, parsePartitions(map.get("topics")));
+    }
+
+    /**
+     * topics:
+     *   orders:
+     *     partitions: 4
+     */
+    private static Map<String, Integer> parsePartitions(Object topicsObj) {
+        if (topicsObj == null) {
+            return Map.of();
+        }
+        if (!(topicsObj instanceof Map<?, ?> topics)) {
+            throw new IllegalArgumentException("kafka.topics must be a map of topic -> settings");
+        }
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+
+        for (Map.Entry<?, ?> e : topics.entrySet()) {
+            String topic = String.valueOf(e.getKey());
+
+            if (topic.isBlank() || topic.indexOf('#') >= 0) {
+                throw new IllegalArgumentException("kafka.topics: invalid topic name '" + topic + "'");
+            }
+            if (!(e.getValue() instanceof Map<?, ?> settings)) {
+                throw new IllegalArgumentException("kafka.topics." + topic + " must be a map");
+            }
+
+            Object partitions = settings.get("partitions");
+            if (partitions == null) {
+                continue;
+            }
+            if (!(partitions instanceof Integer n) || n <= 0) {
+                throw new IllegalArgumentException("kafka.topics." + topic + ".partitions must be an integer >= 1");
+            }
+
+            result.put(topic, n);
+        }
+
+        return result;
     }
 
     public List<RawKafkaScenario> scenarios() {
         return scenarios;
     }
+
+    public Map<String, Integer> partitions() {
+        return partitions;
+    }
 }
@@ -0,0 +1,131 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consumer-group offsets on top of InMemoryKafkaStore.
+ * Responsibilities:
+ * - Track the committed offset per (group, topic)
+ * - Serve batches starting at the committed offset (auto-commit on poll)
+ * - Explicit commit / seek
+ * Design notes:
+ * - Groups never copy or remove messages: every group reads the same store by offset range
+ * - A committed offset is the next offset to deliver (Kafka semantics)
+ * - Offsets dropped by take/clear/retention are skipped: reading starts at max(committed, startOffset)
+ * - Concurrent polls in one group never get the same message: the batch is only returned
+ *   if the committed offset is advanced with CAS, otherwise the read is retried
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public final class ConsumerGroupOffsets {
+
+    /**
+     * One poll result.
+     *
+     * @param fromOffset first offset that was considered
+     * @param nextOffset committed offset after the poll
+     */
+    public record Batch(
+            String group,
+            String topic,
+            long fromOffset,
+            long nextOffset,
+            List<StoredKafkaMessage> messages
+    ) {
+    }
+
+    @NonNull
+    private final InMemoryKafkaStore store;
+
+    private final Map<GroupTopic, AtomicLong> committed = new ConcurrentHashMap<>();
+
+    /**
+     * Reads up to {@code maxMessages} from the group's committed offset and commits past them.
+     */
+    public Batch poll(String group, String topic, int maxMessages) {
+        Objects.requireNonNull(group, "group must not be null");
+        Objects.requireNonNull(topic, "topic must not be null");
+        if (maxMessages <= 0) {
+            throw new IllegalArgumentException("maxMessages must be positive: " + maxMessages);
+        }
+
+        AtomicLong position = committed.computeIfAbsent(new GroupTopic(group, topic), k -> new AtomicLong());
+
+        while (true) {
+            long current = position.get();
+            long from = Math.max(current, store.startOffset(topic));
+
+            List<StoredKafkaMessage> messages = store.read(topic, from, maxMessages);
+            long next = messages.isEmpty()
+                    ? from
+                    : messages.get(messages.size() - 1).offset() + 1;
+
+            if (position.compareAndSet(current, next)) {
+                log.debug(
+                        "Consumer group poll: group={}, topic={}, fromOffset={}, nextOffset={}, messages={}",
+                        group,
+                        topic,
+                        from,
+                        next,
+                        messages.size()
+                );
+                return new Batch(group, topic, from, next, messages);
+            }
+            // another consumer of the same group (or a commit) won: read again from its position
+        }
+    }
+
+    /**
+     * Sets the group's committed offset (next offset to deliver); works as seek too.
+     */
+    public void commit(String group, String topic, long offset) {
+        Objects.requireNonNull(group, "group must not be null");
+        Objects.requireNonNull(topic, "topic must not be null");
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative: " + offset);
+        }
+
+        committed.computeIfAbsent(new GroupTopic(group, topic), k -> new AtomicLong()).set(offset);
+
+        log.info("Consumer group commit: group={}, topic={}, offset={}", group, topic, offset);
+    }
+
+    /**
+     * @return committed offset per group for the topic, ordered by group name
+     */
+    public Map<String, Long> committedOffsets(String topic) {
+        Objects.requireNonNull(topic, "topic must not be null");
+
+        Map<String, Long> result = new TreeMap<>();
+        committed.forEach((key, position) -> {
+            if (key.topic().equals(topic)) {
+                result.put(key.group(), position.get());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return messages still to be delivered to the group (ignores offsets already removed from the store)
+     */
+    public long lag(String group, String topic) {
+        AtomicLong position = committed.get(new GroupTopic(group, topic));
+        long from = Math.max(position == null ? 0L : position.get(), store.startOffset(topic));
+        return Math.max(0L, store.endOffset(topic) - from);
+    }
+
+    private record GroupTopic(String group, String topic) {
+    }
+}
@@ -1,12 +1,20 @@
 package com.mockavior.kafka.runtime;
 
 import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -16,76 +24,245 @@ import java.util.concurrent.atomic.AtomicLong;
  * - No ordering guarantees across topics
  * - Does NOT interpret repeat/delay — pure storage
  * - peek() provides a snapshot (eventual consistency)
+ * - Messages are kept in a skip list keyed by offset: read(from) seeks to the offset in
+ *   O(log n) instead of scanning from the head, so a group poll costs the same at any depth
+ * - Per-topic retention, enforced on publish (oldest messages are evicted first):
+ *   - more than maxMessages messages
+ *   - more than maxBytes bytes (key chars + value bytes; a payload shared by repeated
+ *     messages is counted for each of them)
+ *   - messages published more than maxAge ago
+ *   A limit of 0 is unlimited; evicted offsets are skipped like taken ones
+ * - Metrics per topic: depth, bytes and oldest message age gauges, evictions by reason
+ * - clear() drops an emptied topic with its meters; only its end offset is kept, so a topic
+ *   published to again continues its offsets (committed group offsets stay valid)
  */
 @Slf4j
-@Component
 public final class DefaultInMemoryKafkaStore implements InMemoryKafkaStore {
 
-    private final Map<String, Queue<KafkaMessage>> topics =
+    /**
+     * Per-topic retention limits (0 = unlimited).
+     */
+    public record Retention(
+            long maxMessages,
+            long maxBytes,
+            Duration maxAge,
+            Clock clock
+    ) {
+
+        public Retention {
+            Objects.requireNonNull(maxAge, "maxAge must not be null");
+            Objects.requireNonNull(clock, "clock must not be null");
+            if (maxMessages < 0) {
+                throw new IllegalArgumentException("maxMessages must be >= 0: " + maxMessages);
+            }
+            if (maxBytes < 0) {
+                throw new IllegalArgumentException("maxBytes must be >= 0: " + maxBytes);
+            }
+            if (maxAge.isNegative()) {
+                throw new IllegalArgumentException("maxAge must be >= 0: " + maxAge);
+            }
+        }
+
+        public static Retention unlimited() {
+            return new Retention(0L, 0L, Duration.ZERO, Clock.systemUTC());
+        }
+
+        long maxAgeMillis() {
+            return maxAge.toMillis();
+        }
+
+        long now() {
+            return clock.millis();
+        }
+    }
+
+    private static final String TOPIC_TAG = "topic";
+
+    private final Retention retention;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Topic> topics =
+            new ConcurrentHashMap<>();
+
+    // end offsets of topics dropped by clear()
+    private final Map<String, Long> clearedOffsets =
             new ConcurrentHashMap<>();
 
+    private final TopicSignals signals = new TopicSignals();
+
     private final AtomicLong published = new AtomicLong();
     private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    /**
+     * Unbounded store reporting to the global registry.
+     */
+    public DefaultInMemoryKafkaStore() {
+        this(Retention.unlimited(), Metrics.globalRegistry);
+    }
+
+    public DefaultInMemoryKafkaStore(Retention retention, MeterRegistry meterRegistry) {
+        this.retention = Objects.requireNonNull(retention, "retention must not be null");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        log.info(
+                "DefaultInMemoryKafkaStore created: maxMessagesPerTopic={}, maxBytesPerTopic={}, maxAge={}",
+                retention.maxMessages(),
+                retention.maxBytes(),
+                retention.maxAge()
+        );
+    }
 
     @Override
     public void publish(String topic, KafkaMessage message) {
         Objects.requireNonNull(topic, "topic must not be null");
         Objects.requireNonNull(message, "message must not be null");
 
-        Queue<KafkaMessage> queue = topics.computeIfAbsent(
-                topic,
-                t -> new ConcurrentLinkedQueue<>()
-        );
-
-        queue.add(message);
+        // a topic dropped by clear() concurrently refuses the append: retry on its successor
+        while (!topics.computeIfAbsent(topic, Topic::new).append(message, retention.now())) {
+            log.trace("KafkaStore topic dropped concurrently, retrying publish: topic={}", topic);
+        }
 
         published.incrementAndGet();
+        signals.signal(topic);
 
         log.debug("KafkaStore publish: topic={}, key={}", topic, message.key());
     }
 
+    @Override
+    public void publishAll(String topic, List<KafkaMessage> messages) {
+        Objects.requireNonNull(topic, "topic must not be null");
+        Objects.requireNonNull(messages, "messages must not be null");
+        if (messages.isEmpty()) {
+            return;
+        }
+        // validate first: a failure half-way would leave an offset gap
+        messages.forEach(m -> Objects.requireNonNull(m, "message must not be null"));
+
+        // a topic dropped by clear() concurrently refuses the append: retry on its successor
+        while (!topics.computeIfAbsent(topic, Topic::new).appendAll(messages, retention.now())) {
+            log.trace("KafkaStore topic dropped concurrently, retrying publish: topic={}", topic);
+        }
+
+        published.addAndGet(messages.size());
+        signals.signal(topic);
+
+        log.debug("KafkaStore publishAll: topic={}, messages={}", topic, messages.size());
+    }
+
     /**
      * Non-destructive read.
      * Returns a snapshot of current messages in topic.
      */
     @Override
     public List<KafkaMessage> peek(String topic) {
-        Queue<KafkaMessage> queue = topics.get(topic);
-        if (queue == null) {
+        Topic t = topics.get(topic);
+        if (t == null) {
             return List.of();
         }
 
-        List<KafkaMessage> snapshot = List.copyOf(queue);
+        List<KafkaMessage> snapshot = t.entries.values().stream()
+                .map(e -> e.stored().message())
+                .toList();
 
         log.debug("KafkaStore PEEK: topic={}, messages={}", topic, snapshot.size());
 
         return snapshot;
     }
 
+    @Override
+    public List<StoredKafkaMessage> read(String topic, long fromOffset, int maxMessages) {
+        Topic t = topics.get(topic);
+        if (t == null || maxMessages <= 0) {
+            return List.of();
+        }
+
+        List<StoredKafkaMessage> result = new ArrayList<>(Math.min(maxMessages, 64));
+        for (Entry entry : t.entries.tailMap(fromOffset).values()) {
+            result.add(entry.stored());
+            if (result.size() >= maxMessages) {
+                break;
+            }
+        }
+
+        log.debug("KafkaStore READ: topic={}, fromOffset={}, messages={}", topic, fromOffset, result.size());
+
+        return result;
+    }
+
+    @Override
+    public long startOffset(String topic) {
+        Topic t = topics.get(topic);
+        if (t == null) {
+            return clearedOffsets.getOrDefault(topic, 0L);
+        }
+        Entry head = t.head();
+        return head == null ? t.nextOffset.get() : head.stored().offset();
+    }
+
+    @Override
+    public long endOffset(String topic) {
+        Topic t = topics.get(topic);
+        return t == null ? clearedOffsets.getOrDefault(topic, 0L) : t.nextOffset.get();
+    }
+
     /**
      * Destructive read.
      */
     @Override
     public Optional<KafkaMessage> take(String topic) {
-        Queue<KafkaMessage> queue = topics.get(topic);
-        if (queue == null) {
+        Topic t = topics.get(topic);
+        if (t == null) {
             return Optional.empty();
         }
 
-        KafkaMessage message = queue.poll();
+        Entry entry = t.poll();
 
-        if (message != null) {
+        if (entry != null) {
             consumed.incrementAndGet();
-            log.debug("KafkaStore TAKE: topic={}, key={}, remaining={}",topic,message.key(),queue.size());
+            log.debug("KafkaStore TAKE: topic={}, key={}, offset={}", topic, entry.stored().message().key(), entry.stored().offset());
+        }
+
+        return Optional.ofNullable(entry).map(e -> e.stored().message());
+    }
+
+    @Override
+    public List<StoredKafkaMessage> drain(String topic, int maxMessages) {
+        Topic t = topics.get(topic);
+        if (t == null || maxMessages <= 0) {
+            return List.of();
+        }
+
+        List<StoredKafkaMessage> drained = new ArrayList<>(Math.min(maxMessages, 64));
+        Entry entry;
+        while (drained.size() < maxMessages && (entry = t.poll()) != null) {
+            drained.add(entry.stored());
+        }
+
+        if (!drained.isEmpty()) {
+            consumed.addAndGet(drained.size());
         }
 
-        return Optional.ofNullable(message);
+        log.debug("KafkaStore DRAIN: topic={}, messages={}", topic, drained.size());
+
+        return drained;
     }
 
+    /**
+     * Removes all messages; offsets keep growing from where they were.
+     * The emptied topic and its meters are dropped.
+     */
     @Override
     public void clear(String topic) {
-        Queue<KafkaMessage> queue = topics.remove(topic);
-        int cleared = queue == null ? 0 : queue.size();
+        Topic t = topics.get(topic);
+        int cleared = 0;
+
+        if (t != null) {
+            while (t.poll() != null) {
+                cleared++;
+            }
+            drop(topic, t);
+        }
 
         if (cleared > 0) {
             consumed.addAndGet(cleared);
@@ -94,8 +271,209 @@ public final class DefaultInMemoryKafkaStore implements InMemoryKafkaStore {
         log.info("KafkaStore clear: topic={}, messages={}", topic, cleared);
     }
 
+    /**
+     * Removes topic t if it is still empty; an append racing with it retries on a new Topic.
+     */
+    private void drop(String name, Topic t) {
+        synchronized (t) {
+            if (t.dropped || !t.entries.isEmpty()) {
+                return;
+            }
+            t.dropped = true;
+            clearedOffsets.put(name, t.nextOffset.get());
+            // before the topic leaves the map: a successor registers fresh meters under the same ids,
+            // removing these later would remove the successor's
+            t.meters.forEach(meterRegistry::remove);
+            topics.remove(name, t);
+        }
+
+        log.debug("KafkaStore topic dropped: topic={}, endOffset={}", name, t.nextOffset.get());
+    }
+
+    @Override
+    public PublishWatch onNextPublish(String topic, Runnable listener) {
+        return signals.register(topic, listener);
+    }
+
     public long lag() {
 
-        return published.get() - consumed.get();
+        return published.get() - consumed.get() - evicted.get();
+    }
+
+    /**
+     * @return messages removed by retention, across all topics
+     */
+    public long evicted() {
+        return evicted.get();
+    }
+
+    private static int sizeOf(KafkaMessage message) {
+        int key = message.key() == null ? 0 : message.key().length();
+        return key + message.value().bytes().length;
+    }
+
+    private record Entry(StoredKafkaMessage stored, long timestamp, int bytes) {
+    }
+
+    private final class Topic {
+
+        private final String name;
+        // offset -> entry; appended in offset order under the topic lock, polled from the head
+        private final ConcurrentNavigableMap<Long, Entry> entries = new ConcurrentSkipListMap<>();
+        private final AtomicLong nextOffset;
+
+        // entries.size() is O(n) on a ConcurrentSkipListMap
+        private final AtomicLong depth = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+
+        private final Counter evictedByCount;
+        private final Counter evictedByBytes;
+        private final Counter evictedByAge;
+        private final List<Meter> meters = new ArrayList<>(6);
+
+        // set under the topic lock by drop(); appends are refused afterwards
+        private boolean dropped;
+
+        private Topic(String name) {
+            this.name = name;
+            // kept, not removed: endOffset() reads it until this topic is visible in the map
+            this.nextOffset = new AtomicLong(clearedOffsets.getOrDefault(name, 0L));
+
+            this.evictedByCount = register(evictionCounter(name, "count"));
+            this.evictedByBytes = register(evictionCounter(name, "bytes"));
+            this.evictedByAge = register(evictionCounter(name, "age"));
+
+            register(Gauge.builder("mockavior.kafka.topic.depth", depth, AtomicLong::get)
+                    .description("Messages stored in the topic")
+                    .tag(TOPIC_TAG, name)
+                    .baseUnit("messages")
+                    .register(meterRegistry));
+
+            register(Gauge.builder("mockavior.kafka.topic.bytes", bytes, AtomicLong::get)
+                    .description("Key and value bytes stored in the topic")
+                    .tag(TOPIC_TAG, name)
+                    .baseUnit("bytes")
+                    .register(meterRegistry));
+
+            register(Gauge.builder("mockavior.kafka.topic.oldest.age", this, Topic::oldestAgeSeconds)
+                    .description("Age of the oldest message in the topic (0 if empty)")
+                    .tag(TOPIC_TAG, name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry));
+        }
+
+        private <M extends Meter> M register(M meter) {
+            meters.add(meter);
+            return meter;
+        }
+
+        /**
+         * Offset assignment and insert happen together so offsets are appended in order.
+         *
+         * @return false if the topic was dropped; nothing was appended
+         */
+        synchronized boolean append(KafkaMessage message, long now) {
+            if (dropped) {
+                return false;
+            }
+            add(new Entry(new StoredKafkaMessage(nextOffset.getAndIncrement(), message), now, sizeOf(message)));
+            evict(now);
+            return true;
+        }
+
+        synchronized boolean appendAll(List<KafkaMessage> messages, long now) {
+            if (dropped) {
+                return false;
+            }
+            long offset = nextOffset.getAndAdd(messages.size());
+            for (KafkaMessage message : messages) {
+                add(new Entry(new StoredKafkaMessage(offset++, message), now, sizeOf(message)));
+            }
+            evict(now);
+            return true;
+        }
+
+        /**
+         * Removes the head (take, drain, clear).
+         */
+        Entry poll() {
+            Map.Entry<Long, Entry> first = entries.pollFirstEntry();
+            if (first == null) {
+                return null;
+            }
+            Entry entry = first.getValue();
+            depth.decrementAndGet();
+            bytes.addAndGet(-entry.bytes());
+            return entry;
+        }
+
+        /**
+         * Removes entry if it is still stored (retention): false if take/drain got it first.
+         */
+        boolean remove(Entry entry) {
+            if (!entries.remove(entry.stored().offset(), entry)) {
+                return false;
+            }
+            depth.decrementAndGet();
+            bytes.addAndGet(-entry.bytes());
+            return true;
+        }
+
+        Entry head() {
+            Map.Entry<Long, Entry> first = entries.firstEntry();
+            return first == null ? null : first.getValue();
+        }
+
+        private void add(Entry entry) {
+            entries.put(entry.stored().offset(), entry);
+            depth.incrementAndGet();
+            bytes.addAndGet(entry.bytes());
+        }
+
+        // under the append lock; take/drain may remove the head concurrently: only the head the
+        // limits were checked against is evicted, otherwise the limits are checked again
+        private void evict(long now) {
+            long maxAgeMillis = retention.maxAgeMillis();
+            long expiredBefore = maxAgeMillis > 0 ? now - maxAgeMillis : Long.MIN_VALUE;
+
+            int removed = 0;
+            Entry head;
+            while ((head = head()) != null) {
+                Counter reason;
+                if (retention.maxMessages() > 0 && depth.get() > retention.maxMessages()) {
+                    reason = evictedByCount;
+                } else if (retention.maxBytes() > 0 && bytes.get() > retention.maxBytes()) {
+                    reason = evictedByBytes;
+                } else if (head.timestamp() < expiredBefore) {
+                    reason = evictedByAge;
+                } else {
+                    break;
+                }
+
+                if (remove(head)) {
+                    reason.increment();
+                    removed++;
+                }
+            }
+
+            if (removed > 0) {
+                evicted.addAndGet(removed);
+                log.debug("KafkaStore retention: topic={}, evicted={}, depth={}, bytes={}", name, removed, depth.get(), bytes.get());
+            }
+        }
+
+        private double oldestAgeSeconds() {
+            Entry head = head();
+            return head == null ? 0.0 : Math.max(0L, retention.now() - head.timestamp()) / 1000.0;
+        }
+    }
+
+    private Counter evictionCounter(String topic, String reason) {
+        return Counter.builder("mockavior.kafka.topic.evicted")
+                .description("Messages removed by retention")
+                .tag(TOPIC_TAG, topic)
+                .tag("reason", reason)
+                .baseUnit("messages")
+                .register(meterRegistry);
     }
 }
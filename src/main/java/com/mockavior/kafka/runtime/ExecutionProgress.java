@@ -0,0 +1,28 @@
+package com.mockavior.kafka.runtime;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Point-in-time progress of one scenario execution (see ScenarioExecutionRunner#progress).
+ *
+ * @param emitted         messages published so far by this execution
+ * @param total           messages this execution publishes when it runs to the end
+ *                        (its own partitions only for a shard)
+ * @param elapsed         time since start, frozen when the execution finishes or stops
+ * @param ratePerSecond   achieved rate (1s window) of a rate-paced execution, average since start otherwise
+ * @param targetPerSecond current target rate, null without a scenario rate
+ */
+public record ExecutionProgress(
+        UUID executionId,
+        String scenarioId,
+        ExecutionState state,
+        int shard,
+        int shards,
+        long emitted,
+        long total,
+        Duration elapsed,
+        double ratePerSecond,
+        Double targetPerSecond
+) {
+}
@@ -1,6 +1,7 @@
 package com.mockavior.kafka.runtime;
 
 import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +10,9 @@ import java.util.Optional;
  * In-memory storage for Kafka-like messages.
  * This is NOT a Kafka broker.
  * This is a deterministic event store for testing.
+ * Offsets:
+ * - every published message gets the next offset of its topic (0, 1, 2, ...)
+ * - take/clear/retention move the topic start offset forward, offsets are never reused
  */
 public interface InMemoryKafkaStore {
 
@@ -17,21 +21,64 @@ public interface InMemoryKafkaStore {
      */
     void publish(String topic, KafkaMessage message);
 
+    /**
+     * Append messages to topic in list order, with one topic lookup and one wake-up signal.
+     * Offsets are consecutive unless another publisher interleaves.
+     */
+    void publishAll(String topic, List<KafkaMessage> messages);
+
     /**
      * Read all messages without removing them.
      */
     List<KafkaMessage> peek(String topic);
 
+    /**
+     * Range read by offset (non-destructive).
+     * Offsets below startOffset are skipped (already removed).
+     * Implementations seek to fromOffset: the cost must not grow with the number of messages
+     * stored before it, callers page through a topic by calling read() repeatedly.
+     *
+     * @param fromOffset  first offset to return
+     * @param maxMessages upper bound of returned messages
+     * @return messages in offset order, possibly empty
+     */
+    List<StoredKafkaMessage> read(String topic, long fromOffset, int maxMessages);
+
+    /**
+     * @return offset of the oldest message still stored (== endOffset when topic is empty)
+     */
+    long startOffset(String topic);
+
+    /**
+     * @return offset the next published message will get
+     */
+    long endOffset(String topic);
+
     /**
      * Take (read + remove) first message from topic.
      */
     Optional<KafkaMessage> take(String topic);
 
+    /**
+     * Take (read + remove) up to {@code maxMessages} messages from the head of topic.
+     *
+     * @return removed messages in offset order, possibly empty
+     */
+    List<StoredKafkaMessage> drain(String topic, int maxMessages);
+
     /**
      * Clear all messages for topic.
      */
     void clear(String topic);
 
+    /**
+     * Wake-up signal for long polling: runs {@code listener} once, after the next publish to topic.
+     * Register first, then re-check the store (no lost wake-ups); cancel the returned watch
+     * when no longer waiting. The listener runs on the publishing thread: hand off anything
+     * non-trivial.
+     */
+    PublishWatch onNextPublish(String topic, Runnable listener);
+
     /**
      * @return number of messages published but not yet consumed
      */
@@ -0,0 +1,331 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.contract.payload.BodySourceType;
+import com.mockavior.contract.payload.ResolvedBody;
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped, append-only segment file of a topic log.
+ * Record layout (big-endian):
+ * - int    length       bytes after this field; 0 marks the end of data (file is pre-zeroed)
+ * - int    crc          CRC32C of the bytes after this field
+ * - long   offset
+ * - int    keyLength    -1 for a null key
+ * - byte[] key          UTF-8
+ * - byte   source       BodySourceType ordinal
+ * - int    valueLength
+ * - byte[] value
+ * Design notes:
+ * - The file is sized once and mapped once; append is a few absolute puts into the mapping
+ * - Bytes below {@code size} are immutable: readers use absolute gets and slices without locks,
+ *   {@code size} is published (volatile) after the record is complete
+ * - Sparse index: one offset -> position entry every indexInterval bytes; a lookup seeks to
+ *   the floor entry and scans forward
+ * - Values are interned (PayloadInterner): a repeated payload is not copied out of the mapping
+ * - Appends are serialized by the owning TopicLog
+ */
+@Slf4j
+final class LogSegment {
+
+    private static final String SUFFIX = ".log";
+
+    private static final int LENGTH_FIELD = 4;
+    // crc + offset + keyLength + source + valueLength
+    private static final int FIXED_FIELDS = 4 + 8 + 4 + 1 + 4;
+
+    private static final DelaySpec NO_DELAY = new DelaySpec(null, null);
+    private static final BodySourceType[] SOURCES = BodySourceType.values();
+
+    private final Path file;
+    private final long baseOffset;
+    private final MappedByteBuffer buffer;
+    private final int indexInterval;
+    private final ConcurrentSkipListMap<Long, Integer> index = new ConcurrentSkipListMap<>();
+
+    // committed bytes
+    private volatile int size;
+    // offset after the last record
+    private volatile long nextOffset;
+    private volatile long lastAppendMillis;
+
+    private int bytesSinceIndex;
+
+    private LogSegment(Path file, long baseOffset, MappedByteBuffer buffer, int indexInterval, long lastAppendMillis) {
+        this.file = file;
+        this.baseOffset = baseOffset;
+        this.buffer = buffer;
+        this.indexInterval = indexInterval;
+        this.nextOffset = baseOffset;
+        this.lastAppendMillis = lastAppendMillis;
+    }
+
+    static LogSegment create(Path dir, long baseOffset, int capacity, int indexInterval, long nowMillis)
+            throws IOException {
+        Path file = dir.resolve(fileName(baseOffset));
+
+        try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            log.debug("Log segment created: file={}, capacity={}", file, capacity);
+            return new LogSegment(file, baseOffset, buffer, indexInterval, nowMillis);
+        }
+    }
+
+    /**
+     * Maps an existing segment and recovers size, next offset and index by scanning it.
+     * Scanning stops at the first empty or corrupt record (torn write): appends continue there.
+     */
+    static LogSegment open(Path file, int indexInterval) throws IOException {
+        long baseOffset = baseOffset(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            LogSegment segment = new LogSegment(
+                    file,
+                    baseOffset,
+                    buffer,
+                    indexInterval,
+                    Files.getLastModifiedTime(file).toMillis()
+            );
+            segment.recover();
+            return segment;
+        }
+    }
+
+    static boolean isSegmentFile(Path file) {
+        return file.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    static long baseOffset(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    static int recordSize(byte[] key, KafkaMessage message) {
+        return LENGTH_FIELD + FIXED_FIELDS + (key == null ? 0 : key.length) + message.value().bytes().length;
+    }
+
+    private static String fileName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, SUFFIX);
+    }
+
+    // ------------------------------------------------------------
+    // write (serialized by TopicLog)
+    // ------------------------------------------------------------
+
+    /**
+     * @return false when the record does not fit: the caller rolls a new segment
+     */
+    boolean append(long offset, byte[] key, KafkaMessage message, long nowMillis) {
+        byte[] value = message.value().bytes();
+        int recordSize = recordSize(key, message);
+
+        int position = size;
+        // keep room for the zero length that marks the end of data
+        if (position + recordSize + LENGTH_FIELD > buffer.capacity()) {
+            return false;
+        }
+
+        int p = position + LENGTH_FIELD + 4;
+        buffer.putLong(p, offset);
+        p += 8;
+        if (key == null) {
+            buffer.putInt(p, -1);
+            p += 4;
+        } else {
+            buffer.putInt(p, key.length);
+            p += 4;
+            buffer.put(p, key);
+            p += key.length;
+        }
+        buffer.put(p, (byte) message.value().source().ordinal());
+        p += 1;
+        buffer.putInt(p, value.length);
+        p += 4;
+        buffer.put(p, value);
+
+        int length = recordSize - LENGTH_FIELD;
+        buffer.putInt(position + LENGTH_FIELD, crc(position, length));
+        // length last: a torn record reads as end of data or fails its crc
+        buffer.putInt(position, length);
+
+        if (position == 0 || bytesSinceIndex >= indexInterval) {
+            index.put(offset, position);
+            bytesSinceIndex = 0;
+        }
+        bytesSinceIndex += recordSize;
+
+        nextOffset = offset + 1;
+        lastAppendMillis = nowMillis;
+        size = position + recordSize;
+        return true;
+    }
+
+    // ------------------------------------------------------------
+    // read (lock-free below size)
+    // ------------------------------------------------------------
+
+    /**
+     * @return position of the first record with offset >= {@code offset}, or -1 if none
+     */
+    int seek(long offset) {
+        int end = size;
+        Map.Entry<Long, Integer> floor = index.floorEntry(offset);
+        int position = floor == null ? 0 : floor.getValue();
+
+        while (position < end) {
+            if (buffer.getLong(position + LENGTH_FIELD + 4) >= offset) {
+                return position;
+            }
+            position = next(position);
+        }
+        return -1;
+    }
+
+    int next(int position) {
+        return position + LENGTH_FIELD + buffer.getInt(position);
+    }
+
+    boolean hasRecord(int position) {
+        return position >= 0 && position < size;
+    }
+
+    StoredKafkaMessage read(int position, String topic, PayloadInterner interner) {
+        int p = position + LENGTH_FIELD + 4;
+        long offset = buffer.getLong(p);
+        p += 8;
+
+        int keyLength = buffer.getInt(p);
+        p += 4;
+        String key = null;
+        if (keyLength >= 0) {
+            byte[] keyBytes = new byte[keyLength];
+            buffer.get(p, keyBytes);
+            key = new String(keyBytes, StandardCharsets.UTF_8);
+            p += keyLength;
+        }
+
+        BodySourceType source = SOURCES[buffer.get(p)];
+        p += 1;
+        int valueLength = buffer.getInt(p);
+        p += 4;
+        ResolvedBody value = interner.intern(buffer, p, valueLength, source);
+
+        return new StoredKafkaMessage(
+                offset,
+                new KafkaMessage(topic, key, value, 1, NO_DELAY)
+        );
+    }
+
+    // ------------------------------------------------------------
+    // lifecycle
+    // ------------------------------------------------------------
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long nextOffset() {
+        return nextOffset;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long lastAppendMillis() {
+        return lastAppendMillis;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    void flush() {
+        buffer.force();
+    }
+
+    /**
+     * Deletes the file; the mapping stays readable for in-flight readers until it is collected.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(file);
+        log.debug("Log segment deleted: file={}", file);
+    }
+
+    private void recover() {
+        int position = 0;
+        int capacity = buffer.capacity();
+        boolean corrupt = false;
+
+        while (position + LENGTH_FIELD <= capacity) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < FIXED_FIELDS
+                    || position + LENGTH_FIELD + length > capacity
+                    || buffer.getInt(position + LENGTH_FIELD) != crc(position, length)) {
+                corrupt = true;
+                break;
+            }
+
+            long offset = buffer.getLong(position + LENGTH_FIELD + 4);
+            if (position > 0 && offset != nextOffset) {
+                corrupt = true;
+                break;
+            }
+            if (position == 0 || bytesSinceIndex >= indexInterval) {
+                index.put(offset, position);
+                bytesSinceIndex = 0;
+            }
+            bytesSinceIndex += LENGTH_FIELD + length;
+
+            nextOffset = offset + 1;
+            position += LENGTH_FIELD + length;
+        }
+
+        if (corrupt) {
+            // torn write: wipe the tail so stale bytes never parse as records after new appends
+            log.warn("Log segment truncated at corrupt record: file={}, position={}", file, position);
+            for (int p = position; p < capacity; p++) {
+                buffer.put(p, (byte) 0);
+            }
+        }
+
+        size = position;
+
+        log.debug("Log segment recovered: file={}, bytes={}, nextOffset={}", file, size, nextOffset);
+    }
+
+    // crc over [position + length field + crc field, record end)
+    private int crc(int position, int length) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer slice = buffer.slice(position + LENGTH_FIELD + 4, length - 4);
+        crc.update(slice);
+        return (int) crc.getValue();
+    }
+}
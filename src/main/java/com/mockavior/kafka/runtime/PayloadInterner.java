@@ -0,0 +1,72 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.contract.payload.BodySourceType;
+import com.mockavior.contract.payload.ResolvedBody;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical ResolvedBody instances for payloads read back from a byte source (segment files).
+ * Design notes:
+ * - Heap stores keep the published KafkaMessage, so repeats of a scenario message already share
+ *   one payload instance; stores that re-materialize messages intern by content instead
+ * - Lookup hashes the bytes in place: a repeated payload is returned without copying it
+ * - Key is (content + source hash, length); on a collision with different bytes the payload
+ *   is simply not interned
+ * - Bounded: the table is dropped when it reaches maxEntries (payload sets are small and static
+ *   in practice, so this is rare)
+ * - Identity of the returned instance is what downstream caches key on
+ */
+final class PayloadInterner {
+
+    private final int maxEntries;
+    private final Map<Long, ResolvedBody> canonical = new ConcurrentHashMap<>();
+
+    PayloadInterner(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return canonical payload for bytes [position, position + length) of {@code source}
+     */
+    ResolvedBody intern(ByteBuffer bytes, int position, int length, BodySourceType sourceType) {
+        int hash = 31 * hash(bytes, position, length) + sourceType.ordinal();
+        long key = ((long) hash << 32) | (length & 0xFFFFFFFFL);
+
+        ResolvedBody existing = canonical.get(key);
+        if (existing != null
+                && existing.source() == sourceType
+                && bytes.slice(position, length).equals(ByteBuffer.wrap(existing.bytes()))) {
+            return existing;
+        }
+
+        byte[] copy = new byte[length];
+        bytes.get(position, copy);
+        ResolvedBody body = new ResolvedBody(copy, sourceType);
+
+        if (existing == null) {
+            if (canonical.size() >= maxEntries) {
+                canonical.clear();
+            }
+            canonical.putIfAbsent(key, body);
+        }
+        return body;
+    }
+
+    int size() {
+        return canonical.size();
+    }
+
+    private static int hash(ByteBuffer bytes, int position, int length) {
+        int h = 1;
+        for (int i = position, end = position + length; i < end; i++) {
+            h = 31 * h + bytes.get(i);
+        }
+        return h;
+    }
+}
@@ -0,0 +1,24 @@
+package com.mockavior.kafka.runtime;
+
+/**
+ * Handle of a listener registered with InMemoryKafkaStore.onNextPublish.
+ * Responsibilities:
+ * - Unregister the listener so an abandoned waiter leaves nothing behind in the store
+ * Notes:
+ * - cancel() after the listener ran (or a second cancel()) is a no-op
+ */
+public final class PublishWatch {
+
+    private final Runnable canceller;
+
+    PublishWatch(Runnable canceller) {
+        this.canceller = canceller;
+    }
+
+    /**
+     * Removes the listener if it has not run yet.
+     */
+    public void cancel() {
+        canceller.run();
+    }
+}
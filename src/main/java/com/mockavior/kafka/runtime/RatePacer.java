@@ -0,0 +1,132 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.kafka.model.KafkaRate;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Token bucket that paces a scenario to its KafkaRate.
+ * Design notes:
+ * - Tokens are refilled from elapsed time (target rate at the middle of the interval), not per tick,
+ *   so a late tick is compensated by the next one: the achieved rate does not drift below target
+ * - Bucket capacity is the target rate over CATCH_UP (at least 2, so the overshoot of a slightly
+ *   late tick is kept): after a long stall (GC, overloaded scheduler) at most that much backlog
+ *   is emitted at once, the rest is dropped
+ * - Fractional tokens carry over between ticks
+ * - Achieved rate is measured over windows of at least WINDOW
+ * - A shard of a scenario is paced at its share of the scenario rate (targets are per shard)
+ * - NOT thread-safe: driven by the runner's chained ticks; the two rate getters are safe to read
+ */
+final class RatePacer {
+
+    private static final long CATCH_UP_NANOS = Duration.ofMillis(100).toNanos();
+    private static final long WINDOW_NANOS = Duration.ofSeconds(1).toNanos();
+
+    // re-evaluate at least this often (ramp from 0, low rates)
+    private static final long MAX_WAIT_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final KafkaRate rate;
+    // fraction of the scenario rate this pacer emits (a shard's share of the records), 1 unsharded
+    private final double share;
+    private final long startNanos;
+
+    private double tokens;
+    private long refilledAt;
+
+    private long windowStart;
+    private long windowCount;
+
+    private volatile double targetPerSecond;
+    private volatile double achievedPerSecond;
+
+    RatePacer(KafkaRate rate, long startNanos) {
+        this(rate, 1.0, startNanos);
+    }
+
+    RatePacer(KafkaRate rate, double share, long startNanos) {
+        if (!(share > 0.0 && share <= 1.0)) {
+            throw new IllegalArgumentException("share must be in (0, 1]: " + share);
+        }
+        this.rate = Objects.requireNonNull(rate, "rate must not be null");
+        this.share = share;
+        this.startNanos = startNanos;
+        this.refilledAt = startNanos;
+        this.windowStart = startNanos;
+        this.targetPerSecond = perSecondAt(0);
+        // first message goes out right away
+        this.tokens = 1;
+    }
+
+    /**
+     * Takes up to {@code max} whole tokens available at {@code nowNanos}.
+     *
+     * @return messages that may be emitted now
+     */
+    int acquire(long nowNanos, int max) {
+        refill(nowNanos);
+
+        int permits = (int) Math.min(max, Math.floor(tokens));
+        tokens -= permits;
+        return permits;
+    }
+
+    /**
+     * Records messages actually emitted (may be fewer than acquired at the end of a scenario).
+     */
+    void emitted(long nowNanos, int messages) {
+        windowCount += messages;
+
+        long window = nowNanos - windowStart;
+        if (window >= WINDOW_NANOS) {
+            achievedPerSecond = windowCount * 1e9 / window;
+            windowStart = nowNanos;
+            windowCount = 0;
+        }
+    }
+
+    /**
+     * Time until the next whole token, at the current target rate.
+     */
+    Duration untilNext(long nowNanos) {
+        double missing = 1 - tokens;
+        if (missing <= 0) {
+            return Duration.ZERO;
+        }
+
+        double perSecond = perSecondAt(nowNanos - startNanos);
+        if (perSecond <= 0) {
+            return Duration.ofNanos(MAX_WAIT_NANOS);
+        }
+
+        long nanos = (long) Math.ceil(missing * 1e9 / perSecond);
+        return Duration.ofNanos(Math.min(nanos, MAX_WAIT_NANOS));
+    }
+
+    double targetPerSecond() {
+        return targetPerSecond;
+    }
+
+    double achievedPerSecond() {
+        return achievedPerSecond;
+    }
+
+    private double perSecondAt(long elapsedNanos) {
+        return rate.perSecondAt(elapsedNanos) * share;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - refilledAt;
+        if (elapsed <= 0) {
+            return;
+        }
+
+        long mid = (refilledAt + nowNanos) / 2 - startNanos;
+        double perSecond = perSecondAt(mid);
+        double capacity = Math.max(2, perSecondAt(nowNanos - startNanos) * CATCH_UP_NANOS / 1e9);
+
+        tokens = Math.min(capacity, tokens + perSecond * elapsed / 1e9);
+        refilledAt = nowNanos;
+        targetPerSecond = perSecondAt(nowNanos - startNanos);
+    }
+}
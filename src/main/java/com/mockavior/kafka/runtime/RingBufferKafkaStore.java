@@ -0,0 +1,447 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded in-memory Kafka-like store: one pre-allocated ring buffer per topic.
+ * Design notes:
+ * - Lock-free: offsets are claimed with CAS / getAndIncrement, slots are published with CAS
+ * - Slot for offset o is {@code o & (capacity - 1)}; each slot remembers the offset it holds,
+ *   so readers detect not-yet-written and overwritten slots without locks
+ * - head = first retained offset, tail = next offset to assign
+ * - Reads are range reads by offset; nothing is copied beyond the requested range
+ * - Retention when a topic is full:
+ *   DROP_OLDEST: the new message overwrites the oldest one (head moves forward)
+ *   BLOCK: the publisher waits for take/clear to free a slot, up to blockTimeout
+ */
+@Slf4j
+public final class RingBufferKafkaStore implements InMemoryKafkaStore {
+
+    /**
+     * What publish does when a topic ring is full.
+     */
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        BLOCK
+    }
+
+    private static final long BLOCK_PARK_NANOS = 100_000L;
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+
+    private final Map<String, Ring> topics = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final TopicSignals signals = new TopicSignals();
+
+    public RingBufferKafkaStore(int capacity, OverflowPolicy overflowPolicy, Duration blockTimeout) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = powerOfTwo(capacity);
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+        this.blockTimeoutNanos = Objects.requireNonNull(blockTimeout, "blockTimeout must not be null").toNanos();
+
+        log.info(
+                "RingBufferKafkaStore created: capacityPerTopic={}, overflowPolicy={}, blockTimeout={}",
+                this.capacity,
+                overflowPolicy,
+                blockTimeout
+        );
+    }
+
+    @Override
+    public void publish(String topic, KafkaMessage message) {
+        Objects.requireNonNull(topic, "topic must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+
+        Ring ring = topics.computeIfAbsent(topic, t -> new Ring(capacity));
+
+        long offset = overflowPolicy == OverflowPolicy.BLOCK
+                ? ring.appendBlocking(message, topic)
+                : ring.appendDroppingOldest(message);
+
+        signals.signal(topic);
+
+        log.debug("KafkaStore publish: topic={}, key={}, offset={}", topic, message.key(), offset);
+    }
+
+    /**
+     * BLOCK: waits for space chunk by chunk; on timeout the messages before the failing chunk
+     * stay published.
+     */
+    @Override
+    public void publishAll(String topic, List<KafkaMessage> messages) {
+        Objects.requireNonNull(topic, "topic must not be null");
+        Objects.requireNonNull(messages, "messages must not be null");
+        if (messages.isEmpty()) {
+            return;
+        }
+        // validate first: a failure half-way would leave claimed but never written offsets
+        messages.forEach(m -> Objects.requireNonNull(m, "message must not be null"));
+
+        Ring ring = topics.computeIfAbsent(topic, t -> new Ring(capacity));
+
+        try {
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                ring.appendAllBlocking(messages, topic);
+            } else {
+                ring.appendAllDroppingOldest(messages);
+            }
+        } finally {
+            signals.signal(topic);
+        }
+
+        log.debug("KafkaStore publishAll: topic={}, messages={}", topic, messages.size());
+    }
+
+    @Override
+    public List<KafkaMessage> peek(String topic) {
+        Ring ring = topics.get(topic);
+        if (ring == null) {
+            return List.of();
+        }
+
+        List<KafkaMessage> snapshot = ring.read(ring.head.get(), capacity).stream()
+                .map(StoredKafkaMessage::message)
+                .toList();
+
+        log.debug("KafkaStore PEEK: topic={}, messages={}", topic, snapshot.size());
+
+        return snapshot;
+    }
+
+    @Override
+    public List<StoredKafkaMessage> read(String topic, long fromOffset, int maxMessages) {
+        Ring ring = topics.get(topic);
+        if (ring == null || maxMessages <= 0) {
+            return List.of();
+        }
+
+        List<StoredKafkaMessage> result = ring.read(fromOffset, maxMessages);
+
+        log.debug("KafkaStore READ: topic={}, fromOffset={}, messages={}", topic, fromOffset, result.size());
+
+        return result;
+    }
+
+    @Override
+    public long startOffset(String topic) {
+        Ring ring = topics.get(topic);
+        return ring == null ? 0L : ring.head.get();
+    }
+
+    @Override
+    public long endOffset(String topic) {
+        Ring ring = topics.get(topic);
+        return ring == null ? 0L : ring.tail.get();
+    }
+
+    @Override
+    public Optional<KafkaMessage> take(String topic) {
+        Ring ring = topics.get(topic);
+        if (ring == null) {
+            return Optional.empty();
+        }
+
+        StoredKafkaMessage stored = ring.takeHead();
+
+        if (stored != null) {
+            log.debug("KafkaStore TAKE: topic={}, key={}, offset={}", topic, stored.message().key(), stored.offset());
+        }
+
+        return Optional.ofNullable(stored).map(StoredKafkaMessage::message);
+    }
+
+    @Override
+    public List<StoredKafkaMessage> drain(String topic, int maxMessages) {
+        Ring ring = topics.get(topic);
+        if (ring == null || maxMessages <= 0) {
+            return List.of();
+        }
+
+        List<StoredKafkaMessage> drained = ring.takeHead(maxMessages);
+
+        log.debug("KafkaStore DRAIN: topic={}, messages={}", topic, drained.size());
+
+        return drained;
+    }
+
+    /**
+     * Drops everything currently stored; offsets keep growing.
+     */
+    @Override
+    public void clear(String topic) {
+        Ring ring = topics.get(topic);
+        long cleared = ring == null ? 0L : ring.clear();
+
+        log.info("KafkaStore clear: topic={}, messages={}", topic, cleared);
+    }
+
+    @Override
+    public PublishWatch onNextPublish(String topic, Runnable listener) {
+        return signals.register(topic, listener);
+    }
+
+    /**
+     * @return messages stored and not yet taken/cleared/dropped, across all topics
+     */
+    @Override
+    public long lag() {
+        long lag = 0L;
+        for (Ring ring : topics.values()) {
+            lag += Math.max(0L, ring.tail.get() - ring.head.get());
+        }
+        return lag;
+    }
+
+    /**
+     * @return messages overwritten by DROP_OLDEST retention since start
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static int powerOfTwo(int value) {
+        int n = 1;
+        while (n < value) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    // ------------------------------------------------------------
+    // per-topic ring
+    // ------------------------------------------------------------
+
+    private final class Ring {
+
+        private final AtomicReferenceArray<StoredKafkaMessage> slots;
+        private final int mask;
+
+        // first retained offset
+        private final AtomicLong head = new AtomicLong();
+        // next offset to assign
+        private final AtomicLong tail = new AtomicLong();
+
+        Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        long appendDroppingOldest(KafkaMessage message) {
+            long offset = tail.getAndIncrement();
+
+            // retention: keep at most `capacity` offsets
+            long minHead = offset - slots.length() + 1;
+            if (minHead > 0) {
+                long previous = head.getAndAccumulate(minHead, Math::max);
+                if (previous < minHead) {
+                    dropped.add(minHead - previous);
+                }
+            }
+
+            store(offset, message);
+            return offset;
+        }
+
+        long appendBlocking(KafkaMessage message, String topic) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+
+            while (true) {
+                long offset = tail.get();
+
+                if (offset - head.get() >= slots.length()) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        throw new IllegalStateException(
+                                "Kafka topic is full: topic=" + topic + ", capacity=" + slots.length()
+                        );
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    continue;
+                }
+
+                if (tail.compareAndSet(offset, offset + 1)) {
+                    store(offset, message);
+                    return offset;
+                }
+            }
+        }
+
+        void appendAllDroppingOldest(List<KafkaMessage> messages) {
+            int count = messages.size();
+            long first = tail.getAndAdd(count);
+
+            long minHead = first + count - slots.length();
+            if (minHead > 0) {
+                long previous = head.getAndAccumulate(minHead, Math::max);
+                if (previous < minHead) {
+                    dropped.add(minHead - previous);
+                }
+            }
+
+            // offsets below minHead are dropped by the batch itself: not worth writing
+            int skip = (int) Math.max(0L, Math.min(count, minHead - first));
+            for (int i = skip; i < count; i++) {
+                store(first + i, messages.get(i));
+            }
+        }
+
+        void appendAllBlocking(List<KafkaMessage> messages, String topic) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            int index = 0;
+
+            while (index < messages.size()) {
+                long offset = tail.get();
+                long free = slots.length() - (offset - head.get());
+
+                if (free <= 0) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        throw new IllegalStateException(
+                                "Kafka topic is full: topic=" + topic + ", capacity=" + slots.length()
+                                        + ", published=" + index + "/" + messages.size()
+                        );
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    continue;
+                }
+
+                int chunk = (int) Math.min(free, messages.size() - index);
+                if (tail.compareAndSet(offset, offset + chunk)) {
+                    for (int i = 0; i < chunk; i++) {
+                        store(offset + i, messages.get(index + i));
+                    }
+                    index += chunk;
+                }
+            }
+        }
+
+        /**
+         * Publishes slot unless a newer offset already claimed it (slow producer lapped).
+         */
+        private void store(long offset, KafkaMessage message) {
+            int idx = (int) (offset & mask);
+            StoredKafkaMessage stored = new StoredKafkaMessage(offset, message);
+
+            while (true) {
+                StoredKafkaMessage current = slots.get(idx);
+                if (current != null && current.offset() > offset) {
+                    // already overwritten by retention before we got here
+                    return;
+                }
+                if (slots.compareAndSet(idx, current, stored)) {
+                    return;
+                }
+            }
+        }
+
+        List<StoredKafkaMessage> read(long fromOffset, int maxMessages) {
+            long start = Math.max(fromOffset, head.get());
+            long end = tail.get();
+
+            int expected = (int) Math.min(maxMessages, Math.max(0L, end - start));
+            List<StoredKafkaMessage> result = new ArrayList<>(expected);
+
+            for (long offset = start; offset < end && result.size() < maxMessages; offset++) {
+                StoredKafkaMessage stored = slots.get((int) (offset & mask));
+
+                if (stored == null || stored.offset() < offset) {
+                    // claimed but not yet written: stop to keep offset order
+                    break;
+                }
+                if (stored.offset() > offset) {
+                    // overwritten by retention
+                    continue;
+                }
+                result.add(stored);
+            }
+            return result;
+        }
+
+        StoredKafkaMessage takeHead() {
+            while (true) {
+                long h = head.get();
+                if (h >= tail.get()) {
+                    return null;
+                }
+
+                StoredKafkaMessage stored = slots.get((int) (h & mask));
+                if (stored == null || stored.offset() < h) {
+                    // head offset claimed but not yet written
+                    return null;
+                }
+                if (stored.offset() > h) {
+                    // overwritten: retention already moved (or is moving) head forward
+                    head.compareAndSet(h, h + 1);
+                    continue;
+                }
+                if (head.compareAndSet(h, h + 1)) {
+                    return stored;
+                }
+            }
+        }
+
+        /**
+         * Removes up to {@code max} written messages from head with a single head CAS.
+         */
+        List<StoredKafkaMessage> takeHead(int max) {
+            while (true) {
+                long h = head.get();
+                long end = tail.get();
+
+                List<StoredKafkaMessage> batch = new ArrayList<>((int) Math.min(max, Math.max(0L, end - h)));
+                long next = h;
+
+                for (long offset = h; offset < end && batch.size() < max; offset++) {
+                    StoredKafkaMessage stored = slots.get((int) (offset & mask));
+                    if (stored == null || stored.offset() < offset) {
+                        // claimed but not yet written: stop to keep offset order
+                        break;
+                    }
+                    if (stored.offset() > offset) {
+                        // overwritten: retention moved head, CAS below fails and we retry
+                        break;
+                    }
+                    batch.add(stored);
+                    next = offset + 1;
+                }
+
+                if (next == h) {
+                    if (h < head.get()) {
+                        continue;
+                    }
+                    return List.of();
+                }
+                // head unchanged => nothing in [h, next) was overwritten meanwhile
+                if (head.compareAndSet(h, next)) {
+                    return batch;
+                }
+            }
+        }
+
+        long clear() {
+            long end = tail.get();
+            long previous = head.getAndAccumulate(end, Math::max);
+            return Math.max(0L, end - previous);
+        }
+    }
+}
@@ -16,7 +16,7 @@ import java.util.UUID;
  * - Iterate scenario.repeat × messages × message.repeat
  * - Produce next KafkaRecord on demand
  * Design notes:
- * - NOT thread-safe
+ * - NOT thread-safe (state is volatile so it can be read by monitoring threads)
  * - Does NOT handle delays, scheduling or Kafka APIs
  * - Fully deterministic and unit-testable
  */
@@ -25,8 +25,9 @@ public final class ScenarioExecution {
 
     private final UUID executionId;
     private final KafkaScenario scenario;
+    private final List<KafkaRecord> records;
 
-    private ExecutionState state = ExecutionState.CREATED;
+    private volatile ExecutionState state = ExecutionState.CREATED;
 
     // Iteration pointers
     private int scenarioRepeatIndex = 0;
@@ -34,8 +35,16 @@ public final class ScenarioExecution {
     private int messageRepeatIndex = 0;
 
     public ScenarioExecution(KafkaScenario scenario) {
+        this(scenario, Objects.requireNonNull(scenario, "scenario must not be null").records());
+    }
+
+    /**
+     * Execution of {@code records} (e.g. one shard's subset of the scenario records), scenario.repeat times.
+     */
+    public ScenarioExecution(KafkaScenario scenario, List<KafkaRecord> records) {
         this.executionId = UUID.randomUUID();
         this.scenario = Objects.requireNonNull(scenario, "scenario must not be null");
+        this.records = List.copyOf(Objects.requireNonNull(records, "records must not be null"));
 
         log.info(
                 "ScenarioExecution created: executionId={}, scenarioId={}, scenarioRepeat={}",
@@ -97,13 +106,12 @@ public final class ScenarioExecution {
             return null;
         }
 
-        List<KafkaRecord> records = scenario.records();
         if (records.isEmpty()) {
             state = ExecutionState.FINISHED;
             return null;
         }
 
-        KafkaRecord kafkaRecord = scenario.records().get(messageIndex);
+        KafkaRecord kafkaRecord = records.get(messageIndex);
 
         log.debug(
                 "Next message selected: executionId={}, scenarioRepeat={}, messageIndex={}, messageRepeat={}, key={}",
@@ -134,7 +142,7 @@ public final class ScenarioExecution {
         messageRepeatIndex = 0;
         messageIndex++;
 
-        if (messageIndex < scenario.records().size()) {
+        if (messageIndex < records.size()) {
             return;
         }
 
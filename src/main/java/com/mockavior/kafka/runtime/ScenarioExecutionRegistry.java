@@ -2,7 +2,12 @@ package com.mockavior.kafka.runtime;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -11,17 +16,36 @@ import java.util.concurrent.ConcurrentMap;
  * ScenarioExecutionRegistry stores and manages running scenario executions.
  * Responsibilities:
  * - Register new execution runners
- * - Find runner by executionId
- * - Stop and remove executions
+ * - Find / list runners
+ * - Stop executions
+ * - Reap finished and stopped executions once they are older than the TTL
  * Notes:
  * - Execution state lives inside ScenarioExecutionRunner/ScenarioExecution.
  * - Registry is about access & lifecycle management from outside (HTTP endpoints).
+ * - Ended executions stay listed for the TTL so their final progress can be read;
+ *   reap() is called periodically (see KafkaScenarioService), so starting thousands
+ *   of scenarios does not grow the registry without bound.
  */
 @Slf4j
 public final class ScenarioExecutionRegistry {
 
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
     private final ConcurrentMap<UUID, ScenarioExecutionRunner> executions = new ConcurrentHashMap<>();
 
+    private final Duration ttl;
+
+    public ScenarioExecutionRegistry() {
+        this(DEFAULT_TTL);
+    }
+
+    public ScenarioExecutionRegistry(Duration ttl) {
+        this.ttl = Objects.requireNonNull(ttl, "ttl must not be null");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must be >= 0: " + ttl);
+        }
+    }
+
     /**
      * Registers a new runner. If same ID exists (extremely unlikely), fails fast.
      */
@@ -37,6 +61,36 @@ public final class ScenarioExecutionRegistry {
         log.info("Execution registered: executionId={}, scenarioId={}", id, runner.scenarioId());
     }
 
+    public Optional<ScenarioExecutionRunner> find(UUID executionId) {
+        Objects.requireNonNull(executionId, "executionId must not be null");
+        return Optional.ofNullable(executions.get(executionId));
+    }
+
+    /**
+     * Registered executions (running and not yet reaped), by scenario id.
+     */
+    public List<ScenarioExecutionRunner> list() {
+        return executions.values().stream()
+                .sorted(Comparator.comparing(ScenarioExecutionRunner::scenarioId))
+                .toList();
+    }
+
+    /**
+     * Stops execution if found; it stays registered until reaped.
+     */
+    public boolean stop(UUID executionId) {
+        Objects.requireNonNull(executionId, "executionId must not be null");
+
+        ScenarioExecutionRunner runner = executions.get(executionId);
+        if (runner == null) {
+            log.warn("Stop requested but execution not found: executionId={}", executionId);
+            return false;
+        }
+
+        stopQuietly(runner);
+        return true;
+    }
+
     /**
      * Stops execution if found and removes it from registry.
      */
@@ -49,18 +103,50 @@ public final class ScenarioExecutionRegistry {
             return false;
         }
 
+        stopQuietly(runner);
+
+        log.info("Execution removed: executionId={}", executionId);
+        return true;
+    }
+
+    /**
+     * Removes executions that finished or stopped more than TTL ago.
+     *
+     * @return number of executions removed
+     */
+    public int reap() {
+        long now = System.nanoTime();
+        long ttlNanos = ttl.toNanos();
+
+        int reaped = 0;
+        Iterator<ScenarioExecutionRunner> it = executions.values().iterator();
+        while (it.hasNext()) {
+            long ended = it.next().endedAtNanos();
+            if (ended != 0L && now - ended >= ttlNanos) {
+                it.remove();
+                reaped++;
+            }
+        }
+
+        if (reaped > 0) {
+            log.info("Executions reaped: reaped={}, remaining={}, ttl={}", reaped, executions.size(), ttl);
+        }
+        return reaped;
+    }
+
+    public int size() {
+        return executions.size();
+    }
+
+    private static void stopQuietly(ScenarioExecutionRunner runner) {
         try {
             runner.stop();
         } catch (Exception e) {
             log.error(
                     "Failed to stop execution: executionId={}",
-                    executionId,
+                    runner.executionId(),
                     e
             );
         }
-
-        log.info("Execution removed: executionId={}", executionId);
-        return true;
     }
-
 }
@@ -1,9 +1,14 @@
 package com.mockavior.kafka.runtime;
 
+import com.mockavior.kafka.model.KafkaMessage;
 import com.mockavior.kafka.model.KafkaRecord;
 import com.mockavior.kafka.model.KafkaScenario;
 import com.mockavior.runtime.scheduler.RuntimeScheduler;
 import com.mockavior.runtime.scheduler.TaskHandle;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
@@ -11,35 +16,110 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ScenarioExecutionRunner drives a ScenarioExecution asynchronously
  * and publishes messages into InMemoryKafkaStore.
  * Responsibilities:
  * - Start execution
- * - Schedule message emission respecting delays
+ * - Schedule message emission respecting delays, or the scenario rate
  * - Publish messages into store
- * - Track scheduled tasks for cancellation
+ * - Keep the live scheduled task for cancellation
+ * Design notes:
+ * - One scheduler task per tick, not per message: a tick publishes its record and every
+ *   following record that is already due (zero delay), up to MAX_BATCH, then schedules
+ *   the first record with a delay
+ * - Consecutive records of the same topic go to the store as one publishAll
+ *   (order across topics is preserved)
+ * - Ticks are chained, so at most one task is scheduled at a time: only its handle is kept
+ * - Target: a zero-delay scenario with repeat 1_000_000 publishes at >= 1M messages/s
+ *   on the default store (see ScenarioRunnerBenchmark)
+ * - With a scenario rate, ticks are paced by RatePacer instead: each tick publishes the
+ *   tokens available (up to MAX_BATCH) and schedules itself for the next token; target and
+ *   achieved rate are exposed as gauges while the execution runs
+ * - Records go to their store topic (one per partition for partitioned topics)
+ * - Sharding: parallel runners of one scenario each publish only their own partitions, so
+ *   per-partition order is kept. A shard iterates only its own records (ShardRecords, computed at
+ *   construction), with the delays of the skipped records carried so it stays on the scenario
+ *   timeline; with a scenario rate, each shard is paced at its share so the total stays the scenario rate
+ * - Progress (emitted / total, elapsed, rate) is read from atomics by progress(), never under a lock
  * Runner does NOT know who consumes messages.
  */
 @Slf4j
 public final class ScenarioExecutionRunner {
 
+    // records published by one tick at most; bounds the time a scheduler thread is held
+    static final int MAX_BATCH = 1024;
+
     private final ScenarioExecution execution;
     private final RuntimeScheduler scheduler;
     private final InMemoryKafkaStore store;
 
-    private final List<TaskHandle> scheduledTasks = new ArrayList<>();
+    // reused by ticks; ticks never overlap
+    private final List<KafkaMessage> batch = new ArrayList<>();
+    private String batchTopic;
+
+    // this runner publishes the partitions p with p % shards == shard (unpartitioned topics: shard 0)
+    private final int shard;
+    private final int shards;
+    private final ShardRecords shardRecords;
+
+    private final KafkaScenario scenario;
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> rateGauges = new ArrayList<>();
+
+    // set on start when the scenario has a rate
+    private volatile RatePacer pacer;
+
+    private volatile TaskHandle scheduledTask;
+
+    // progress; written by ticks, read by progress()
+    private final long total;
+    private final AtomicLong emitted = new AtomicLong();
+    private volatile long startedAtNanos;
+    private volatile long endedAtNanos;
 
     public ScenarioExecutionRunner(
             KafkaScenario scenario,
             RuntimeScheduler scheduler,
             InMemoryKafkaStore store
     ) {
-        Objects.requireNonNull(scenario, "scenario must not be null");
-        this.execution = new ScenarioExecution(scenario);
+        this(scenario, scheduler, store, Metrics.globalRegistry);
+    }
+
+    public ScenarioExecutionRunner(
+            KafkaScenario scenario,
+            RuntimeScheduler scheduler,
+            InMemoryKafkaStore store,
+            MeterRegistry meterRegistry
+    ) {
+        this(scenario, scheduler, store, meterRegistry, 0, 1);
+    }
+
+    /**
+     * One shard of a scenario run by {@code shards} parallel runners.
+     */
+    public ScenarioExecutionRunner(
+            KafkaScenario scenario,
+            RuntimeScheduler scheduler,
+            InMemoryKafkaStore store,
+            MeterRegistry meterRegistry,
+            int shard,
+            int shards
+    ) {
+        if (shards <= 0 || shard < 0 || shard >= shards) {
+            throw new IllegalArgumentException("Invalid shard: shard=" + shard + ", shards=" + shards);
+        }
+        this.shard = shard;
+        this.shards = shards;
+        this.scenario = Objects.requireNonNull(scenario, "scenario must not be null");
+        this.shardRecords = ShardRecords.of(scenario, shard, shards);
+        this.execution = new ScenarioExecution(scenario, shardRecords.records());
         this.scheduler = Objects.requireNonNull(scheduler, "scheduler must not be null");
         this.store = Objects.requireNonNull(store, "store must not be null");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.total = shardRecords.emissionsPerRepeat() * scenario.repeat();
     }
 
     /**
@@ -53,21 +133,42 @@ public final class ScenarioExecutionRunner {
             throw e;
         }
 
-        log.info("Runner started: executionId={}, scenarioId={}", executionId(), scenarioId());
+        startedAtNanos = System.nanoTime();
+
+        log.info(
+                "Runner started: executionId={}, scenarioId={}, rate={}, shard={}/{}",
+                executionId(),
+                scenarioId(),
+                scenario.rate(),
+                shard,
+                shards
+        );
+
+        // a shard owning no record finishes right away
+        if (scenario.rate() == null || shardRecords.records().isEmpty()) {
+            scheduleFirst();
+            return;
+        }
 
-        scheduleNext();
+        pacer = new RatePacer(scenario.rate(), shardRecords.share(), System.nanoTime());
+        registerRateGauges();
+        schedulePaced(Duration.ZERO);
     }
 
     /**
-     * Stops execution and cancels all scheduled tasks.
+     * Stops execution and cancels the scheduled tick.
      */
     public void stop() {
         execution.stop();
+        ended();
 
-        log.info("Runner stopping: executionId={}, scheduledTasks={}", executionId(), scheduledTasks.size());
+        log.info("Runner stopping: executionId={}", executionId());
 
-        scheduledTasks.forEach(TaskHandle::cancel);
-        scheduledTasks.clear();
+        TaskHandle handle = scheduledTask;
+        if (handle != null) {
+            handle.cancel();
+        }
+        removeRateGauges();
 
         log.info(
                 "Runner stopped: executionId={}, state={}",
@@ -77,46 +178,227 @@ public final class ScenarioExecutionRunner {
     }
 
     /**
-     * Schedules the next message emission step.
-     * Each step schedules exactly one task.
+     * Schedules the first tick; a shard also waits for the records it skips before its first one.
+     */
+    private void scheduleFirst() {
+        KafkaRecord firstRecord = execution.nextRecord();
+
+        if (firstRecord == null) {
+            scheduledTask = null;
+            onExecutionFinished();
+            return;
+        }
+
+        schedule(firstRecord, shardRecords.firstDelay().resolve());
+    }
+
+    /**
+     * Schedules the next tick for the next record.
      */
     private void scheduleNext() {
         KafkaRecord nextRecord = execution.nextRecord();
 
         if (nextRecord == null) {
+            scheduledTask = null;
             onExecutionFinished();
             return;
         }
 
-        Duration delay = nextRecord.message().delay().resolve();
+        schedule(nextRecord, nextRecord.message().delay().resolve());
+    }
 
-        TaskHandle handle = scheduler.scheduleTask(() -> {
-            if (execution.state() != ExecutionState.RUNNING) {
-                log.debug(
-                        "Skip emission (execution not running): executionId={}, state={}",
-                        executionId(),
-                        execution.state()
-                );
-                return;
-            }
+    private void schedule(KafkaRecord record, Duration delay) {
+        TaskHandle handle = scheduler.scheduleTask(() -> tick(record), delay);
+        scheduledTask = handle;
+
+        // stop() may have run between nextRecord() and the assignment above
+        if (execution.state() != ExecutionState.RUNNING) {
+            handle.cancel();
+        }
+
+        log.debug(
+                "Next message scheduled: executionId={}, topic={}, delayMs={}",
+                executionId(),
+                record.message().topic(),
+                delay.toMillis()
+        );
+    }
+
+    /**
+     * Publishes {@code first} and the records due right after it, then schedules the next tick.
+     */
+    private void tick(KafkaRecord first) {
+        if (execution.state() != ExecutionState.RUNNING) {
+            log.debug(
+                    "Skip emission (execution not running): executionId={}, state={}",
+                    executionId(),
+                    execution.state()
+            );
+            return;
+        }
 
-            store.publish(nextRecord.message().topic(), nextRecord.message());
+        KafkaRecord record = first;
+        Duration delay = Duration.ZERO;
+        int published = 0;
 
-            log.info("KafkaEmu published: executionId={}, topic={}, key={}", executionId(), nextRecord.message().topic(), nextRecord.message().key());
+        try {
+            while (true) {
+                append(record);
+                published++;
+
+                if (published >= MAX_BATCH) {
+                    record = null;
+                    break;
+                }
+
+                record = execution.nextRecord();
+                if (record == null) {
+                    break;
+                }
+
+                delay = record.message().delay().resolve();
+                if (delay.isPositive()) {
+                    break;
+                }
+            }
+            flush();
+        } finally {
+            batch.clear();
+        }
 
-            // Chain next step
+        log.debug("KafkaEmu published: executionId={}, messages={}", executionId(), published);
+
+        if (published >= MAX_BATCH) {
+            // yield the scheduler thread, continue right away
             scheduleNext();
+        } else if (record == null) {
+            scheduledTask = null;
+            onExecutionFinished();
+        } else {
+            schedule(record, delay);
+        }
+    }
+
+    // ------------------------------------------------------------
+    // rate-paced emission
+    // ------------------------------------------------------------
+
+    private void schedulePaced(Duration delay) {
+        TaskHandle handle = scheduler.scheduleTask(this::pacedTick, delay);
+        scheduledTask = handle;
+
+        if (execution.state() != ExecutionState.RUNNING) {
+            handle.cancel();
+        }
+    }
+
+    /**
+     * Publishes as many records as the pacer allows now, then schedules the next token.
+     */
+    private void pacedTick() {
+        if (execution.state() != ExecutionState.RUNNING) {
+            log.debug(
+                    "Skip emission (execution not running): executionId={}, state={}",
+                    executionId(),
+                    execution.state()
+            );
+            return;
+        }
+
+        long now = System.nanoTime();
+        int permits = pacer.acquire(now, MAX_BATCH);
+        int published = 0;
+        boolean finished = false;
 
-        }, delay);
+        try {
+            while (published < permits) {
+                KafkaRecord record = execution.nextRecord();
+                if (record == null) {
+                    finished = true;
+                    break;
+                }
+                append(record);
+                published++;
+            }
+            flush();
+        } finally {
+            batch.clear();
+        }
 
-        scheduledTasks.add(handle);
+        pacer.emitted(now, published);
 
         log.debug(
-                "Next message scheduled: executionId={}, topic={}, delayMs={}",
+                "KafkaEmu paced publish: executionId={}, messages={}, targetPerSecond={}",
                 executionId(),
-                nextRecord.message().topic(),
-                delay.toMillis()
+                published,
+                pacer.targetPerSecond()
+        );
+
+        if (finished) {
+            scheduledTask = null;
+            removeRateGauges();
+            onExecutionFinished();
+            return;
+        }
+
+        schedulePaced(pacer.untilNext(System.nanoTime()));
+    }
+
+    private void registerRateGauges() {
+        String executionId = executionId().toString();
+
+        rateGauges.add(
+                Gauge.builder("mockavior.kafka.scenario.rate.target", pacer, RatePacer::targetPerSecond)
+                        .description("Target emission rate of a running rate-paced Kafka scenario (messages/s)")
+                        .tag("scenario", scenarioId())
+                        .tag("execution", executionId)
+                        .baseUnit("messages")
+                        .register(meterRegistry)
         );
+        rateGauges.add(
+                Gauge.builder("mockavior.kafka.scenario.rate.achieved", pacer, RatePacer::achievedPerSecond)
+                        .description("Achieved emission rate of a running rate-paced Kafka scenario (messages/s, 1s window)")
+                        .tag("scenario", scenarioId())
+                        .tag("execution", executionId)
+                        .baseUnit("messages")
+                        .register(meterRegistry)
+        );
+    }
+
+    // gauges are per execution: removed when it ends so tags do not accumulate
+    private void removeRateGauges() {
+        synchronized (rateGauges) {
+            rateGauges.forEach(meterRegistry::remove);
+            rateGauges.clear();
+        }
+    }
+
+    // ------------------------------------------------------------
+    // batching
+    // ------------------------------------------------------------
+
+    private void append(KafkaRecord record) {
+        String topic = record.storeTopic();
+        if (!batch.isEmpty() && !batchTopic.equals(topic)) {
+            flush();
+        }
+        batchTopic = topic;
+        batch.add(record.message());
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        String topic = batchTopic;
+        if (batch.size() == 1) {
+            store.publish(topic, batch.get(0));
+        } else {
+            store.publishAll(topic, batch);
+        }
+        emitted.addAndGet(batch.size());
+        batch.clear();
     }
 
     public UUID executionId() {
@@ -131,7 +413,56 @@ public final class ScenarioExecutionRunner {
         return execution.state();
     }
 
+    /**
+     * Current progress; safe to call from any thread while the execution runs.
+     */
+    public ExecutionProgress progress() {
+        long started = startedAtNanos;
+        long ended = endedAtNanos;
+        long sent = emitted.get();
+
+        Duration elapsed = started == 0L
+                ? Duration.ZERO
+                : Duration.ofNanos((ended != 0L ? ended : System.nanoTime()) - started);
+
+        RatePacer currentPacer = pacer;
+        double rate;
+        if (currentPacer != null && ended == 0L) {
+            rate = currentPacer.achievedPerSecond();
+        } else {
+            rate = elapsed.isZero() ? 0.0 : sent * 1e9 / elapsed.toNanos();
+        }
+
+        return new ExecutionProgress(
+                executionId(),
+                scenarioId(),
+                state(),
+                shard,
+                shards,
+                sent,
+                total,
+                elapsed,
+                rate,
+                currentPacer == null ? null : currentPacer.targetPerSecond()
+        );
+    }
+
+    /**
+     * System.nanoTime() when the execution finished or stopped, 0 while it has not.
+     */
+    long endedAtNanos() {
+        return endedAtNanos;
+    }
+
+    private void ended() {
+        if (endedAtNanos == 0L) {
+            endedAtNanos = System.nanoTime();
+        }
+    }
+
     private void onExecutionFinished() {
+        ended();
+
         long lag = store.lag();
 
         if (lag == 0) {
@@ -0,0 +1,261 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Kafka-like store backed by memory-mapped, append-only segment files.
+ * Layout: {@code <dir>/<url-encoded topic>/<base offset>.log} + {@code start.offset}.
+ * Design notes:
+ * - Payloads live in the page cache, not on the heap: heap usage does not grow with
+ *   the number of stored messages (only a sparse index per segment)
+ * - Survives restarts: topics, offsets and consumed positions are recovered from dir
+ * - Reads go through the mapping; only the returned message is materialized, and repeated
+ *   payloads are interned to one instance
+ * - Stored messages come back with repeat=1 and no delay (runtime-only fields are not persisted)
+ * - Retention per topic by size and by time, see TopicLog; besides rolls and clear it is
+ *   enforced by a periodic sweep (mockavior.kafka.store.retention-check-interval-ms)
+ * - This is still a test double: pages are flushed by the OS (or on close), there is no fsync per append
+ */
+@Slf4j
+public final class SegmentLogKafkaStore implements InMemoryKafkaStore, AutoCloseable {
+
+    /**
+     * Log settings.
+     *
+     * @param retentionBytes  per-topic size limit, 0 = unlimited
+     * @param retention       per-segment age limit (since last append), ZERO = unlimited
+     * @param indexInterval   bytes between sparse index entries
+     */
+    public record Settings(
+            Path dir,
+            int segmentBytes,
+            long retentionBytes,
+            Duration retention,
+            int indexInterval,
+            Clock clock
+    ) {
+
+        public Settings {
+            Objects.requireNonNull(dir, "dir must not be null");
+            Objects.requireNonNull(retention, "retention must not be null");
+            Objects.requireNonNull(clock, "clock must not be null");
+            if (segmentBytes <= 0) {
+                throw new IllegalArgumentException("segmentBytes must be positive: " + segmentBytes);
+            }
+            if (indexInterval <= 0) {
+                throw new IllegalArgumentException("indexInterval must be positive: " + indexInterval);
+            }
+        }
+
+        long retentionMillis() {
+            return retention.toMillis();
+        }
+
+        long now() {
+            return clock.millis();
+        }
+    }
+
+    // distinct payloads kept canonical across reads
+    private static final int INTERNED_PAYLOADS = 4096;
+
+    private final Settings settings;
+    private final PayloadInterner interner = new PayloadInterner(INTERNED_PAYLOADS);
+    private final Map<String, TopicLog> topics = new ConcurrentHashMap<>();
+    private final TopicSignals signals = new TopicSignals();
+
+    public SegmentLogKafkaStore(Settings settings) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+
+        recover();
+
+        log.info(
+                "SegmentLogKafkaStore created: dir={}, segmentBytes={}, retentionBytes={}, retention={}, topics={}",
+                settings.dir().toAbsolutePath(),
+                settings.segmentBytes(),
+                settings.retentionBytes(),
+                settings.retention(),
+                topics.size()
+        );
+    }
+
+    @Override
+    public void publish(String topic, KafkaMessage message) {
+        Objects.requireNonNull(topic, "topic must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+
+        long offset = topicLog(topic).append(message);
+        signals.signal(topic);
+
+        log.debug("KafkaStore publish: topic={}, key={}, offset={}", topic, message.key(), offset);
+    }
+
+    @Override
+    public void publishAll(String topic, List<KafkaMessage> messages) {
+        Objects.requireNonNull(topic, "topic must not be null");
+        Objects.requireNonNull(messages, "messages must not be null");
+        if (messages.isEmpty()) {
+            return;
+        }
+        messages.forEach(m -> Objects.requireNonNull(m, "message must not be null"));
+
+        try {
+            topicLog(topic).appendAll(messages);
+        } finally {
+            signals.signal(topic);
+        }
+
+        log.debug("KafkaStore publishAll: topic={}, messages={}", topic, messages.size());
+    }
+
+    @Override
+    public List<KafkaMessage> peek(String topic) {
+        TopicLog topicLog = topics.get(topic);
+        if (topicLog == null) {
+            return List.of();
+        }
+
+        List<KafkaMessage> snapshot = topicLog.read(topicLog.startOffset(), Integer.MAX_VALUE).stream()
+                .map(StoredKafkaMessage::message)
+                .toList();
+
+        log.debug("KafkaStore PEEK: topic={}, messages={}", topic, snapshot.size());
+
+        return snapshot;
+    }
+
+    @Override
+    public List<StoredKafkaMessage> read(String topic, long fromOffset, int maxMessages) {
+        TopicLog topicLog = topics.get(topic);
+        if (topicLog == null || maxMessages <= 0) {
+            return List.of();
+        }
+
+        List<StoredKafkaMessage> result = topicLog.read(fromOffset, maxMessages);
+
+        log.debug("KafkaStore READ: topic={}, fromOffset={}, messages={}", topic, fromOffset, result.size());
+
+        return result;
+    }
+
+    @Override
+    public long startOffset(String topic) {
+        TopicLog topicLog = topics.get(topic);
+        return topicLog == null ? 0L : topicLog.startOffset();
+    }
+
+    @Override
+    public long endOffset(String topic) {
+        TopicLog topicLog = topics.get(topic);
+        return topicLog == null ? 0L : topicLog.endOffset();
+    }
+
+    @Override
+    public Optional<KafkaMessage> take(String topic) {
+        List<StoredKafkaMessage> taken = drain(topic, 1);
+        return taken.isEmpty() ? Optional.empty() : Optional.of(taken.get(0).message());
+    }
+
+    @Override
+    public List<StoredKafkaMessage> drain(String topic, int maxMessages) {
+        TopicLog topicLog = topics.get(topic);
+        if (topicLog == null || maxMessages <= 0) {
+            return List.of();
+        }
+
+        List<StoredKafkaMessage> drained = topicLog.take(maxMessages);
+
+        log.debug("KafkaStore DRAIN: topic={}, messages={}", topic, drained.size());
+
+        return drained;
+    }
+
+    /**
+     * Moves the start offset to the end; segments below it are deleted.
+     */
+    @Override
+    public void clear(String topic) {
+        TopicLog topicLog = topics.get(topic);
+        long cleared = topicLog == null ? 0L : topicLog.clear();
+
+        log.info("KafkaStore clear: topic={}, messages={}", topic, cleared);
+    }
+
+    @Override
+    public PublishWatch onNextPublish(String topic, Runnable listener) {
+        return signals.register(topic, listener);
+    }
+
+    @Override
+    public long lag() {
+        long lag = 0L;
+        for (TopicLog topicLog : topics.values()) {
+            lag += Math.max(0L, topicLog.endOffset() - topicLog.startOffset());
+        }
+        return lag;
+    }
+
+    /**
+     * Applies retention to every topic, including idle ones that never roll.
+     */
+    @Scheduled(fixedDelayString = "${mockavior.kafka.store.retention-check-interval-ms:30000}")
+    public void enforceRetention() {
+        for (Map.Entry<String, TopicLog> e : topics.entrySet()) {
+            try {
+                e.getValue().enforceRetention();
+            } catch (RuntimeException ex) {
+                log.warn("Topic log retention failed: topic={}", e.getKey(), ex);
+            }
+        }
+    }
+
+    /**
+     * Flushes mapped pages to disk.
+     */
+    @Override
+    public void close() {
+        topics.values().forEach(TopicLog::flush);
+        log.info("SegmentLogKafkaStore flushed: dir={}, topics={}", settings.dir(), topics.size());
+    }
+
+    private TopicLog topicLog(String topic) {
+        return topics.computeIfAbsent(
+                topic,
+                t -> TopicLog.open(t, settings.dir().resolve(URLEncoder.encode(t, StandardCharsets.UTF_8)), settings, interner)
+        );
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(settings.dir());
+
+            try (Stream<Path> dirs = Files.list(settings.dir())) {
+                for (Path dir : dirs.filter(Files::isDirectory).toList()) {
+                    String topic = URLDecoder.decode(dir.getFileName().toString(), StandardCharsets.UTF_8);
+                    topics.put(topic, TopicLog.open(topic, dir, settings, interner));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open Kafka log dir: " + settings.dir(), e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.KafkaRecord;
+import com.mockavior.kafka.model.KafkaScenario;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records one shard of a scenario publishes, computed once when the runner is created.
+ * Responsibilities:
+ * - Keep the records of the partitions owned by the shard (p % shards == shard; unpartitioned
+ *   topics: shard 0), in scenario order
+ * - Keep the shard on the scenario timeline: the delays of the records it skips are carried to
+ *   its next record (delays of skipped records after its last one are carried, across the scenario
+ *   repeat, to its first record)
+ * Design notes:
+ * - A record carrying skipped delays is split: its first emission waits for the carried delays,
+ *   the remaining message.repeat - 1 emissions only for their own
+ * - Random delays of skipped records are still drawn one by one (DelaySpec.plus / times)
+ * - firstDelay() is the wait before the very first emission, without the wrap-around carry
+ * - share() (emissions per scenario repeat, owned / all) scales a scenario rate to the shard
+ */
+final class ShardRecords {
+
+    private static final DelaySpec NO_DELAY = new DelaySpec(null, null);
+
+    private final List<KafkaRecord> records;
+    private final DelaySpec firstDelay;
+    private final long emissionsPerRepeat;
+    private final double share;
+
+    private ShardRecords(List<KafkaRecord> records, DelaySpec firstDelay, long emissionsPerRepeat, double share) {
+        this.records = records;
+        this.firstDelay = firstDelay;
+        this.emissionsPerRepeat = emissionsPerRepeat;
+        this.share = share;
+    }
+
+    static ShardRecords of(KafkaScenario scenario, int shard, int shards) {
+        List<KafkaRecord> all = scenario.records();
+        if (shards == 1) {
+            return new ShardRecords(all, all.get(0).message().delay(), emissions(all), 1.0);
+        }
+
+        if (all.stream().noneMatch(r -> owns(r, shard, shards))) {
+            return new ShardRecords(List.of(), NO_DELAY, 0L, 0.0);
+        }
+
+        // skipped after the last owned record: waited for before the first one of the next scenario repeat
+        DelaySpec trailing = NO_DELAY;
+        for (int i = all.size() - 1; !owns(all.get(i), shard, shards); i--) {
+            trailing = trailing.plus(skippedDelay(all.get(i)));
+        }
+
+        List<KafkaRecord> owned = new ArrayList<>();
+        DelaySpec skipped = NO_DELAY;
+        DelaySpec firstDelay = null;
+
+        for (KafkaRecord record : all) {
+            if (!owns(record, shard, shards)) {
+                skipped = skipped.plus(skippedDelay(record));
+                continue;
+            }
+
+            if (firstDelay == null) {
+                // the very first emission has no previous scenario repeat to carry from
+                firstDelay = skipped.plus(record.message().delay());
+                addCarrying(owned, record, trailing.plus(skipped));
+            } else {
+                addCarrying(owned, record, skipped);
+            }
+            skipped = NO_DELAY;
+        }
+
+        long ownedEmissions = emissions(owned);
+        return new ShardRecords(List.copyOf(owned), firstDelay, ownedEmissions, (double) ownedEmissions / emissions(all));
+    }
+
+    /**
+     * @return owned records, in scenario order; empty if the shard owns no partition in use
+     */
+    List<KafkaRecord> records() {
+        return records;
+    }
+
+    DelaySpec firstDelay() {
+        return firstDelay;
+    }
+
+    long emissionsPerRepeat() {
+        return emissionsPerRepeat;
+    }
+
+    double share() {
+        return share;
+    }
+
+    static boolean owns(KafkaRecord record, int shard, int shards) {
+        if (shards == 1) {
+            return true;
+        }
+        return record.partition() == null
+                ? shard == 0
+                : record.partition() % shards == shard;
+    }
+
+    private static DelaySpec skippedDelay(KafkaRecord record) {
+        return record.message().delay().times(record.message().repeat());
+    }
+
+    private static void addCarrying(List<KafkaRecord> owned, KafkaRecord record, DelaySpec carried) {
+        KafkaMessage message = record.message();
+        if (carried.isZero()) {
+            owned.add(record);
+            return;
+        }
+
+        owned.add(withDelay(record, 1, carried.plus(message.delay())));
+        if (message.repeat() > 1) {
+            owned.add(withDelay(record, message.repeat() - 1, message.delay()));
+        }
+    }
+
+    private static KafkaRecord withDelay(KafkaRecord record, int repeat, DelaySpec delay) {
+        KafkaMessage message = record.message();
+        return new KafkaRecord(
+                record.topic(),
+                new KafkaMessage(message.topic(), message.key(), message.value(), repeat, delay),
+                record.partition()
+        );
+    }
+
+    private static long emissions(List<KafkaRecord> records) {
+        long emissions = 0L;
+        for (KafkaRecord record : records) {
+            emissions += record.message().repeat();
+        }
+        return emissions;
+    }
+}
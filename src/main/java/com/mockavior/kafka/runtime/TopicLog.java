@@ -0,0 +1,310 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Segmented log of one topic (directory of LogSegment files plus a start offset file).
+ * Design notes:
+ * - Writes (append, take, clear, retention) are serialized on this instance
+ * - Reads are lock-free: they work on the current immutable segment list and volatile offsets;
+ *   a segment deleted meanwhile stays readable through its mapping
+ * - Start offset (moved by take/clear/retention) is persisted in an 8-byte mapped file,
+ *   so consumed messages stay consumed across restarts
+ * - Retention, applied when a segment rolls, on clear and by the store's periodic sweep:
+ *   - closed segments fully below the start offset are deleted
+ *   - oldest closed segments are deleted while the topic is above retentionBytes
+ *   - closed segments with no append for retentionMillis are deleted; the sweep first rolls
+ *     an expired active segment, so an idle topic does not keep its last segment forever
+ */
+@Slf4j
+final class TopicLog {
+
+    private static final String START_FILE = "start.offset";
+
+    private final String topic;
+    private final Path dir;
+    private final SegmentLogKafkaStore.Settings settings;
+    private final PayloadInterner interner;
+    private final MappedByteBuffer startFile;
+
+    // ascending base offsets; last is the active segment
+    private volatile List<LogSegment> segments;
+    private volatile long startOffset;
+
+    private TopicLog(
+            String topic,
+            Path dir,
+            SegmentLogKafkaStore.Settings settings,
+            PayloadInterner interner,
+            MappedByteBuffer startFile,
+            List<LogSegment> segments,
+            long startOffset
+    ) {
+        this.topic = topic;
+        this.dir = dir;
+        this.settings = settings;
+        this.interner = interner;
+        this.startFile = startFile;
+        this.segments = segments;
+        this.startOffset = startOffset;
+    }
+
+    /**
+     * Opens the topic directory, creating it or recovering existing segments.
+     */
+    static TopicLog open(String topic, Path dir, SegmentLogKafkaStore.Settings settings, PayloadInterner interner) {
+        try {
+            Files.createDirectories(dir);
+
+            List<LogSegment> segments = new ArrayList<>();
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.filter(LogSegment::isSegmentFile).sorted().toList()) {
+                    segments.add(LogSegment.open(file, settings.indexInterval()));
+                }
+            }
+            if (segments.isEmpty()) {
+                segments.add(LogSegment.create(dir, 0L, settings.segmentBytes(), settings.indexInterval(), settings.now()));
+            }
+
+            MappedByteBuffer startFile;
+            try (FileChannel channel = FileChannel.open(
+                    dir.resolve(START_FILE),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+            )) {
+                startFile = channel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+            }
+
+            long start = Math.max(startFile.getLong(0), segments.get(0).baseOffset());
+            TopicLog topicLog = new TopicLog(topic, dir, settings, interner, startFile, List.copyOf(segments), start);
+
+            log.info(
+                    "Topic log opened: topic={}, dir={}, segments={}, startOffset={}, endOffset={}",
+                    topic,
+                    dir,
+                    segments.size(),
+                    start,
+                    topicLog.endOffset()
+            );
+            return topicLog;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open topic log: topic=" + topic + ", dir=" + dir, e);
+        }
+    }
+
+    // ------------------------------------------------------------
+    // write
+    // ------------------------------------------------------------
+
+    synchronized long append(KafkaMessage message) {
+        byte[] key = message.key() == null ? null : message.key().getBytes(StandardCharsets.UTF_8);
+
+        LogSegment active = active();
+        long offset = active.nextOffset();
+
+        if (!active.append(offset, key, message, settings.now())) {
+            active = roll(offset, LogSegment.recordSize(key, message));
+            if (!active.append(offset, key, message, settings.now())) {
+                throw new IllegalStateException("Record does not fit a fresh segment: topic=" + topic);
+            }
+        }
+        return offset;
+    }
+
+    synchronized void appendAll(List<KafkaMessage> messages) {
+        for (KafkaMessage message : messages) {
+            append(message);
+        }
+    }
+
+    synchronized List<StoredKafkaMessage> take(int maxMessages) {
+        List<StoredKafkaMessage> taken = read(startOffset, maxMessages);
+        if (!taken.isEmpty()) {
+            moveStart(taken.get(taken.size() - 1).offset() + 1);
+        }
+        return taken;
+    }
+
+    synchronized long clear() {
+        long end = endOffset();
+        long cleared = Math.max(0L, end - startOffset);
+        moveStart(end);
+        applyRetention();
+        return cleared;
+    }
+
+    /**
+     * Periodic retention: also applies when nothing is appended (time limit, consumed segments).
+     */
+    synchronized void enforceRetention() {
+        LogSegment active = active();
+        if (settings.retentionMillis() > 0
+                && !active.isEmpty()
+                && active.lastAppendMillis() < settings.now() - settings.retentionMillis()) {
+            // roll() applies retention
+            roll(active.nextOffset(), 0);
+            return;
+        }
+        applyRetention();
+    }
+
+    private LogSegment roll(long baseOffset, int recordSize) {
+        try {
+            List<LogSegment> rolled = new ArrayList<>(segments);
+
+            LogSegment previous = rolled.get(rolled.size() - 1);
+            if (previous.isEmpty()) {
+                // nothing was ever written to it (record too large): replace, same base offset
+                rolled.remove(rolled.size() - 1);
+                previous.delete();
+            }
+
+            // oversized record: a segment of its own
+            int capacity = Math.max(settings.segmentBytes(), recordSize + Integer.BYTES);
+            LogSegment segment = LogSegment.create(dir, baseOffset, capacity, settings.indexInterval(), settings.now());
+
+            rolled.add(segment);
+            segments = List.copyOf(rolled);
+
+            log.debug("Topic log rolled: topic={}, baseOffset={}, segments={}", topic, baseOffset, rolled.size());
+
+            applyRetention();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll topic log: topic=" + topic, e);
+        }
+    }
+
+    private void applyRetention() {
+        List<LogSegment> current = segments;
+        if (current.size() <= 1) {
+            return;
+        }
+
+        long totalBytes = 0L;
+        for (LogSegment segment : current) {
+            totalBytes += segment.size();
+        }
+
+        long expiredBefore = settings.retentionMillis() > 0
+                ? settings.now() - settings.retentionMillis()
+                : Long.MIN_VALUE;
+
+        List<LogSegment> kept = new ArrayList<>(current);
+        int deleted = 0;
+
+        // never the active (last) segment
+        while (kept.size() > 1) {
+            LogSegment oldest = kept.get(0);
+
+            boolean consumed = oldest.nextOffset() <= startOffset;
+            boolean overSize = settings.retentionBytes() > 0 && totalBytes > settings.retentionBytes();
+            boolean expired = oldest.lastAppendMillis() < expiredBefore;
+
+            if (!consumed && !overSize && !expired) {
+                break;
+            }
+
+            kept.remove(0);
+            totalBytes -= oldest.size();
+            deleted++;
+
+            try {
+                oldest.delete();
+            } catch (IOException e) {
+                log.warn("Failed to delete log segment: file={}", oldest.file(), e);
+            }
+        }
+
+        if (deleted == 0) {
+            return;
+        }
+
+        segments = List.copyOf(kept);
+        moveStart(kept.get(0).baseOffset());
+
+        log.info("Topic log retention: topic={}, segmentsDeleted={}, startOffset={}", topic, deleted, startOffset);
+    }
+
+    private void moveStart(long offset) {
+        if (offset > startOffset) {
+            startOffset = offset;
+            startFile.putLong(0, offset);
+        }
+    }
+
+    private LogSegment active() {
+        List<LogSegment> current = segments;
+        return current.get(current.size() - 1);
+    }
+
+    // ------------------------------------------------------------
+    // read (lock-free)
+    // ------------------------------------------------------------
+
+    List<StoredKafkaMessage> read(long fromOffset, int maxMessages) {
+        List<LogSegment> current = segments;
+        long from = Math.max(fromOffset, startOffset);
+
+        List<StoredKafkaMessage> result = new ArrayList<>(Math.min(maxMessages, 64));
+
+        for (int i = segmentIndex(current, from); i < current.size() && result.size() < maxMessages; i++) {
+            LogSegment segment = current.get(i);
+
+            int position = segment.seek(from);
+            while (segment.hasRecord(position) && result.size() < maxMessages) {
+                result.add(segment.read(position, topic, interner));
+                position = segment.next(position);
+            }
+        }
+        return result;
+    }
+
+    long startOffset() {
+        return startOffset;
+    }
+
+    long endOffset() {
+        return active().nextOffset();
+    }
+
+    void flush() {
+        for (LogSegment segment : segments) {
+            segment.flush();
+        }
+        startFile.force();
+    }
+
+    // last segment with baseOffset <= offset (0 if offset precedes all)
+    private static int segmentIndex(List<LogSegment> current, long offset) {
+        int low = 0;
+        int high = current.size() - 1;
+        int found = 0;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (current.get(mid).baseOffset() <= offset) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,77 @@
+package com.mockavior.kafka.runtime;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-topic "message published" signal shared by store implementations.
+ * Design notes:
+ * - A waiter registers a listener, re-checks the store, then returns: a publish after
+ *   registering always runs the listener, so wake-ups are never lost
+ * - Listeners are one-shot and removable: a waiter that times out or closes cancels its
+ *   PublishWatch, so nothing accumulates for topics nobody publishes to
+ * - publish pays one map lookup and one volatile read when nobody is waiting
+ * - Listeners run on the publishing thread, outside the topic lock
+ */
+@Slf4j
+final class TopicSignals {
+
+    private final Map<String, Listeners> topics = new ConcurrentHashMap<>();
+
+    PublishWatch register(String topic, Runnable listener) {
+        return topics.computeIfAbsent(topic, t -> new Listeners()).add(listener);
+    }
+
+    void signal(String topic) {
+        Listeners listeners = topics.get(topic);
+        if (listeners == null || listeners.waiting == 0) {
+            return;
+        }
+        listeners.fire();
+    }
+
+    private static final class Listeners {
+
+        // guarded by this
+        private final Set<Runnable> armed = new LinkedHashSet<>();
+        private volatile int waiting;
+
+        PublishWatch add(Runnable listener) {
+            // a distinct instance per registration: the same Runnable may be registered twice
+            Runnable entry = listener::run;
+            synchronized (this) {
+                armed.add(entry);
+                waiting = armed.size();
+            }
+            return new PublishWatch(() -> remove(entry));
+        }
+
+        private synchronized void remove(Runnable entry) {
+            if (armed.remove(entry)) {
+                waiting = armed.size();
+            }
+        }
+
+        void fire() {
+            List<Runnable> fired;
+            synchronized (this) {
+                fired = new ArrayList<>(armed);
+                armed.clear();
+                waiting = 0;
+            }
+            for (Runnable listener : fired) {
+                try {
+                    listener.run();
+                } catch (RuntimeException e) {
+                    log.warn("Publish listener failed", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.mockavior.kafka.runtime;
+
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import com.mockavior.runtime.scheduler.RuntimeScheduler;
+import com.mockavior.runtime.scheduler.TaskHandle;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Waits for messages instead of busy polling the store.
+ * Responsibilities:
+ * - Long-poll take / drain: complete as soon as messages can be taken, or empty after the wait
+ * - Topic streams: push every new message of a topic to a sink until closed
+ * Design notes:
+ * - No thread is parked per waiter: waiters register with InMemoryKafkaStore.onNextPublish
+ *   and continue when a publish runs the listener
+ * - A waiter unregisters when it completes, times out or is closed: idle topics keep no listeners
+ * - Publisher threads only hand off; store reads and sink calls never run on them
+ * - Long polls continue on RuntimeScheduler (non-blocking store reads only); stream pumps run
+ *   on their own virtual threads because the sink (SSE send) blocks on the client.
+ *   A stream has at most one pump running (work-in-progress counter), so pump threads are
+ *   bounded by open streams and the sink is never called concurrently
+ * - A taken message is handed to exactly one waiter: take, timeout and cancel are decided
+ *   under the waiter's monitor
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public final class TopicWaiter {
+
+    private static final int STREAM_BATCH = 256;
+
+    @NonNull
+    private final InMemoryKafkaStore store;
+
+    @NonNull
+    private final ConsumerGroupOffsets consumerGroups;
+
+    @NonNull
+    private final RuntimeScheduler scheduler;
+
+    private final ExecutorService streamPumps =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-stream-", 0).factory());
+
+    /**
+     * Takes the first message of topic, waiting up to {@code wait} for one to be published.
+     * Cancelling the returned future abandons the wait: no message is taken for it afterwards.
+     *
+     * @return future with the message, or empty when the wait elapsed
+     */
+    public CompletableFuture<Optional<KafkaMessage>> take(String topic, Duration wait) {
+        Objects.requireNonNull(topic, "topic must not be null");
+
+        return await(topic, wait, () -> store.take(topic).map(Optional::of), Optional.empty());
+    }
+
+    /**
+     * Drains up to {@code maxMessages} from topic, waiting up to {@code wait} for at least one.
+     * Cancelling the returned future abandons the wait: nothing is drained for it afterwards.
+     *
+     * @return future with the drained messages, empty when the wait elapsed
+     */
+    public CompletableFuture<List<StoredKafkaMessage>> drain(String topic, int maxMessages, Duration wait) {
+        Objects.requireNonNull(topic, "topic must not be null");
+
+        return await(
+                topic,
+                wait,
+                () -> Optional.of(store.drain(topic, maxMessages)).filter(l -> !l.isEmpty()),
+                List.of()
+        );
+    }
+
+    /**
+     * Streams topic messages to {@code sink} in offset order, waiting for new ones when caught up.
+     * With a group, offsets are committed for the group as batches are read (at-most-once);
+     * without one, the stream keeps its own position starting at {@code fromOffset}.
+     * The stream ends when the sink returns false or the handle is closed.
+     */
+    public Subscription stream(
+            String topic,
+            String group,
+            long fromOffset,
+            Predicate<List<StoredKafkaMessage>> sink
+    ) {
+        Objects.requireNonNull(topic, "topic must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+
+        Subscription subscription = new Subscription(topic, group, fromOffset, sink);
+        subscription.signal();
+
+        log.debug("Topic stream opened: topic={}, group={}, fromOffset={}", topic, group, fromOffset);
+        return subscription;
+    }
+
+    private <T> CompletableFuture<T> await(String topic, Duration wait, Supplier<Optional<T>> attempt, T empty) {
+        Objects.requireNonNull(wait, "wait must not be null");
+
+        Waiter<T> waiter = new Waiter<>(topic, attempt, empty);
+        waiter.attempt();
+        waiter.expireAfter(wait);
+        return waiter.result;
+    }
+
+    private void handOff(Runnable task) {
+        scheduler.scheduleTask(task, Duration.ZERO);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamPumps.shutdownNow();
+    }
+
+    // ------------------------------------------------------------
+    // long-poll take / drain
+    // ------------------------------------------------------------
+
+    private final class Waiter<T> {
+
+        private final String topic;
+        private final Supplier<Optional<T>> destructiveRead;
+        private final T empty;
+
+        // cancel() settles under the waiter's monitor, like take and timeout
+        private final CompletableFuture<T> result = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return abandon();
+            }
+        };
+
+        // guarded by this
+        private TaskHandle timeout;
+        private PublishWatch watch;
+
+        private Waiter(String topic, Supplier<Optional<T>> destructiveRead, T empty) {
+            this.topic = topic;
+            this.destructiveRead = destructiveRead;
+            this.empty = empty;
+        }
+
+        synchronized void attempt() {
+            if (result.isDone()) {
+                return;
+            }
+
+            // arm before reading: a publish after the read attempt still wakes us
+            watch = store.onNextPublish(topic, () -> handOff(this::attempt));
+
+            Optional<T> value = destructiveRead.get();
+            if (value.isPresent()) {
+                result.complete(value.get());
+                release();
+            }
+        }
+
+        synchronized void expireAfter(Duration wait) {
+            if (!result.isDone()) {
+                timeout = scheduler.scheduleTask(this::expire, wait);
+            }
+        }
+
+        synchronized void expire() {
+            result.complete(empty);
+            release();
+        }
+
+        // the caller is gone: once this returns true no destructive read runs for this waiter
+        synchronized boolean abandon() {
+            boolean abandoned = result.completeExceptionally(new CancellationException("waiter abandoned"));
+            release();
+            return abandoned;
+        }
+
+        private void release() {
+            if (watch != null) {
+                watch.cancel();
+            }
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+
+    // ------------------------------------------------------------
+    // streams
+    // ------------------------------------------------------------
+
+    /**
+     * Handle of an open topic stream.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final String topic;
+        private final String group;
+        private final Predicate<List<StoredKafkaMessage>> sink;
+
+        // pump requests not yet served; the request that moves it off 0 starts the only pump
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // next offset for group-less streams; only touched by pump()
+        private long position;
+        private volatile boolean closed;
+        private volatile PublishWatch watch;
+
+        private Subscription(
+                String topic,
+                String group,
+                long fromOffset,
+                Predicate<List<StoredKafkaMessage>> sink
+        ) {
+            this.topic = topic;
+            this.group = group;
+            this.position = Math.max(0L, fromOffset);
+            this.sink = sink;
+        }
+
+        // stream start and publish listeners both come through here
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                streamPumps.execute(this::pump);
+            }
+        }
+
+        // single runner: requests arriving while it runs are folded into another pass
+        private void pump() {
+            int missed = 1;
+            try {
+                do {
+                    drainToSink();
+                    missed = wip.addAndGet(-missed);
+                } while (missed != 0);
+            } catch (RuntimeException e) {
+                // wip is left non-zero: a failed stream never starts another pump
+                log.warn("Topic stream failed: topic={}, group={}", topic, group, e);
+                close();
+            }
+        }
+
+        private void drainToSink() {
+            // a listener armed by the previous pass is not needed while this one reads
+            PublishWatch previous = watch;
+            if (previous != null) {
+                previous.cancel();
+            }
+
+            while (!closed) {
+                List<StoredKafkaMessage> batch = nextBatch();
+                if (batch.isEmpty()) {
+                    // caught up: arm, then re-check so a publish in between is not missed
+                    PublishWatch armed = store.onNextPublish(topic, this::signal);
+                    batch = nextBatch();
+                    if (batch.isEmpty()) {
+                        watch = armed;
+                        if (closed) {
+                            armed.cancel();
+                        }
+                        return;
+                    }
+                    // a publish may already have run the listener: it only counts another pass
+                    armed.cancel();
+                }
+
+                if (!sink.test(batch)) {
+                    close();
+                }
+            }
+        }
+
+        private List<StoredKafkaMessage> nextBatch() {
+            if (group != null) {
+                return consumerGroups.poll(group, topic, STREAM_BATCH).messages();
+            }
+
+            List<StoredKafkaMessage> batch = store.read(topic, position, STREAM_BATCH);
+            if (!batch.isEmpty()) {
+                position = batch.get(batch.size() - 1).offset() + 1;
+            }
+            return batch;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                PublishWatch armed = watch;
+                if (armed != null) {
+                    armed.cancel();
+                }
+                log.debug("Topic stream closed: topic={}, group={}", topic, group);
+            }
+        }
+    }
+}
@@ -8,11 +8,16 @@ import com.mockavior.kafka.runtime.ScenarioExecutionRunner;
 import com.mockavior.runtime.scheduler.RuntimeScheduler;
 import com.mockavior.runtime.snapshot.SnapshotHandle;
 import com.mockavior.runtime.snapshot.SnapshotRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,8 +25,9 @@ import java.util.UUID;
  *
  * Responsibilities:
  * - Resolve KafkaScenario from active snapshot
- * - Create and start ScenarioExecutionRunner
+ * - Create and start ScenarioExecutionRunner (or one runner per shard)
  * - Stop running executions
+ * - List executions, reap ended ones periodically
  */
 @Slf4j
 @Service
@@ -31,21 +37,35 @@ public class KafkaScenarioService {
     private final RuntimeScheduler scheduler;
     private final ScenarioExecutionRegistry registry;
     private final InMemoryKafkaStore store;
+    private final MeterRegistry meterRegistry;
 
     public KafkaScenarioService(
             SnapshotRegistry snapshotRegistry,
             RuntimeScheduler scheduler,
             ScenarioExecutionRegistry registry,
-            InMemoryKafkaStore store
+            InMemoryKafkaStore store,
+            MeterRegistry meterRegistry
     ) {
         this.snapshotRegistry = snapshotRegistry;
         this.scheduler = scheduler;
         this.registry = registry;
         this.store = store;
+        this.meterRegistry = meterRegistry;
     }
 
     public ScenarioExecutionRunner startScenario(String scenarioId) {
+        return startScenario(scenarioId, 1).get(0);
+    }
+
+    /**
+     * Starts {@code shards} parallel runners of one scenario, each publishing its share of the
+     * partitions. Shards are capped at the largest partition count among the scenario topics.
+     */
+    public List<ScenarioExecutionRunner> startScenario(String scenarioId, int shards) {
         Objects.requireNonNull(scenarioId, "scenarioId must not be null");
+        if (shards <= 0) {
+            throw new IllegalArgumentException("shards must be >= 1: " + shards);
+        }
 
         SnapshotHandle handle = snapshotRegistry.active();
         ContractSnapshot snapshot = handle.snapshot();
@@ -68,29 +88,61 @@ public class KafkaScenarioService {
             );
         }
 
-        ScenarioExecutionRunner runner =
-                new ScenarioExecutionRunner(
-                        scenario,
-                        scheduler,
-                        store
-                );
+        int maxShards = scenario.records().stream()
+                .mapToInt(r -> Math.max(1, snapshot.kafkaPartitions(r.topic())))
+                .max()
+                .orElse(1);
+
+        if (shards > maxShards) {
+            log.warn(
+                    "Kafka scenario shards capped: scenarioId={}, requested={}, partitions={}",
+                    scenarioId,
+                    shards,
+                    maxShards
+            );
+            shards = maxShards;
+        }
+
+        List<ScenarioExecutionRunner> runners = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            runners.add(
+                    new ScenarioExecutionRunner(
+                            scenario,
+                            scheduler,
+                            store,
+                            meterRegistry,
+                            shard,
+                            shards
+                    )
+            );
+        }
+
+        for (ScenarioExecutionRunner runner : runners) {
+            registry.register(runner);
+            runner.startAsync();
 
-        registry.register(runner);
-        runner.startAsync();
+            log.info(
+                    "Kafka scenario started: scenarioId={}, executionId={}, shards={}",
+                    scenarioId,
+                    runner.executionId(),
+                    shards
+            );
+        }
 
-        log.info(
-                "Kafka scenario started: scenarioId={}, executionId={}",
-                scenarioId,
-                runner.executionId()
-        );
+        return runners;
+    }
 
-        return runner;
+    /**
+     * Partition count of a topic in the active contract, 0 if the topic is not partitioned.
+     */
+    public int partitions(String topic) {
+        return snapshotRegistry.active().snapshot().kafkaPartitions(topic);
     }
 
     public boolean stopExecution(UUID executionId) {
         Objects.requireNonNull(executionId, "executionId must not be null");
 
-        boolean stopped = registry.stopAndRemove(executionId);
+        boolean stopped = registry.stop(executionId);
 
         if (stopped) {
             log.info("Kafka execution stopped: executionId={}", executionId);
@@ -100,4 +152,17 @@ public class KafkaScenarioService {
 
         return stopped;
     }
+
+    public List<ScenarioExecutionRunner> executions() {
+        return registry.list();
+    }
+
+    public Optional<ScenarioExecutionRunner> execution(UUID executionId) {
+        return registry.find(executionId);
+    }
+
+    @Scheduled(fixedDelayString = "${mockavior.kafka.executions.reap-interval-ms:10000}")
+    public void reapExecutions() {
+        registry.reap();
+    }
 }
@@ -1,56 +1,258 @@
 package com.mockavior.routing;
 
 import com.mockavior.core.request.GenericRequest;
+import com.mockavior.core.request.Protocol;
+import com.mockavior.routing.when.RequestJson;
 import com.mockavior.routing.when.WhenCondition;
+import com.mockavior.transport.http.HttpMethod;
+import com.mockavior.transport.http.HttpPathPattern;
+import com.mockavior.transport.http.HttpRouteMatcher;
+import com.mockavior.transport.http.HttpRouteTrie;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Default router:
  * - sorts routes by priority descending
- * - iterates and returns first matched route
+ * - indexes HTTP routes in a path trie (method -> path segments), built once per contract
+ * - indexes literal paths (no {param}) in a hash map: method -> path -> candidates
+ * - collects path candidates from the literal index, else from the trie (plus non-indexable routes matched linearly)
+ * - evaluates candidates in priority order and returns first route passing its when-condition
+ *   (the request body, if a when.body rule needs it, is parsed once and shared by all candidates)
+ * Literal index:
+ * - an entry holds every HTTP route matching that exact path, not only the literal ones: pattern
+ *   routes that also match it (e.g. /users/{id} for /users/me) are resolved once at build time,
+ *   with their params, so a hit needs neither the trie nor a regex and priority order is unchanged
+ * - routes with non-HTTP matchers cannot be resolved at build time and are still matched per request
+ * - each resolved candidate also carries its RouteMatch, returned as is when the request has no query
+ * Variant groups:
+ * - routes sharing method + path template that each require a value of the same header
+ *   (e.g. x-tenant: a / b / c) are indexed as one trie entry: header value -> routes
+ * - a request looks the header up once and only the routes requiring that value are evaluated;
+ *   they are merged back with the other candidates by ordinal, so priority order is unchanged
+ * - the rest of a selected route's when-condition is still evaluated as usual
+ * Params:
+ * - path params stay offsets into the path (PathParams) until read; query params are overlaid by a
+ *   read-only view (RouteParams), so routing a request copies nothing a non-templated response never reads
  */
 @Slf4j
 public final class DefaultRouter implements Router {
 
     private final List<Route> routes;
+    private final HttpRouteTrie<IndexedRoute> trie = new HttpRouteTrie<>();
+    private final List<IndexedRoute> unindexed;
+    private final Map<HttpMethod, Map<String, List<Candidate>>> literals = new EnumMap<>(HttpMethod.class);
+
+    // unindexed routes whose matcher is not HTTP (not resolvable at build time)
+    private final List<IndexedRoute> opaque;
+
+    private final RoutingMetrics metrics;
 
     public DefaultRouter(List<Route> routes) {
+        this(routes, RoutingMetrics.NOOP);
+    }
+
+    public DefaultRouter(List<Route> routes, RoutingMetrics metrics) {
         Objects.requireNonNull(routes, "routes must not be null");
+        this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
         this.routes = routes.stream()
                 .sorted(Comparator.comparingInt(Route::priority).reversed())
                 .toList();
-    }
 
-    @Override
-    public Optional<RouteMatch> find(GenericRequest request) {
+        List<IndexedRoute> all = new ArrayList<>(this.routes.size());
+        for (int ordinal = 0; ordinal < this.routes.size(); ordinal++) {
+            all.add(new IndexedRoute(ordinal, this.routes.get(ordinal), null));
+        }
+
+        Set<IndexedRoute> grouped = indexVariantGroups(all);
+
+        List<IndexedRoute> linear = new ArrayList<>();
+        for (IndexedRoute indexed : all) {
+            if (grouped.contains(indexed)) {
+                continue;
+            }
+            Route route = indexed.route();
+
+            boolean inTrie = route.matcher() instanceof HttpRouteMatcher http
+                    && trie.insert(http.method(), http.pathTemplate(), indexed);
+
+            if (!inTrie) {
+                linear.add(indexed);
+            }
+        }
+        this.unindexed = List.copyOf(linear);
+        this.opaque = linear.stream()
+                .filter(r -> !(r.route().matcher() instanceof HttpRouteMatcher))
+                .toList();
+
+        indexLiterals();
+
         log.debug(
-                "Routing request: method={}, operation={}, routes={}",
-                request.metadata("method"),
-                request.operation(),
-                routes.size()
+                "Router built: routes={}, indexed={}, unindexed={}, literalPaths={}, variantRoutes={}",
+                this.routes.size(),
+                this.routes.size() - unindexed.size(),
+                unindexed.size(),
+                literals.values().stream().mapToInt(Map::size).sum(),
+                grouped.size()
         );
+    }
 
-        for (Route route : routes) {
-// 1️⃣ Path / method matching
-            MatchResult mr = route.matcher().match(request);
-            if (!mr.matched()) {
-                log.trace(
-                        "Route not matched by path/method: routeId={}",
-                        route.id()
+    /**
+     * Inserts variant groups into the trie.
+     *
+     * @return routes indexed through a group (not to be inserted on their own)
+     */
+    private Set<IndexedRoute> indexVariantGroups(List<IndexedRoute> all) {
+        Map<String, List<IndexedRoute>> siblings = new LinkedHashMap<>();
+        for (IndexedRoute indexed : all) {
+            Route route = indexed.route();
+            if (route.matcher() instanceof HttpRouteMatcher http
+                    && route.when() != null
+                    && !route.when().headerEqualities().isEmpty()) {
+                siblings.computeIfAbsent(http.method() + " " + http.pathTemplate(), k -> new ArrayList<>()).add(indexed);
+            }
+        }
+
+        Set<IndexedRoute> grouped = new HashSet<>();
+        for (List<IndexedRoute> sameTemplate : siblings.values()) {
+            String header = discriminator(sameTemplate);
+            if (header == null) {
+                continue;
+            }
+
+            // ordinal order is kept inside each value list
+            Map<String, List<IndexedRoute>> byValue = new HashMap<>();
+            List<IndexedRoute> members = new ArrayList<>();
+            for (IndexedRoute indexed : sameTemplate) {
+                String value = indexed.route().when().headerEqualities().get(header);
+                if (value != null) {
+                    byValue.computeIfAbsent(value, v -> new ArrayList<>()).add(indexed);
+                    members.add(indexed);
+                }
+            }
+            byValue.replaceAll((v, list) -> List.copyOf(list));
+
+            IndexedRoute first = members.get(0);
+            HttpRouteMatcher http = (HttpRouteMatcher) first.route().matcher();
+            IndexedRoute group = new IndexedRoute(first.ordinal(), first.route(), new VariantGroup(header, Map.copyOf(byValue)));
+
+            if (trie.insert(http.method(), http.pathTemplate(), group)) {
+                grouped.addAll(members);
+                log.debug(
+                        "Variant group indexed: {} {}, header={}, routes={}, values={}",
+                        http.method(),
+                        http.pathTemplate(),
+                        header,
+                        members.size(),
+                        byValue.size()
                 );
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * Header with an equality rule in most of the routes (at least two), or null.
+     */
+    private static String discriminator(List<IndexedRoute> sameTemplate) {
+        if (sameTemplate.size() < 2) {
+            return null;
+        }
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (IndexedRoute indexed : sameTemplate) {
+            for (String header : indexed.route().when().headerEqualities().keySet()) {
+                counts.merge(header, 1, Integer::sum);
+            }
+        }
+
+        String best = null;
+        int bestCount = 1;
+        for (Map.Entry<String, Integer> e : counts.entrySet()) {
+            if (e.getValue() > bestCount || (e.getValue() == bestCount && best != null && e.getKey().compareTo(best) < 0)) {
+                best = e.getKey();
+                bestCount = e.getValue();
+            }
+        }
+        return best;
+    }
+
+    private void indexLiterals() {
+        for (Route route : routes) {
+            if (!(route.matcher() instanceof HttpRouteMatcher http)
+                    || !HttpPathPattern.isLiteral(http.pathTemplate())) {
                 continue;
             }
 
+            Map<String, List<Candidate>> paths = literals.computeIfAbsent(http.method(), m -> new HashMap<>());
+            String path = http.pathTemplate();
+            if (!paths.containsKey(path)) {
+                paths.put(path, resolve(http.method(), path));
+            }
+        }
+    }
+
+    /**
+     * Every HTTP route matching {@code method path}, in priority order (build time).
+     */
+    private List<Candidate> resolve(HttpMethod method, String path) {
+        List<Candidate> result = new ArrayList<>();
+
+        for (HttpRouteTrie.Match<IndexedRoute> m : trie.find(method, path)) {
+            IndexedRoute indexed = m.value();
+            result.add(indexed.variants() != null
+                    ? Candidate.of(indexed, Map.copyOf(m.params()))
+                    : Candidate.resolved(indexed.ordinal(), indexed.route(), Map.copyOf(m.params())));
+        }
+
+        for (IndexedRoute indexed : unindexed) {
+            if (indexed.route().matcher() instanceof HttpRouteMatcher http && http.method() == method) {
+                Map<String, Object> params = http.matchPath(path);
+                if (params != null) {
+                    result.add(Candidate.resolved(indexed.ordinal(), indexed.route(), Map.copyOf(params)));
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingInt(Candidate::ordinal));
+        return List.copyOf(result);
+    }
+
+    @Override
+    public Optional<RouteMatch> find(GenericRequest request) {
+        if (log.isDebugEnabled()) {
+            log.debug(
+                    "Routing request: method={}, operation={}, routes={}",
+                    request.metadata("method"),
+                    request.operation(),
+                    routes.size()
+            );
+        }
+
+        // 1️⃣ Path / method matching (trie lookup + non-indexable routes), in priority order
+        List<Candidate> candidates = withVariants(candidates(request), request);
+        RequestJson body = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            Route route = candidate.route();
+
             // 2️⃣ When-condition matching
             WhenCondition when = route.when();
-            if (when != null && !when.matches(request)) {
+            if (when != null && when.hasBodyConditions() && body == null) {
+                body = RequestJson.of(request);
+            }
+            if (when != null && !when.matches(request, body)) {
                 log.debug(
                         "Route matched by path but rejected by when-condition: routeId={}, when={}",
                         route.id(),
@@ -59,10 +261,16 @@ public final class DefaultRouter implements Router {
                 continue;
             }
 
-            // 3️⃣ Merge params for behavior/template usage
-            Map<String, Object> mergedParams = new HashMap<>();
-            mergedParams.putAll(mr.params());     // {id}
-            mergedParams.putAll(extractQueryParams(request));     // {active}
+            // 3️⃣ Merge params for behavior/template usage: {id} + {active}, query wins
+            Object query = request.metadata("query");
+            if (!(query instanceof Map<?, ?> queryParams)) {
+                log.debug("Route selected: routeId={}, params={}", route.id(), candidate.params());
+                return candidate.match() != null
+                        ? candidate.match()
+                        : Optional.of(new RouteMatch(route, MatchResult.matched(candidate.params())));
+            }
+
+            Map<String, Object> mergedParams = new RouteParams(candidate.params(), queryParams);
 
             log.debug(
                     "Route selected: routeId={}, params={}",
@@ -70,10 +278,7 @@ public final class DefaultRouter implements Router {
                     mergedParams
             );
 
-            MatchResult enriched =
-                    MatchResult.matched(mergedParams);
-
-            return Optional.of(new RouteMatch(route, enriched));
+            return Optional.of(new RouteMatch(route, MatchResult.matched(mergedParams)));
         }
 
         // No route matched
@@ -85,22 +290,139 @@ public final class DefaultRouter implements Router {
         return Optional.empty();
     }
 
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> extractQueryParams(GenericRequest request) {
-        Object queryObj = request.metadata().get("query");
-        if (!(queryObj instanceof Map<?, ?> raw)) {
-            return Map.of();
+    /**
+     * Routes whose path/method matches the request, ordered exactly as the linear scan would visit them.
+     */
+    private List<Candidate> candidates(GenericRequest request) {
+        HttpMethod method = request.protocol() == Protocol.HTTP
+                && request.metadata("method") instanceof HttpMethod requestMethod
+                ? requestMethod
+                : null;
+
+        if (method != null) {
+            Map<String, List<Candidate>> paths = literals.get(method);
+            List<Candidate> literal = paths == null ? null : paths.get(request.operation());
+            if (literal != null) {
+                metrics.literalLookup();
+                return opaque.isEmpty() ? literal : withMatching(new ArrayList<>(literal), opaque, request);
+            }
         }
 
-        Map<String, Object> result = new HashMap<>();
-        for (Map.Entry<?, ?> e : raw.entrySet()) {
-            String key = String.valueOf(e.getKey());
-            Object value = e.getValue();
+        metrics.patternLookup();
+
+        List<Candidate> result = new ArrayList<>();
+
+        if (method != null) {
+            for (HttpRouteTrie.Match<IndexedRoute> m : trie.find(method, request.operation())) {
+                result.add(Candidate.of(m.value(), m.params()));
+            }
+        }
+
+        return withMatching(result, unindexed, request);
+    }
 
-            if (value instanceof List<?> list && !list.isEmpty()) {
-                result.put(key, list.get(0));
+    /**
+     * Adds the routes of {@code linear} matching the request to {@code result}, then sorts it by priority.
+     */
+    private static List<Candidate> withMatching(List<Candidate> result, List<IndexedRoute> linear, GenericRequest request) {
+        for (IndexedRoute indexed : linear) {
+            MatchResult mr = indexed.route().matcher().match(request);
+            if (!mr.matched()) {
+                log.trace(
+                        "Route not matched by path/method: routeId={}",
+                        indexed.route().id()
+                );
+                continue;
             }
+            result.add(Candidate.of(indexed, mr.params()));
+        }
+
+        if (result.size() > 1) {
+            result.sort(Comparator.comparingInt(Candidate::ordinal));
+        }
+
+        return result;
+    }
+
+    /**
+     * Replaces variant group candidates by the group routes requiring the request's header value,
+     * in priority order. Returns {@code candidates} itself if there is no group.
+     */
+    private static List<Candidate> withVariants(List<Candidate> candidates, GenericRequest request) {
+        List<Candidate> result = null;
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            if (candidate.variants() == null) {
+                if (result != null) {
+                    result.add(candidate);
+                }
+                continue;
+            }
+
+            if (result == null) {
+                result = new ArrayList<>(candidates.size());
+                result.addAll(candidates.subList(0, i));
+            }
+            for (IndexedRoute member : candidate.variants().select(request)) {
+                result.add(Candidate.of(member, candidate.params()));
+            }
+        }
+
+        if (result == null) {
+            return candidates;
+        }
+        if (result.size() > 1) {
+            result.sort(Comparator.comparingInt(Candidate::ordinal));
         }
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Route with its position in priority order (ordinal keeps ties in declaration order).
+     *
+     * @param variants non-null for a variant group entry: ordinal and route are its first member's
+     */
+    private record IndexedRoute(int ordinal, Route route, VariantGroup variants) {
+    }
+
+    /**
+     * Sibling routes (same method and path template) told apart by the value of one header.
+     *
+     * @param byValue header value folded by WhenCondition.foldCase -> routes requiring it, in priority order
+     */
+    private record VariantGroup(String header, Map<String, List<IndexedRoute>> byValue) {
+
+        List<IndexedRoute> select(GenericRequest request) {
+            if (!(request.metadata("headers") instanceof Map<?, ?> headers)) {
+                return List.of();
+            }
+            Object value = headers.get(header);
+            if (value == null) {
+                return List.of();
+            }
+            return byValue.getOrDefault(WhenCondition.foldCase(String.valueOf(value)), List.of());
+        }
+    }
+
+    /**
+     * @param match    prebuilt result for a request without query (resolved at build time), else null
+     * @param variants variant group to expand (see withVariants), else null
+     */
+    private record Candidate(
+            int ordinal,
+            Route route,
+            Map<String, Object> params,
+            Optional<RouteMatch> match,
+            VariantGroup variants
+    ) {
+
+        static Candidate of(IndexedRoute indexed, Map<String, Object> params) {
+            return new Candidate(indexed.ordinal(), indexed.route(), params, null, indexed.variants());
+        }
+
+        static Candidate resolved(int ordinal, Route route, Map<String, Object> params) {
+            return new Candidate(ordinal, route, params, Optional.of(new RouteMatch(route, MatchResult.matched(params))), null);
+        }
+    }
+}
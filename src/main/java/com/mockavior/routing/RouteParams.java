@@ -0,0 +1,61 @@
+package com.mockavior.routing;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Params of a selected route: path params overlaid with query params (first value of each).
+ * Design notes:
+ * - Read-only view over both maps; nothing is copied until the map is iterated
+ * - Query wins over a path param of the same name (same precedence as the former merged HashMap)
+ * - A query param without values is ignored, as before
+ */
+final class RouteParams extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> path;
+    private final Map<?, ?> query;
+
+    // built on first iteration
+    private Map<String, Object> merged;
+
+    RouteParams(Map<String, Object> path, Map<?, ?> query) {
+        this.path = path;
+        this.query = query;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object first = firstQueryValue(query.get(key));
+        return first != null ? first : path.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return firstQueryValue(query.get(key)) != null || path.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> m = merged;
+        if (m == null) {
+            m = new HashMap<>(path);
+            for (Map.Entry<?, ?> e : query.entrySet()) {
+                Object first = firstQueryValue(e.getValue());
+                if (first != null) {
+                    m.put(String.valueOf(e.getKey()), first);
+                }
+            }
+            m = Collections.unmodifiableMap(m);
+            merged = m;
+        }
+        return m.entrySet();
+    }
+
+    private static Object firstQueryValue(Object values) {
+        return values instanceof List<?> list && !list.isEmpty() ? list.get(0) : null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.mockavior.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+
+/**
+ * Router lookup counters: requests served by the literal-path index vs the pattern index (trie / regex).
+ * Implementations must be thread-safe and cheap (called once per routed request).
+ */
+public interface RoutingMetrics {
+
+    RoutingMetrics NOOP = new RoutingMetrics() {
+        @Override
+        public void literalLookup() {
+        }
+
+        @Override
+        public void patternLookup() {
+        }
+    };
+
+    /**
+     * Request path found in the literal-path index.
+     */
+    void literalLookup();
+
+    /**
+     * Request path not in the literal-path index, routed through patterns.
+     */
+    void patternLookup();
+
+    /**
+     * Counters {@code mockavior.routing.lookups{index=literal|pattern}}.
+     */
+    static RoutingMetrics micrometer(MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        Counter literal = Counter.builder("mockavior.routing.lookups")
+                .description("Route lookups by index used")
+                .tag("index", "literal")
+                .register(meterRegistry);
+
+        Counter pattern = Counter.builder("mockavior.routing.lookups")
+                .description("Route lookups by index used")
+                .tag("index", "pattern")
+                .register(meterRegistry);
+
+        return new RoutingMetrics() {
+            @Override
+            public void literalLookup() {
+                literal.increment();
+            }
+
+            @Override
+            public void patternLookup() {
+                pattern.increment();
+            }
+        };
+    }
+}
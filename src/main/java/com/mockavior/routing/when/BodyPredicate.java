@@ -0,0 +1,178 @@
+package com.mockavior.routing.when;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled when.body rule: a location in the request JSON plus a test on the value found there.
+ * Locations:
+ * - JSON pointer:  /customer/tier, /items/0/sku
+ * - JSONPath:      $.customer.tier, $.items[0].sku, $['odd.key'] (child and index steps only)
+ * Rules:
+ * - "*" / {present: true}   -> value exists and is not null
+ * - {present: false}        -> value is absent or null
+ * - "gold", 100, true       -> value equals it (numbers compared by value, text is case-sensitive)
+ * - {equals: ...}           -> same as above, explicit
+ * - {regex: "..."}          -> whole scalar value (as text) matches the regex
+ * Design notes:
+ * - Both location syntaxes compile to a JsonPointer at contract load; malformed locations,
+ *   regexes and rules fail compile() with IllegalArgumentException
+ * - Evaluation is a pointer lookup on the shared, lazily parsed tree (RequestJson)
+ */
+final class BodyPredicate {
+
+    private enum Kind { PRESENT, ABSENT, EQUALS, REGEX }
+
+    private final String location;
+    private final JsonPointer pointer;
+    private final Kind kind;
+
+    private final String expectedText;
+    private final BigDecimal expectedNumber;
+    private final Pattern regex;
+
+    private BodyPredicate(String location, JsonPointer pointer, Kind kind, Object expected, Pattern regex) {
+        this.location = location;
+        this.pointer = pointer;
+        this.kind = kind;
+        this.expectedText = expected == null ? null : String.valueOf(expected);
+        this.expectedNumber = expected instanceof Number n ? new BigDecimal(n.toString()) : null;
+        this.regex = regex;
+    }
+
+    static BodyPredicate compile(String location, Object rule) {
+        JsonPointer pointer = pointer(location);
+        String path = "when.body." + location;
+
+        if ("*".equals(rule)) {
+            return new BodyPredicate(location, pointer, Kind.PRESENT, null, null);
+        }
+
+        if (ValuePredicate.isScalar(rule)) {
+            return new BodyPredicate(location, pointer, Kind.EQUALS, rule, null);
+        }
+
+        if (rule instanceof Map<?, ?> map && map.size() == 1) {
+            Map.Entry<?, ?> e = map.entrySet().iterator().next();
+            Object value = e.getValue();
+
+            if ("equals".equals(e.getKey()) && ValuePredicate.isScalar(value)) {
+                return new BodyPredicate(location, pointer, Kind.EQUALS, value, null);
+            }
+            if ("present".equals(e.getKey()) && value instanceof Boolean present) {
+                return new BodyPredicate(location, pointer, present ? Kind.PRESENT : Kind.ABSENT, null, null);
+            }
+            if ("regex".equals(e.getKey()) && value instanceof String regex) {
+                try {
+                    return new BodyPredicate(location, pointer, Kind.REGEX, null, Pattern.compile(regex));
+                } catch (PatternSyntaxException ex) {
+                    throw new IllegalArgumentException(path + ".regex is not a valid regex: " + ex.getMessage(), ex);
+                }
+            }
+        }
+
+        throw new IllegalArgumentException(
+                "Unsupported rule in " + path + " (expected \"*\", a value, {equals: value}, "
+                        + "{present: true|false} or {regex: \"...\"}): " + rule
+        );
+    }
+
+    boolean test(JsonNode root) {
+        JsonNode node = root.at(pointer);
+        boolean present = !node.isMissingNode() && !node.isNull();
+
+        return switch (kind) {
+            case PRESENT -> present;
+            case ABSENT -> !present;
+            case EQUALS -> present && node.isValueNode() && equalsExpected(node);
+            case REGEX -> present && node.isValueNode() && regex.matcher(node.asText()).matches();
+        };
+    }
+
+    private boolean equalsExpected(JsonNode node) {
+        if (expectedNumber != null && node.isNumber()) {
+            return expectedNumber.compareTo(node.decimalValue()) == 0;
+        }
+        return expectedText.equals(node.asText());
+    }
+
+    /**
+     * JSON pointer ("/a/0", "" = whole body) or JSONPath ("$.a[0]", "$['a']") as a JsonPointer.
+     */
+    static JsonPointer pointer(String location) {
+        if (location.isEmpty() || location.startsWith("/")) {
+            try {
+                return JsonPointer.compile(location);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid JSON pointer in when.body: " + location, e);
+            }
+        }
+        if (location.startsWith("$")) {
+            return JsonPointer.compile(jsonPathToPointer(location));
+        }
+        throw new IllegalArgumentException(
+                "when.body key must be a JSON pointer (/a/b) or a JSONPath ($.a.b): " + location
+        );
+    }
+
+    private static String jsonPathToPointer(String path) {
+        StringBuilder pointer = new StringBuilder();
+        int i = 1;
+        int n = path.length();
+
+        while (i < n) {
+            char c = path.charAt(i);
+
+            if (c == '.') {
+                int start = ++i;
+                while (i < n && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+                String name = path.substring(start, i);
+                if (name.isEmpty() || name.equals("*")) {
+                    throw unsupportedPath(path);
+                }
+                appendSegment(pointer, name);
+            } else if (c == '[') {
+                int close = path.indexOf(']', i);
+                if (close < 0) {
+                    throw unsupportedPath(path);
+                }
+                String inner = path.substring(i + 1, close).trim();
+                if (inner.length() >= 2
+                        && (inner.charAt(0) == '\'' || inner.charAt(0) == '"')
+                        && inner.charAt(inner.length() - 1) == inner.charAt(0)) {
+                    appendSegment(pointer, inner.substring(1, inner.length() - 1));
+                } else if (!inner.isEmpty() && inner.chars().allMatch(Character::isDigit)) {
+                    appendSegment(pointer, inner);
+                } else {
+                    throw unsupportedPath(path);
+                }
+                i = close + 1;
+            } else {
+                throw unsupportedPath(path);
+            }
+        }
+        return pointer.toString();
+    }
+
+    private static void appendSegment(StringBuilder pointer, String segment) {
+        pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+    }
+
+    private static IllegalArgumentException unsupportedPath(String path) {
+        return new IllegalArgumentException(
+                "Unsupported JSONPath in when.body (only $.name, $['name'] and [index] steps): " + path
+        );
+    }
+
+    @Override
+    public String toString() {
+        return location + " " + kind + (expectedText != null ? " " + expectedText : regex != null ? " " + regex : "");
+    }
+}
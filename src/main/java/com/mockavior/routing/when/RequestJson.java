@@ -0,0 +1,71 @@
+package com.mockavior.routing.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.mockavior.core.request.GenericRequest;
+import com.mockavior.core.request.RequestBody;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Request body as a JSON tree, parsed on first use and shared by every when.body condition
+ * evaluated for the same request.
+ * Design notes:
+ * - One instance per routed request (created by the router only if a candidate has body conditions)
+ * - Nothing is read or parsed until tree() is called
+ * - A missing, empty, too large or non-JSON body is a MissingNode: every path is absent
+ * - Not thread-safe: routing a request happens on one thread
+ */
+@Slf4j
+public final class RequestJson {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final GenericRequest request;
+    private JsonNode tree;
+
+    private RequestJson(GenericRequest request) {
+        this.request = request;
+    }
+
+    public static RequestJson of(GenericRequest request) {
+        return new RequestJson(Objects.requireNonNull(request, "request must not be null"));
+    }
+
+    public JsonNode tree() {
+        JsonNode t = tree;
+        if (t == null) {
+            t = parse(request.payload());
+            tree = t;
+        }
+        return t;
+    }
+
+    private static JsonNode parse(Object payload) {
+        try {
+            JsonNode node;
+            if (payload instanceof RequestBody body) {
+                byte[] bytes = body.bytes();
+                node = bytes.length == 0 ? null : OBJECT_MAPPER.readTree(bytes);
+            } else if (payload instanceof byte[] bytes) {
+                node = bytes.length == 0 ? null : OBJECT_MAPPER.readTree(bytes);
+            } else if (payload instanceof String text) {
+                node = text.isEmpty() ? null : OBJECT_MAPPER.readTree(text.getBytes(StandardCharsets.UTF_8));
+            } else if (payload instanceof JsonNode json) {
+                node = json;
+            } else if (payload != null) {
+                node = OBJECT_MAPPER.valueToTree(payload);
+            } else {
+                node = null;
+            }
+            return node == null ? MissingNode.getInstance() : node;
+        } catch (Exception e) {
+            // body conditions simply do not match; the body itself is still available to the behavior
+            log.debug("Request body is not JSON, when.body conditions see no fields: {}", e.toString());
+            return MissingNode.getInstance();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.mockavior.routing.when;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled when.query rule, tested against the (non-empty) values of one query param.
+ * Rules:
+ * - "*"                     -> param present
+ * - "as" (or number/bool)   -> at least one value equals it
+ * - ["as", "ab"]            -> at least one value is in the list
+ * - {any: [...], all: [...]} -> any: at least one value in the list; all: every listed value present
+ * Design notes:
+ * - Compiled once per contract; malformed rules fail compile() with IllegalArgumentException
+ * - Expected values are case-folded and hashed at compile time, a request value is folded once
+ * - test() is a plain loop: no streams, lambdas or copies of the request values
+ */
+abstract class ValuePredicate {
+
+    static final ValuePredicate PRESENT = new ValuePredicate() {
+        @Override
+        boolean test(List<?> values) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "*";
+        }
+    };
+
+    /**
+     * @param values request values of the param, never empty
+     */
+    abstract boolean test(List<?> values);
+
+    /**
+     * @param path rule location for error messages, e.g. when.query.tag
+     */
+    static ValuePredicate compile(String path, Object rule) {
+        if ("*".equals(rule)) {
+            return PRESENT;
+        }
+
+        if (isScalar(rule)) {
+            return new Equals(fold(String.valueOf(rule)));
+        }
+
+        if (rule instanceof List<?> list) {
+            return anyOf(expected(path, list));
+        }
+
+        if (rule instanceof Map<?, ?> map) {
+            for (Object key : map.keySet()) {
+                if (!"any".equals(key) && !"all".equals(key)) {
+                    throw new IllegalArgumentException(
+                            "Unsupported key '" + key + "' in " + path + " (expected 'any' and/or 'all')"
+                    );
+                }
+            }
+
+            ValuePredicate any = map.containsKey("any") ? anyOf(expected(path + ".any", map.get("any"))) : null;
+            ValuePredicate all = map.containsKey("all") ? new AllOf(expected(path + ".all", map.get("all"))) : null;
+
+            if (any == null && all == null) {
+                return PRESENT;
+            }
+            if (any == null) {
+                return all;
+            }
+            if (all == null) {
+                return any;
+            }
+            return new Both(any, all);
+        }
+
+        throw new IllegalArgumentException(
+                "Unsupported rule in " + path + ": " + rule
+        );
+    }
+
+    static boolean isScalar(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+
+    /**
+     * Case folding with the same equivalence as {@link String#equalsIgnoreCase}:
+     * {@code fold(a).equals(fold(b))} iff {@code a.equalsIgnoreCase(b)}.
+     * Returns {@code s} itself when nothing changes (the common lowercase ASCII case).
+     */
+    static String fold(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || c >= 0x80) {
+                return foldFrom(s, i);
+            }
+        }
+        return s;
+    }
+
+    private static String foldFrom(String s, int from) {
+        StringBuilder sb = new StringBuilder(s.length());
+        sb.append(s, 0, from);
+        for (int i = from; i < s.length(); ) {
+            int cp = s.codePointAt(i);
+            sb.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp)));
+            i += Character.charCount(cp);
+        }
+        return sb.toString();
+    }
+
+    private static List<String> expected(String path, Object listObj) {
+        if (!(listObj instanceof List<?> list)) {
+            throw new IllegalArgumentException(path + " must be a list");
+        }
+
+        String[] folded = new String[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            Object value = list.get(i);
+            if (!isScalar(value)) {
+                throw new IllegalArgumentException(
+                        path + " must contain only strings, numbers or booleans: " + list
+                );
+            }
+            folded[i] = fold(String.valueOf(value));
+        }
+        return List.of(folded);
+    }
+
+    private static ValuePredicate anyOf(List<String> expected) {
+        return expected.size() == 1 ? new Equals(expected.get(0)) : new AnyOf(Set.copyOf(expected));
+    }
+
+    private static String folded(Object value) {
+        return fold(String.valueOf(value));
+    }
+
+    private static final class Equals extends ValuePredicate {
+
+        private final String expected;
+
+        Equals(String expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        boolean test(List<?> values) {
+            for (int i = 0; i < values.size(); i++) {
+                if (expected.equals(folded(values.get(i)))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return expected;
+        }
+    }
+
+    private static final class AnyOf extends ValuePredicate {
+
+        private final Set<String> expected;
+
+        AnyOf(Set<String> expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        boolean test(List<?> values) {
+            for (int i = 0; i < values.size(); i++) {
+                if (expected.contains(folded(values.get(i)))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "any" + expected;
+        }
+    }
+
+    private static final class AllOf extends ValuePredicate {
+
+        // expected value -> bit / slot
+        private final Map<String, Integer> index;
+
+        AllOf(List<String> expected) {
+            Map<String, Integer> idx = new HashMap<>();
+            for (String value : new HashSet<>(expected)) {
+                idx.put(value, idx.size());
+            }
+            this.index = Map.copyOf(idx);
+        }
+
+        @Override
+        boolean test(List<?> values) {
+            int n = index.size();
+            if (n == 0) {
+                return true;
+            }
+            if (n > 64) {
+                return testLarge(values);
+            }
+
+            long full = n == 64 ? -1L : (1L << n) - 1;
+            long seen = 0L;
+            for (int i = 0; i < values.size(); i++) {
+                Integer slot = index.get(folded(values.get(i)));
+                if (slot != null) {
+                    seen |= 1L << slot;
+                    if (seen == full) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean testLarge(List<?> values) {
+            boolean[] seen = new boolean[index.size()];
+            int missing = seen.length;
+            for (int i = 0; i < values.size() && missing > 0; i++) {
+                Integer slot = index.get(folded(values.get(i)));
+                if (slot != null && !seen[slot]) {
+                    seen[slot] = true;
+                    missing--;
+                }
+            }
+            return missing == 0;
+        }
+
+        @Override
+        public String toString() {
+            return "all" + index.keySet();
+        }
+    }
+
+    private static final class Both extends ValuePredicate {
+
+        private final ValuePredicate any;
+        private final ValuePredicate all;
+
+        Both(ValuePredicate any, ValuePredicate all) {
+            this.any = any;
+            this.all = all;
+        }
+
+        @Override
+        boolean test(List<?> values) {
+            return any.test(values) && all.test(values);
+        }
+
+        @Override
+        public String toString() {
+            return any + " & " + all;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mockavior.routing.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.mockavior.contract.model.RawWhen;
 import com.mockavior.core.request.GenericRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -11,20 +12,77 @@ import java.util.Map;
 import java.util.Objects;
 
 /**
- * Simple conditional matcher for routes.
- * MVP:
- * - supports presence check for query params
- * - example: active: "*"
+ * Conditional matcher for routes (when.query / when.headers / when.body).
+ * Design notes:
+ * - Rules are compiled once, in the constructor (i.e. at contract load):
+ *   each query rule becomes a ValuePredicate, each header rule a case-folded expected value
+ * - A malformed rule fails the contract with IllegalArgumentException, not the request
+ * - matches() loops over arrays; values are compared case-insensitively, folded once per value
+ * Query rules: see ValuePredicate ("*", value, [values], {any, all}); the param must be present.
+ * Header rules: "*" = present, otherwise case-insensitive equality; header names are case-insensitive.
+ * Body rules: see BodyPredicate (JSON pointer / JSONPath -> presence, equality, regex).
+ * - Checked last, and only if query and headers passed
+ * - The body is parsed lazily through RequestJson; pass the same instance for every candidate route
+ *   of a request so it is read and parsed at most once
  */
 @Slf4j
 public final class WhenCondition {
 
     private final Map<String, Object> requiredQuery;
     private final Map<String, Object> requiredHeaders;
+    private final Map<String, Object> requiredBody;
+
+    private final String[] queryKeys;
+    private final ValuePredicate[] queryRules;
+
+    // lowercase names; expected value is folded, null for "*"
+    private final String[] headerKeys;
+    private final String[] headerValues;
+    private final Map<String, String> headerEqualities;
+
+    private final BodyPredicate[] bodyRules;
 
     public WhenCondition(Map<String, Object> requiredQuery, Map<String, Object> requiredHeaders) {
+        this(requiredQuery, requiredHeaders, Map.of());
+    }
+
+    public WhenCondition(
+            Map<String, Object> requiredQuery,
+            Map<String, Object> requiredHeaders,
+            Map<String, Object> requiredBody
+    ) {
         this.requiredQuery = requiredQuery == null ? Map.of() : Map.copyOf(requiredQuery);
         this.requiredHeaders = normalizeHeaderKeys(requiredHeaders);
+        this.requiredBody = requiredBody == null ? Map.of() : Map.copyOf(requiredBody);
+
+        this.queryKeys = new String[this.requiredQuery.size()];
+        this.queryRules = new ValuePredicate[this.requiredQuery.size()];
+        int i = 0;
+        for (Map.Entry<String, Object> e : this.requiredQuery.entrySet()) {
+            queryKeys[i] = e.getKey();
+            queryRules[i] = ValuePredicate.compile("when.query." + e.getKey(), e.getValue());
+            i++;
+        }
+
+        this.headerKeys = new String[this.requiredHeaders.size()];
+        this.headerValues = new String[this.requiredHeaders.size()];
+        Map<String, String> equalities = new HashMap<>();
+        i = 0;
+        for (Map.Entry<String, Object> e : this.requiredHeaders.entrySet()) {
+            headerKeys[i] = e.getKey();
+            headerValues[i] = compileHeaderRule(e.getKey(), e.getValue());
+            if (headerValues[i] != null) {
+                equalities.put(headerKeys[i], headerValues[i]);
+            }
+            i++;
+        }
+        this.headerEqualities = Map.copyOf(equalities);
+
+        this.bodyRules = new BodyPredicate[this.requiredBody.size()];
+        i = 0;
+        for (Map.Entry<String, Object> e : this.requiredBody.entrySet()) {
+            bodyRules[i++] = BodyPredicate.compile(e.getKey(), e.getValue());
+        }
     }
 
     public static WhenCondition alwaysTrue() {
@@ -35,29 +93,63 @@ public final class WhenCondition {
         if (raw == null) {
             return alwaysTrue();
         }
-        return new WhenCondition(raw.query(), raw.headers());
+        return new WhenCondition(raw.query(), raw.headers(), raw.body());
+    }
+
+    /**
+     * @return true if matching reads the request body (when.body rules present)
+     */
+    public boolean hasBodyConditions() {
+        return bodyRules.length > 0;
+    }
+
+    /**
+     * Header equality rules (not "*"): lowercase header name -> expected value folded by {@link #foldCase}.
+     * A request can only match if {@code foldCase(header value)} equals the expected value.
+     */
+    public Map<String, String> headerEqualities() {
+        return headerEqualities;
+    }
+
+    /**
+     * Case folding used for header and query values: {@code foldCase(a).equals(foldCase(b))}
+     * iff {@code a.equalsIgnoreCase(b)}.
+     */
+    public static String foldCase(String value) {
+        return ValuePredicate.fold(value);
     }
 
     public boolean matches(GenericRequest request) {
         Objects.requireNonNull(request, "request must not be null");
+        return matches(request, hasBodyConditions() ? RequestJson.of(request) : null);
+    }
+
+    /**
+     * @param body parsed-on-demand body of {@code request}, shared across candidate routes;
+     *             may be null if {@link #hasBodyConditions()} is false
+     */
+    public boolean matches(GenericRequest request, RequestJson body) {
+        Objects.requireNonNull(request, "request must not be null");
 
         boolean queryOk = matchesQuery(request);
-        boolean headersOk = matchesHeaders(request);
+        boolean headersOk = queryOk && matchesHeaders(request);
+        boolean bodyOk = headersOk && matchesBody(request, body);
 
         if (log.isTraceEnabled()) {
             log.trace(
-                    "WhenCondition evaluated: queryOk={}, headersOk={}, condition={}",
+                    "WhenCondition evaluated: queryOk={}, headersOk={}, bodyOk={}, condition={}",
                     queryOk,
                     headersOk,
+                    bodyOk,
                     this
             );
         }
 
-        return queryOk && headersOk;
+        return bodyOk;
     }
 
     private boolean matchesQuery(GenericRequest request) {
-        if (requiredQuery.isEmpty()) {
+        if (queryKeys.length == 0) {
             return true;
         }
 
@@ -67,113 +159,24 @@ public final class WhenCondition {
             return false;
         }
 
-        for (Map.Entry<String, Object> entry : requiredQuery.entrySet()) {
-            String key = entry.getKey();
-            Object rule = entry.getValue();
+        for (int i = 0; i < queryKeys.length; i++) {
+            Object valueObj = query.get(queryKeys[i]);
 
-            List<String> values = extractQueryValues(query, key);
-            if (values.isEmpty() || !matchesRule(key, rule, values)) {
+            if (!(valueObj instanceof List<?> values) || values.isEmpty()) {
+                log.trace("WhenCondition query param missing: {}", queryKeys[i]);
                 return false;
             }
-        }
-
-        return true;
-    }
-
-    private List<String> extractQueryValues(Map<?, ?> query, String key) {
-        Object valueObj = query.get(key);
-
-        if (!(valueObj instanceof List<?> rawValues) || rawValues.isEmpty()) {
-            log.trace("WhenCondition query param missing: {}", key);
-            return List.of();
-        }
-
-        return rawValues.stream()
-                .map(String::valueOf)
-                .toList();
-    }
 
-
-    private boolean matchesRule(String key, Object rule, List<String> values) {
-
-        if ("*".equals(rule)) {
-            return true;
-        }
-
-        if (rule instanceof String expected) {
-            return matchesAny(values, List.of(expected));
-        }
-
-        if (rule instanceof List<?> listRule) {
-            return matchesAny(values, toStringList(listRule));
-        }
-
-        if (rule instanceof Map<?, ?> mapRule) {
-            return matchesAnyAndAll(key, values, mapRule);
-        }
-
-        throw new IllegalArgumentException(
-                "Unsupported when.query rule for key '" + key + "': " + rule
-        );
-    }
-
-    private boolean matchesAnyAndAll(
-            String key,
-            List<String> values,
-            Map<?, ?> rule
-    ) {
-        if (rule.containsKey("any")) {
-            List<String> expectedAny = extractList(rule, "any", key);
-            if (!matchesAny(values, expectedAny)) {
+            if (!queryRules[i].test(values)) {
                 return false;
             }
         }
 
-        if (rule.containsKey("all")) {
-            List<String> expectedAll = extractList(rule, "all", key);
-            return matchesAll(values, expectedAll);
-        }
-
         return true;
     }
 
-    private boolean matchesAny(List<String> values, List<String> expected) {
-        return values.stream()
-                .anyMatch(v ->
-                        expected.stream()
-                                .anyMatch(v::equalsIgnoreCase)
-                );
-    }
-
-    private boolean matchesAll(List<String> values, List<String> expected) {
-        return expected.stream()
-                .allMatch(exp ->
-                        values.stream()
-                                .anyMatch(v -> v.equalsIgnoreCase(exp))
-                );
-    }
-
-    private List<String> extractList(Map<?, ?> rule, String key, String param) {
-        Object obj = rule.get(key);
-
-        if (!(obj instanceof List<?> list)) {
-            throw new IllegalArgumentException(
-                    "when.query." + param + "." + key + " must be a list"
-            );
-        }
-
-        return toStringList(list);
-    }
-
-    private List<String> toStringList(List<?> list) {
-        return list.stream()
-                .map(String::valueOf)
-                .toList();
-    }
-
-
     private boolean matchesHeaders(GenericRequest request) {
-        if (requiredHeaders.isEmpty()) {
+        if (headerKeys.length == 0) {
             return true;
         }
 
@@ -183,9 +186,8 @@ public final class WhenCondition {
             return false;
         }
 
-        for (Map.Entry<String, Object> e : requiredHeaders.entrySet()) {
-            String key = e.getKey();
-            Object rule = e.getValue();
+        for (int i = 0; i < headerKeys.length; i++) {
+            String key = headerKeys[i];
 
             Object actual = headers.get(key);
             if (actual == null) {
@@ -193,17 +195,32 @@ public final class WhenCondition {
                 return false;
             }
 
-            if ("*".equals(rule)) {
-                continue;
+            String expected = headerValues[i];
+            if (expected != null && !expected.equals(ValuePredicate.fold(String.valueOf(actual)))) {
+                if (log.isTraceEnabled()) {
+                    log.trace(
+                            "WhenCondition header mismatch: {} expected={}, actual={}",
+                            key,
+                            requiredHeaders.get(key),
+                            actual
+                    );
+                }
+                return false;
             }
+        }
 
-            if (!String.valueOf(actual).equalsIgnoreCase(String.valueOf(rule))) {
-                log.trace(
-                        "WhenCondition header mismatch: {} expected={}, actual={}",
-                        key,
-                        rule,
-                        actual
-                );
+        return true;
+    }
+
+    private boolean matchesBody(GenericRequest request, RequestJson body) {
+        if (bodyRules.length == 0) {
+            return true;
+        }
+
+        JsonNode tree = (body != null ? body : RequestJson.of(request)).tree();
+        for (BodyPredicate rule : bodyRules) {
+            if (!rule.test(tree)) {
+                log.trace("WhenCondition body mismatch: {}", rule);
                 return false;
             }
         }
@@ -211,6 +228,18 @@ public final class WhenCondition {
         return true;
     }
 
+    private static String compileHeaderRule(String key, Object rule) {
+        if ("*".equals(rule)) {
+            return null;
+        }
+        if (!ValuePredicate.isScalar(rule)) {
+            throw new IllegalArgumentException(
+                    "when.headers." + key + " must be a string, number or boolean: " + rule
+            );
+        }
+        return ValuePredicate.fold(String.valueOf(rule));
+    }
+
     private static Map<String, Object> normalizeHeaderKeys(Map<String, Object> headers) {
         if (headers == null || headers.isEmpty()) {
             return Map.of();
@@ -228,6 +257,6 @@ public final class WhenCondition {
 
     @Override
     public String toString() {
-        return "WhenCondition{query=" + requiredQuery + '}';
+        return "WhenCondition{query=" + requiredQuery + ", headers=" + requiredHeaders + ", body=" + requiredBody + '}';
     }
 }
@@ -1,6 +1,7 @@
 package com.mockavior.runtime.proxy;
 
 import com.mockavior.core.request.GenericRequest;
+import com.mockavior.core.request.RequestBody;
 import com.mockavior.transport.http.HttpMethod;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -12,10 +13,15 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
 
 @Slf4j
 @Component
@@ -43,12 +49,71 @@ public final class HttpProxyClient {
             GenericRequest request
     ) throws Exception {
 
+        HttpMethod method = (HttpMethod) request.metadata(METHOD);
+
+        long startNanos = System.nanoTime();
+
+        try {
+            HttpRequest httpRequest = buildRequest(config, request, method, false);
+
+            HttpResponse<byte[]> response =
+                    client.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+
+            recordResponse(method, response, startNanos);
+            return response;
+
+        } catch (Exception e) {
+            recordError(method, e, startNanos);
+            log.error("HTTP proxy request failed", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Streaming variant of {@link #forward}.
+     * - Request: a RequestBody payload is piped upstream as it is read (never buffered)
+     * - Response: completes as soon as status and headers arrive; body bytes are
+     *   published as they are received (nothing is buffered here)
+     * Latency metric measures time to response headers.
+     */
+    public CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> forwardStreaming(
+            ProxyConfig config,
+            GenericRequest request
+    ) {
+        HttpMethod method = (HttpMethod) request.metadata(METHOD);
+
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> future;
+        try {
+            HttpRequest httpRequest = buildRequest(config, request, method, true);
+            future = client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofPublisher());
+        } catch (Exception e) {
+            // bad target URI, unreadable body...: reported (and counted) like a failed exchange
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        recordError(method, error, startNanos);
+                        log.error("HTTP streaming proxy request failed", error);
+                    } else {
+                        recordResponse(method, response, startNanos);
+                    }
+                });
+    }
+
+    private HttpRequest buildRequest(
+            ProxyConfig config,
+            GenericRequest request,
+            HttpMethod method,
+            boolean streamBody
+    ) {
         URI targetUri = URI.create(
                 config.baseUri().toString() + request.operation()
         );
 
-        HttpMethod method = (HttpMethod) request.metadata(METHOD);
-
         log.debug(
                 "Preparing proxy HTTP request: method={}, targetUri={}",
                 method,
@@ -60,80 +125,91 @@ public final class HttpProxyClient {
                 .register(meterRegistry)
                 .increment();
 
-        long startNanos = System.nanoTime();
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(targetUri)
+                .method(method.name(), bodyPublisher(request.payload(), streamBody));
 
-        try {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> headers =
+                (Map<String, Object>) request.metadata("headers");
 
-            HttpRequest.Builder builder = HttpRequest.newBuilder()
-                    .uri(targetUri)
-                    .method(
-                            method.name(),
-                            request.payload() == null
-                                    ? HttpRequest.BodyPublishers.noBody()
-                                    : HttpRequest.BodyPublishers.ofString(
-                                    request.payload().toString()
-                            )
-                    );
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> headers =
-                    (Map<String, Object>) request.metadata("headers");
-
-            if (headers != null) {
-                headers.forEach((k, v) -> {
-                    if (v == null) {
-                        return;
-                    }
+        if (headers != null) {
+            headers.forEach((k, v) -> {
+                if (v == null) {
+                    return;
+                }
 
-                    if (FORBIDDEN_HEADERS.contains(k.toLowerCase())) {
-                        log.trace("Skipping forbidden header: {}", k);
-                        return;
-                    }
+                if (FORBIDDEN_HEADERS.contains(k.toLowerCase())) {
+                    log.trace("Skipping forbidden header: {}", k);
+                    return;
+                }
 
-                    builder.header(k, v.toString());
-                });
-            }
+                builder.header(k, v.toString());
+            });
+        }
 
-            HttpResponse<byte[]> response =
-                    client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return builder.build();
+    }
 
+    private static HttpRequest.BodyPublisher bodyPublisher(Object payload, boolean streamBody) {
+        if (payload == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
 
-            Timer.builder("mockavior_proxy_latency_seconds")
-                    .tag(METHOD, method.name())
-                    .tag(STATUS, String.valueOf(response.statusCode()))
-                    .register(meterRegistry)
-                    .record(Duration.ofNanos(System.nanoTime() - startNanos));
+        if (payload instanceof RequestBody body && !streamBody) {
+            // raw bytes: binary-safe, no charset round-trip
+            return HttpRequest.BodyPublishers.ofByteArray(body.bytes());
+        }
 
-            Counter.builder("mockavior_proxy_responses_total")
-                    .tag(STATUS, String.valueOf(response.statusCode()))
-                    .register(meterRegistry)
-                    .increment();
+        if (payload instanceof RequestBody body) {
+            HttpRequest.BodyPublisher stream =
+                    HttpRequest.BodyPublishers.ofInputStream(body::stream);
 
-            if (log.isDebugEnabled()) {
-                log.debug(
-                        "Proxy HTTP response received: status={}, targetUri={}",
-                        response.statusCode(),
-                        targetUri
-                );
-            }
+            // known length -> Content-Length upstream, otherwise chunked
+            return body.contentLength() > 0
+                    ? HttpRequest.BodyPublishers.fromPublisher(stream, body.contentLength())
+                    : stream;
+        }
 
-            return response;
+        return HttpRequest.BodyPublishers.ofString(payload.toString());
+    }
 
-        } catch (Exception e) {
-            Timer.builder("mockavior_proxy_latency_seconds")
-                    .tag(METHOD, method.name())
-                    .tag(STATUS, "ERROR")
-                    .register(meterRegistry)
-                    .record(Duration.ofNanos(System.nanoTime() - startNanos));
-
-            Counter.builder("mockavior_proxy_errors_total")
-                    .tag(METHOD, method.name())
-                    .tag("error", e.getClass().getSimpleName())
-                    .register(meterRegistry)
-                    .increment();
+    private void recordResponse(HttpMethod method, HttpResponse<?> response, long startNanos) {
+        Timer.builder("mockavior_proxy_latency_seconds")
+                .tag(METHOD, method.name())
+                .tag(STATUS, String.valueOf(response.statusCode()))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startNanos));
 
-            log.error("HTTP proxy request failed", e);
-            throw e;
+        Counter.builder("mockavior_proxy_responses_total")
+                .tag(STATUS, String.valueOf(response.statusCode()))
+                .register(meterRegistry)
+                .increment();
+
+        if (log.isDebugEnabled()) {
+            log.debug(
+                    "Proxy HTTP response received: status={}, targetUri={}",
+                    response.statusCode(),
+                    response.uri()
+            );
         }
     }
+
+    private void recordError(HttpMethod method, Throwable error, long startNanos) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+
+        Timer.builder("mockavior_proxy_latency_seconds")
+                .tag(METHOD, method.name())
+                .tag(STATUS, "ERROR")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startNanos));
+
+        Counter.builder("mockavior_proxy_errors_total")
+                .tag(METHOD, method.name())
+                .tag("error", cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
 }
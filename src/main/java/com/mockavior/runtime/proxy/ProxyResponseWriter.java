@@ -29,6 +29,26 @@ public final class ProxyResponseWriter {
             HttpServletResponse servletResponse
     ) throws IOException {
 
+        writeHead(proxyResponse, servletResponse);
+
+        byte[] body = proxyResponse.body();
+        if (body != null) {
+            servletResponse.setContentLength(body.length);
+            if (body.length > 0) {
+                servletResponse.getOutputStream().write(body);
+            }
+        }
+    }
+
+    /**
+     * Copies status and end-to-end headers (hop-by-hop headers are dropped).
+     * Upstream Content-Length is kept, so streamed bodies are not re-chunked.
+     */
+    public static void writeHead(
+            HttpResponse<?> proxyResponse,
+            HttpServletResponse servletResponse
+    ) {
+
         servletResponse.setStatus(proxyResponse.statusCode());
 
         for (Map.Entry<String, List<String>> entry
@@ -51,14 +71,6 @@ public final class ProxyResponseWriter {
                 }
             }
         }
-
-        byte[] body = proxyResponse.body();
-        if (body != null) {
-            servletResponse.setContentLength(body.length);
-            if (body.length > 0) {
-                servletResponse.getOutputStream().write(body);
-            }
-        }
     }
 
     private static boolean isValidHeaderName(String name) {
@@ -0,0 +1,249 @@
+package com.mockavior.runtime.proxy;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * Streams an upstream response body to the servlet output as it arrives.
+ * Responsibilities:
+ * - Subscribe to the HttpClient body publisher (Flow.Subscriber)
+ * - Write with non-blocking servlet I/O (WriteListener)
+ * - Complete the AsyncContext when the body ends, abort the connection when it fails
+ * Design notes:
+ * - Backpressure: the next upstream chunk is requested only after everything received so far
+ *   has been written and the servlet output reports isReady(); at most one chunk list is buffered
+ * - Upstream callbacks and container callbacks arrive on different threads: all state is
+ *   guarded by this instance's monitor
+ * - No thread blocks on a slow client or a slow upstream
+ * - An upstream failure before the head is committed becomes a 502. After it the response is
+ *   aborted, never completed: a clean complete would leave a Content-Length body short (the client
+ *   waits for the rest) or end a chunked body with its final chunk (a truncated body that looks
+ *   whole). The servlet API has no abort, so the writer dispatches the request with the failure
+ *   attached and the dispatch rethrows it ({@link #rethrowAbort}): a request failing after commit
+ *   makes the container close the connection without ending the response
+ */
+@Slf4j
+public final class StreamingProxyResponseWriter implements Flow.Subscriber<List<ByteBuffer>> {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private static final String ABORT_ATTRIBUTE = StreamingProxyResponseWriter.class.getName() + ".abort";
+
+    private final AsyncContext asyncContext;
+    private final HttpServletResponse response;
+    private final ServletOutputStream out;
+    private final Runnable onDone;
+
+    private final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>();
+    private Flow.Subscription subscription;
+    private byte[] scratch;
+
+    private boolean requested;
+    private boolean upstreamDone;
+    private boolean draining;
+    private boolean finished;
+
+    private StreamingProxyResponseWriter(
+            AsyncContext asyncContext,
+            HttpServletResponse response,
+            Runnable onDone
+    ) throws IOException {
+        this.asyncContext = asyncContext;
+        this.response = response;
+        this.out = response.getOutputStream();
+        this.onDone = onDone;
+    }
+
+    /**
+     * Writes status and headers, then streams the body.
+     * Takes ownership of the AsyncContext: it is completed by the writer, after which
+     * {@code onDone} is invoked exactly once.
+     */
+    public static void stream(
+            HttpResponse<Flow.Publisher<List<ByteBuffer>>> proxyResponse,
+            AsyncContext asyncContext,
+            Runnable onDone
+    ) throws IOException {
+        Objects.requireNonNull(proxyResponse, "proxyResponse must not be null");
+        Objects.requireNonNull(asyncContext, "asyncContext must not be null");
+        Objects.requireNonNull(onDone, "onDone must not be null");
+
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        ProxyResponseWriter.writeHead(proxyResponse, response);
+
+        StreamingProxyResponseWriter writer =
+                new StreamingProxyResponseWriter(asyncContext, response, onDone);
+
+        writer.out.setWriteListener(writer.new OutputListener());
+        proxyResponse.body().subscribe(writer);
+    }
+
+    /**
+     * To be called first on every non-original dispatch of a runtime request:
+     * rethrows the failure of a streaming proxy response that was aborted after commit.
+     */
+    public static void rethrowAbort(HttpServletRequest request) throws IOException {
+        if (request.getAttribute(ABORT_ATTRIBUTE) instanceof Throwable failure) {
+            throw new IOException("Proxy response aborted after commit", failure);
+        }
+    }
+
+    // ------------------------------------------------------------
+    // Flow.Subscriber (upstream)
+    // ------------------------------------------------------------
+
+    @Override
+    public synchronized void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null || finished) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        drain();
+    }
+
+    @Override
+    public synchronized void onNext(List<ByteBuffer> items) {
+        pending.addAll(items);
+        requested = false;
+        drain();
+    }
+
+    @Override
+    public synchronized void onError(Throwable throwable) {
+        log.warn("Upstream body failed while streaming proxy response", throwable);
+        finish(throwable);
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    // ------------------------------------------------------------
+    // WriteListener (servlet)
+    // ------------------------------------------------------------
+
+    // separate object: WriteListener.onError and Flow.Subscriber.onError share a signature
+    private final class OutputListener implements WriteListener {
+
+        @Override
+        public void onWritePossible() {
+            synchronized (StreamingProxyResponseWriter.this) {
+                drain();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            synchronized (StreamingProxyResponseWriter.this) {
+                onWriteError(throwable);
+            }
+        }
+    }
+
+    private void onWriteError(Throwable throwable) {
+        log.debug("Client write failed while streaming proxy response: {}", throwable.toString());
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        finish(throwable);
+    }
+
+    // ------------------------------------------------------------
+    // internals (called with monitor held)
+    // ------------------------------------------------------------
+
+    private void drain() {
+        if (draining || finished) {
+            return;
+        }
+        draining = true;
+
+        try {
+            while (out.isReady()) {
+                ByteBuffer buffer = pending.peek();
+
+                if (buffer == null) {
+                    if (upstreamDone) {
+                        finish(null);
+                        return;
+                    }
+                    if (requested || subscription == null) {
+                        return;
+                    }
+                    // may deliver onNext synchronously: loop picks it up
+                    requested = true;
+                    subscription.request(1);
+                    continue;
+                }
+
+                if (!buffer.hasRemaining()) {
+                    pending.poll();
+                    continue;
+                }
+
+                writeChunk(buffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            onWriteError(e);
+        } finally {
+            draining = false;
+        }
+    }
+
+    private void writeChunk(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            int length = buffer.remaining();
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            return;
+        }
+
+        if (scratch == null) {
+            scratch = new byte[CHUNK_SIZE];
+        }
+        int length = Math.min(scratch.length, buffer.remaining());
+        buffer.get(scratch, 0, length);
+        out.write(scratch, 0, length);
+    }
+
+    private void finish(Throwable error) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        pending.clear();
+
+        try {
+            if (error == null) {
+                asyncContext.complete();
+            } else if (!response.isCommitted()) {
+                // drop upstream headers and any buffered body bytes: a plain 502 instead
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+                asyncContext.complete();
+            } else {
+                asyncContext.getRequest().setAttribute(ABORT_ATTRIBUTE, error);
+                asyncContext.dispatch();
+            }
+        } catch (IllegalStateException e) {
+            log.debug("AsyncContext already completed: {}", e.getMessage());
+        } finally {
+            onDone.run();
+        }
+    }
+}
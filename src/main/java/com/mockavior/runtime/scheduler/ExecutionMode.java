@@ -0,0 +1,17 @@
+package com.mockavior.runtime.scheduler;
+
+/**
+ * Threads that run scheduled task bodies (response writing, proxy calls, Kafka emissions).
+ */
+public enum ExecutionMode {
+
+    /**
+     * Bounded pool of platform threads (default).
+     */
+    PLATFORM,
+
+    /**
+     * One virtual thread per task; timer stays on a platform thread.
+     */
+    VIRTUAL
+}
@@ -1,54 +1,200 @@
 package com.mockavior.runtime.scheduler;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
- * RuntimeScheduler is a thin wrapper over ScheduledExecutorService.
+ * RuntimeScheduler runs tasks after a delay.
  * Responsibilities:
  * - Schedule Task with delay
  * - Return TaskHandle for lifecycle control
+ * - Publish scheduler metrics (pending tasks, lateness)
+ * Backends (selected at construction, same API for callers):
+ * - EXECUTOR: ScheduledThreadPoolExecutor (heap delay queue, O(log n) insert/cancel)
+ * - TIMING_WHEEL: TimingWheel + worker pool (O(1) insert/cancel, tick-resolution accuracy)
+ * Execution modes:
+ * - PLATFORM: task bodies run on a bounded platform thread pool
+ * - VIRTUAL: timer stays on a platform thread, every task body runs on its own virtual thread,
+ *   so blocking work (proxy calls, slow writes) cannot starve other delayed responses
  * Scheduler is infrastructure-only and does NOT know business semantics.
  */
 @Slf4j
 public final class RuntimeScheduler {
 
-    private final ScheduledExecutorService executor;
+    private static final String TYPE = "type";
+    private static final String MODE = "mode";
 
-    public RuntimeScheduler(int threads) {
-        this.executor = Executors.newScheduledThreadPool(threads);
-        log.info("RuntimeScheduler started with {} threads", threads);
+    private final SchedulerType type;
+    private final ExecutionMode mode;
+
+    // timer: EXECUTOR backend
+    private final ScheduledThreadPoolExecutor executor;
+
+    // timer: TIMING_WHEEL backend
+    private final TimingWheel wheel;
+
+    // runs task bodies; null = tasks run on the executor's own threads (EXECUTOR + PLATFORM)
+    private final ExecutorService workers;
+
+    private final Timer latenessTimer;
+
+    /**
+     * Executor-backed scheduler, tasks run on platform threads.
+     */
+    public RuntimeScheduler(int threads, MeterRegistry meterRegistry) {
+        this(threads, ExecutionMode.PLATFORM, meterRegistry);
+    }
+
+    /**
+     * Executor-backed scheduler.
+     *
+     * @param threads platform threads (PLATFORM mode); ignored in VIRTUAL mode, where a
+     *                single timer thread only hands tasks over to virtual threads
+     */
+    public RuntimeScheduler(int threads, ExecutionMode mode, MeterRegistry meterRegistry) {
+        this.type = SchedulerType.EXECUTOR;
+        this.mode = Objects.requireNonNull(mode, "mode must not be null");
+
+        ScheduledThreadPoolExecutor scheduled =
+                new ScheduledThreadPoolExecutor(mode == ExecutionMode.VIRTUAL ? 1 : threads);
+        // keep queue size equal to live tasks so the pending gauge is accurate
+        scheduled.setRemoveOnCancelPolicy(true);
+
+        this.executor = scheduled;
+        this.wheel = null;
+        this.workers = mode == ExecutionMode.VIRTUAL ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.latenessTimer = registerMetrics(meterRegistry, () -> scheduled.getQueue().size());
+
+        log.info("RuntimeScheduler started: type={}, mode={}, threads={}", type, mode, threads);
+    }
+
+    /**
+     * Timing-wheel-backed scheduler, tasks run on platform threads.
+     */
+    public RuntimeScheduler(int threads, Duration tick, int wheelSize, MeterRegistry meterRegistry) {
+        this(threads, ExecutionMode.PLATFORM, tick, wheelSize, meterRegistry);
+    }
+
+    /**
+     * Timing-wheel-backed scheduler.
+     *
+     * @param threads   platform worker threads that run expired tasks (ignored in VIRTUAL mode)
+     * @param tick      wheel tick (delay resolution)
+     * @param wheelSize number of buckets (rounded up to a power of two)
+     */
+    public RuntimeScheduler(
+            int threads,
+            ExecutionMode mode,
+            Duration tick,
+            int wheelSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.type = SchedulerType.TIMING_WHEEL;
+        this.mode = Objects.requireNonNull(mode, "mode must not be null");
+        this.executor = null;
+        this.workers = mode == ExecutionMode.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(threads);
+        this.wheel = new TimingWheel(tick, wheelSize, workers);
+        this.latenessTimer = registerMetrics(meterRegistry, wheel::pending);
+
+        log.info(
+                "RuntimeScheduler started: type={}, mode={}, threads={}, tick={}ms, wheelSize={}",
+                type,
+                mode,
+                threads,
+                tick.toMillis(),
+                wheel.wheelSize()
+        );
     }
 
     /**
      * New API (Kafka scenarios).
      * Returns TaskHandle so caller can cancel scheduled work.
+     * Task may block (e.g. proxy call): in VIRTUAL mode it only parks its own virtual thread.
      */
     public TaskHandle scheduleTask(Runnable task, Duration delay) {
         Objects.requireNonNull(task, "task must not be null");
 
-        long delayMs = (delay == null) ? 0L : Math.max(0L, delay.toMillis());
+        long delayNanos = (delay == null) ? 0L : Math.max(0L, delay.toNanos());
+        long dueNanos = System.nanoTime() + delayNanos;
 
-        ScheduledFuture<?> future = executor.schedule(() -> {
+        Runnable guarded = () -> {
+            latenessTimer.record(Math.max(0L, System.nanoTime() - dueNanos), TimeUnit.NANOSECONDS);
             try {
                 task.run();
             } catch (Exception e) {
                 log.error("Scheduled task failed", e);
             }
-        }, delayMs, TimeUnit.MILLISECONDS);
+        };
+
+        TaskHandle handle;
+        if (workers != null && delayNanos == 0) {
+            // nothing to wait for: skip the timer
+            Future<?> future = workers.submit(guarded);
+            handle = new TaskHandle(() -> future.cancel(false));
+        } else if (wheel != null) {
+            TimingWheel.WheelTask wheelTask = wheel.schedule(guarded, delayNanos);
+            handle = new TaskHandle(wheelTask::cancel);
+        } else {
+            // VIRTUAL: timer thread only hands the task over
+            Runnable timed = workers == null ? guarded : () -> workers.execute(guarded);
+            ScheduledFuture<?> future = executor.schedule(timed, delayNanos, TimeUnit.NANOSECONDS);
+            handle = new TaskHandle(() -> future.cancel(false));
+        }
 
-        log.debug("Task scheduled: delayMs={}", delayMs);
-        return new TaskHandle(future);
+        log.debug("Task scheduled: type={}, delayMs={}", type, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+        return handle;
+    }
+
+    public SchedulerType type() {
+        return type;
+    }
+
+    public ExecutionMode mode() {
+        return mode;
     }
 
     public void shutdown() {
-        log.info("Shutting down RuntimeScheduler");
-        executor.shutdown();
+        log.info("Shutting down RuntimeScheduler: type={}", type);
+        if (wheel != null) {
+            wheel.stop();
+        } else {
+            executor.shutdown();
+        }
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    private Timer registerMetrics(MeterRegistry meterRegistry, Supplier<Number> pending) {
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        String typeTag = type.name().toLowerCase();
+        String modeTag = mode.name().toLowerCase();
+
+        Gauge.builder("mockavior.scheduler.pending.tasks", pending)
+                .description("Scheduled tasks waiting for their delay to elapse")
+                .tag(TYPE, typeTag)
+                .tag(MODE, modeTag)
+                .register(meterRegistry);
+
+        return Timer.builder("mockavior.scheduler.lateness")
+                .description("Time between a task's due time and the moment it started running")
+                .tag(TYPE, typeTag)
+                .tag(MODE, modeTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,17 @@
+package com.mockavior.runtime.scheduler;
+
+/**
+ * Delay queue implementation behind RuntimeScheduler.
+ */
+public enum SchedulerType {
+
+    /**
+     * ScheduledThreadPoolExecutor (default).
+     */
+    EXECUTOR,
+
+    /**
+     * Hashed timing wheel: O(1) schedule/cancel, delay resolution = tick.
+     */
+    TIMING_WHEEL
+}
@@ -1,21 +1,20 @@
 package com.mockavior.runtime.scheduler;
 
-import java.util.concurrent.ScheduledFuture;
-
 /**
  * TaskHandle is a control handle for a scheduled task.
  * Responsibilities:
  * - Allow cancellation of the scheduled execution
- * - Provide basic state inspection (done/cancelled)
  * Notes:
- * - Handle controls scheduler-level execution (future), not business state.
+ * - Handle controls scheduler-level execution, not business state.
+ * - Backed by either a ScheduledFuture (executor) or a timing wheel entry;
+ *   callers do not see the difference.
  */
 public final class TaskHandle {
 
-    private final ScheduledFuture<?> future;
+    private final Runnable canceller;
 
-    TaskHandle(ScheduledFuture<?> future) {
-        this.future = future;
+    TaskHandle(Runnable canceller) {
+        this.canceller = canceller;
     }
 
     /**
@@ -23,6 +22,6 @@ public final class TaskHandle {
      * If the task has not started yet, it will not run.
      */
     public void cancel() {
-        future.cancel(false);
+        canceller.run();
     }
 }
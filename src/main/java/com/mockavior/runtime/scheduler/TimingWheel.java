@@ -0,0 +1,339 @@
+package com.mockavior.runtime.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel (Varghese &amp; Lauck) used as the delay queue of RuntimeScheduler.
+ * Responsibilities:
+ * - Accept delayed tasks in O(1) from any thread
+ * - Cancel tasks in O(1)
+ * - Hand expired tasks over to a worker executor
+ * Design notes:
+ * - Wheel of {@code wheelSize} buckets, one bucket per tick; delays longer than one
+ *   revolution are kept in their bucket with a remaining-rounds counter
+ * - Buckets are owned by the single tick thread, so they need no locking
+ * - Producers only touch two lock-free MPSC queues (new tasks, cancelled tasks),
+ *   drained by the tick thread at the start of every tick
+ * - Tasks fire on the first tick at or after their deadline: lateness is bounded by one tick
+ * - Tasks never run on the tick thread; a slow task cannot stall the wheel
+ */
+@Slf4j
+public final class TimingWheel {
+
+    // max transfers per tick so a flood of schedules cannot starve expiration
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] buckets;
+    private final int mask;
+    private final Executor dispatcher;
+
+    private final Queue<WheelTask> incoming = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Thread tickThread;
+    private final long startNanos;
+    private volatile boolean running = true;
+
+    // owned by tick thread
+    private long tick;
+
+    public TimingWheel(Duration tickDuration, int wheelSize, Executor dispatcher) {
+        Objects.requireNonNull(tickDuration, "tickDuration must not be null");
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive: " + wheelSize);
+        }
+
+        this.tickNanos = tickDuration.toNanos();
+        this.buckets = new Bucket[powerOfTwo(wheelSize)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.mask = buckets.length - 1;
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher must not be null");
+
+        this.startNanos = System.nanoTime();
+        this.tickThread = new Thread(this::runTicks, "mockavior-timing-wheel");
+        this.tickThread.setDaemon(true);
+        this.tickThread.start();
+
+        log.info(
+                "TimingWheel started: tick={}ms, wheelSize={}",
+                tickDuration.toMillis(),
+                buckets.length
+        );
+    }
+
+    /**
+     * Schedules task to be handed to the dispatcher after delay.
+     * Safe to call from any thread.
+     *
+     * @param task       task to run
+     * @param delayNanos delay in nanoseconds (negative treated as zero)
+     * @return cancellable wheel entry
+     */
+    WheelTask schedule(Runnable task, long delayNanos) {
+        Objects.requireNonNull(task, "task must not be null");
+        if (!running) {
+            throw new RejectedExecutionException("TimingWheel is stopped");
+        }
+
+        long deadline = System.nanoTime() - startNanos + Math.max(0L, delayNanos);
+        WheelTask wheelTask = new WheelTask(this, task, deadline);
+
+        pending.incrementAndGet();
+        incoming.add(wheelTask);
+        return wheelTask;
+    }
+
+    /**
+     * @return number of tasks scheduled and not yet expired or cancelled
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    public Duration tickDuration() {
+        return Duration.ofNanos(tickNanos);
+    }
+
+    public int wheelSize() {
+        return buckets.length;
+    }
+
+    /**
+     * Stops the tick thread. Tasks that have not expired yet are dropped.
+     */
+    public void stop() {
+        running = false;
+        tickThread.interrupt();
+        try {
+            tickThread.join(Math.max(1000L, Duration.ofNanos(tickNanos).toMillis() * 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("TimingWheel stopped: droppedTasks={}", pending.get());
+    }
+
+    // ------------------------------------------------------------
+    // tick thread
+    // ------------------------------------------------------------
+
+    private void runTicks() {
+        while (running) {
+            if (!awaitNextTick()) {
+                break;
+            }
+
+            int idx = (int) (tick & mask);
+            processCancelled();
+            transferIncoming();
+            buckets[idx].expire();
+            tick++;
+        }
+    }
+
+    /**
+     * Sleeps until the end of the current tick.
+     *
+     * @return false if the wheel was stopped while waiting
+     */
+    private boolean awaitNextTick() {
+        long tickEnd = tickNanos * (tick + 1);
+
+        while (running) {
+            long sleepNanos = tickEnd - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+            if (Thread.interrupted() && !running) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void transferIncoming() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTask task = incoming.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.state != WheelTask.ST_PENDING) {
+                // cancelled before it reached a bucket
+                continue;
+            }
+
+            long expirationTick = task.deadline / tickNanos;
+            task.remainingRounds = (expirationTick - tick) / buckets.length;
+
+            // deadlines already in the past go into the current bucket
+            long ticks = Math.max(expirationTick, tick);
+            buckets[(int) (ticks & mask)].add(task);
+        }
+    }
+
+    private void processCancelled() {
+        WheelTask task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    private void fire(WheelTask task) {
+        if (!task.markExpired()) {
+            return;
+        }
+        pending.decrementAndGet();
+
+        try {
+            dispatcher.execute(task.task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Timing wheel task rejected by dispatcher", e);
+        }
+    }
+
+    private static int powerOfTwo(int value) {
+        int n = 1;
+        while (n < value) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    // ------------------------------------------------------------
+    // wheel entries
+    // ------------------------------------------------------------
+
+    /**
+     * Single scheduled entry. Linked into exactly one bucket while pending.
+     */
+    static final class WheelTask {
+
+        private static final int ST_PENDING = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<WheelTask> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(WheelTask.class, "state");
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadline;
+
+        private volatile int state = ST_PENDING;
+
+        // owned by tick thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask prev;
+        private WheelTask next;
+
+        private WheelTask(TimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels entry. Unlinking from its bucket happens on the next tick.
+         *
+         * @return true if entry was still pending
+         */
+        boolean cancel() {
+            if (!STATE.compareAndSet(this, ST_PENDING, ST_CANCELLED)) {
+                return false;
+            }
+            wheel.pending.decrementAndGet();
+            wheel.cancelled.add(this);
+            return true;
+        }
+
+        boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        private boolean markExpired() {
+            return STATE.compareAndSet(this, ST_PENDING, ST_EXPIRED);
+        }
+    }
+
+    /**
+     * Doubly linked list of entries sharing a slot. Touched only by the tick thread.
+     */
+    private final class Bucket {
+
+        private WheelTask head;
+        private WheelTask tail;
+
+        void add(WheelTask task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void expire() {
+            WheelTask task = head;
+            while (task != null) {
+                WheelTask next = task.next;
+
+                if (task.remainingRounds <= 0) {
+                    remove(task);
+                    fire(task);
+                } else if (task.isCancelled()) {
+                    remove(task);
+                } else {
+                    task.remainingRounds--;
+                }
+
+                task = next;
+            }
+        }
+
+        void remove(WheelTask task) {
+            if (task.bucket != this) {
+                return;
+            }
+
+            WheelTask next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = task.prev;
+            }
+            if (task == head) {
+                head = next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+    }
+}
@@ -3,8 +3,7 @@ package com.mockavior.transport.http;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -13,7 +12,13 @@ import java.util.regex.Pattern;
 /**
  * Compiled HTTP path pattern with named parameters.
  * Example:
- *   /users/{id}  ->  ^/users/(?<id>[^/]+)$
+ *   /users/{id}  ->  "/users/" {id}  (same semantics as ^/users/(?<id>[^/]+)$)
+ * Design notes:
+ * - Template is split into literals around params: literal0 {p0} literal1 {p1} ... literalN
+ * - match() scans the path once, without regex: literals are compared in place, a param takes
+ *   the longest non-empty run of non-'/' chars that lets the rest match (greedy, like [^/]+)
+ * - Params are returned as offsets (PathParams), Strings are created only when read
+ * - A template without params matches by equals() and returns an empty immutable map
  */
 @Slf4j
 public final class HttpPathPattern {
@@ -21,12 +26,16 @@ public final class HttpPathPattern {
     private static final Pattern PARAM_PATTERN =
             Pattern.compile("\\{([^/}]+)}");
 
-    private final Pattern regex;
-    private final List<String> paramNames;
+    private final String template;
 
-    private HttpPathPattern(Pattern regex, List<String> paramNames) {
-        this.regex = regex;
-        this.paramNames = paramNames;
+    // literals.length == names.length + 1
+    private final String[] literals;
+    private final String[] names;
+
+    private HttpPathPattern(String template, String[] literals, String[] names) {
+        this.template = template;
+        this.literals = literals;
+        this.names = names;
     }
 
     public static HttpPathPattern compile(String template) {
@@ -34,76 +43,108 @@ public final class HttpPathPattern {
 
         Matcher matcher = PARAM_PATTERN.matcher(template);
 
-        StringBuilder regexBuilder = new StringBuilder();
+        List<String> literals = new ArrayList<>();
         List<String> params = new ArrayList<>();
 
         int lastEnd = 0;
 
         while (matcher.find()) {
-            regexBuilder.append(
-                    Pattern.quote(template.substring(lastEnd, matcher.start()))
-            );
-
-            String paramName = matcher.group(1);
-            params.add(paramName);
-
-            // named capturing group
-            regexBuilder.append("(?<").append(paramName).append(">[^/]+)");
-
+            literals.add(template.substring(lastEnd, matcher.start()));
+            params.add(matcher.group(1));
             lastEnd = matcher.end();
         }
 
         // tail after last param
-        regexBuilder.append(
-                Pattern.quote(template.substring(lastEnd))
-        );
+        literals.add(template.substring(lastEnd));
 
-        Pattern finalPattern =
-                Pattern.compile("^" + regexBuilder + "$");
+        if (new HashSet<>(params).size() != params.size()) {
+            throw new IllegalArgumentException("Duplicate path param in template: " + template);
+        }
 
-        HttpPathPattern compiled =
-                new HttpPathPattern(finalPattern, List.copyOf(params));
+        HttpPathPattern compiled = new HttpPathPattern(
+                template,
+                literals.toArray(String[]::new),
+                params.toArray(String[]::new)
+        );
 
         log.debug(
-                "Compiled HTTP path pattern: template='{}', regex='{}', params={}",
+                "Compiled HTTP path pattern: template='{}', literals={}, params={}",
                 template,
-                finalPattern,
+                literals,
                 params
         );
 
         return compiled;
     }
 
+    /**
+     * @return true if the template has no {param}: it matches exactly one path, itself
+     */
+    public static boolean isLiteral(String template) {
+        return !PARAM_PATTERN.matcher(template).find();
+    }
+
     /**
      * @param path incoming HTTP path
      * @return map of extracted params if matched, otherwise null
      */
     public Map<String, Object> match(String path) {
-        log.trace("Matching path '{}' against pattern '{}'", path, regex);
-
-        Matcher matcher = regex.matcher(path);
-
-        log.trace("Path '{}' did not match pattern '{}'", path, regex);
+        if (names.length == 0) {
+            return path.equals(literals[0]) ? Map.of() : null;
+        }
 
-        if (!matcher.matches()) {
+        // cheap reject before allocating spans
+        if (!path.startsWith(literals[0])) {
+            log.trace("Path '{}' did not match pattern '{}'", path, template);
             return null;
         }
 
-        Map<String, Object> result = new HashMap<>();
-        for (String name : paramNames) {
-            result.put(name, matcher.group(name));
+        int[] spans = new int[names.length * 2];
+        if (!matchFrom(path, literals[0].length(), 0, spans)) {
+            log.trace("Path '{}' did not match pattern '{}'", path, template);
+            return null;
         }
 
-        log.trace("Path '{}' matched with params {}", path, result);
+        return new PathParams(path, names, spans);
+    }
 
-        return result;
+    /**
+     * Matches param {@code param} starting at {@code pos}, then everything after it.
+     */
+    private boolean matchFrom(String path, int pos, int param, int[] spans) {
+        int limit = path.indexOf('/', pos);
+        if (limit < 0) {
+            limit = path.length();
+        }
+
+        String next = literals[param + 1];
+        boolean last = param == names.length - 1;
+
+        // greedy: longest value first
+        for (int end = limit; end > pos; end--) {
+            if (!path.startsWith(next, end)) {
+                continue;
+            }
+
+            int after = end + next.length();
+            boolean rest = last
+                    ? after == path.length()
+                    : matchFrom(path, after, param + 1, spans);
+
+            if (rest) {
+                spans[2 * param] = pos;
+                spans[2 * param + 1] = end;
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public String toString() {
         return "HttpPathPattern{" +
-                "regex=" + regex +
-                ", paramNames=" + paramNames +
+                "template=" + template +
+                ", paramNames=" + List.of(names) +
                 '}';
     }
 }
@@ -16,13 +16,13 @@ import java.util.Objects;
 public final class HttpRouteMatcher implements RouteMatcher {
 
     private final HttpMethod method;
+    private final String pathTemplate;
     private final HttpPathPattern pathPattern;
 
     public HttpRouteMatcher(HttpMethod method, String pathTemplate) {
         this.method = Objects.requireNonNull(method, "method must not be null");
-        this.pathPattern = HttpPathPattern.compile(
-                Objects.requireNonNull(pathTemplate, "pathTemplate must not be null")
-        );
+        this.pathTemplate = Objects.requireNonNull(pathTemplate, "pathTemplate must not be null");
+        this.pathPattern = HttpPathPattern.compile(pathTemplate);
 
         log.debug(
                 "Created HttpRouteMatcher: method={}, pathTemplate={}",
@@ -68,16 +68,35 @@ public final class HttpRouteMatcher implements RouteMatcher {
             return MatchResult.noMatch();
         }
 
-        log.trace(
-                "Route matched: method={}, path={}, params={}",
-                method,
-                request.operation(),
-                params
-        );
+        if (log.isTraceEnabled()) {
+            log.trace(
+                    "Route matched: method={}, path={}, params={}",
+                    method,
+                    request.operation(),
+                    params
+            );
+        }
 
         return MatchResult.matched(params);
     }
 
+    /**
+     * Path-only match (method and protocol not checked).
+     *
+     * @return extracted params if the path matches, otherwise null
+     */
+    public Map<String, Object> matchPath(String path) {
+        return pathPattern.match(path);
+    }
+
+    public HttpMethod method() {
+        return method;
+    }
+
+    public String pathTemplate() {
+        return pathTemplate;
+    }
+
     @Override
     public String toString() {
         return "HttpRouteMatcher{" +
@@ -0,0 +1,257 @@
+package com.mockavior.transport.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Segment-based routing trie for HTTP path templates.
+ * Layout:
+ *   HttpMethod -> root -> literal segment | {param} segment -> ... -> terminal values
+ * Example:
+ *   GET /users/{id}/orders  ->  GET -> "" -> "users" -> {id} -> "orders"
+ * Lookup cost grows with path depth, not with the number of routes.
+ * Notes:
+ * - Built once per compiled contract, read-only afterwards (thread-safe for lookups)
+ * - Templates mixing literal text and a param inside one segment (e.g. /files/{name}.json)
+ *   are not indexable; insert() returns false and the caller must match them another way
+ * - Lookup returns every matching value; ordering is the caller's responsibility
+ * - Lookup walks the path by offsets: literal children are found by hashing the segment region
+ *   in place (same hash as String), no split / substring; params are returned as PathParams spans
+ */
+@Slf4j
+public final class HttpRouteTrie<T> {
+
+    private static final Pattern PARAM_SEGMENT =
+            Pattern.compile("\\{([^/}]+)}");
+
+    private final Map<HttpMethod, Node<T>> roots = new EnumMap<>(HttpMethod.class);
+
+    /**
+     * @return true if template was indexed, false if it is not representable as plain segments
+     */
+    public boolean insert(HttpMethod method, String template, T value) {
+        List<String> segments = split(template);
+
+        // classify first, so a non-indexable template leaves no empty nodes behind
+        List<String> paramNames = new ArrayList<>();
+        List<Integer> paramPositions = new ArrayList<>();
+        boolean[] isParam = new boolean[segments.size()];
+
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            Matcher matcher = PARAM_SEGMENT.matcher(segment);
+
+            if (!matcher.find()) {
+                continue;
+            }
+
+            if (matcher.start() != 0 || matcher.end() != segment.length()) {
+                log.debug("Path template is not indexable (mixed segment '{}'): {} {}", segment, method, template);
+                return false;
+            }
+
+            isParam[i] = true;
+            paramNames.add(matcher.group(1));
+            paramPositions.add(i);
+        }
+
+        Node<T> node = roots.computeIfAbsent(method, m -> new Node<>());
+        for (int i = 0; i < segments.size(); i++) {
+            node = isParam[i] ? node.paramChild() : node.literalChild(segments.get(i));
+        }
+
+        node.terminals.add(new Terminal<>(
+                value,
+                paramNames.toArray(String[]::new),
+                paramPositions.stream().mapToInt(Integer::intValue).toArray()
+        ));
+
+        log.trace("Indexed path template: {} {}, params={}", method, template, paramNames);
+        return true;
+    }
+
+    /**
+     * @return all values whose template matches the given method and path, with extracted params
+     */
+    public List<Match<T>> find(HttpMethod method, String path) {
+        Node<T> root = roots.get(method);
+        if (root == null) {
+            return List.of();
+        }
+
+        List<Match<T>> result = new ArrayList<>(2);
+        collect(root, path, 0, 0, null, result);
+        return result;
+    }
+
+    /**
+     * @param start  offset of the current segment
+     * @param depth  index of the current segment
+     * @param bounds start/end offsets of the segments walked so far (allocated on the first param)
+     */
+    private void collect(Node<T> node, String path, int start, int depth, int[] bounds, List<Match<T>> result) {
+        int end = path.indexOf('/', start);
+        boolean lastSegment = end < 0;
+        if (lastSegment) {
+            end = path.length();
+        }
+
+        Node<T> literal = node.literal(path, start, end);
+        Node<T> param = end > start ? node.param : null;   // {param} never matches an empty segment
+
+        if (literal == null && param == null) {
+            return;
+        }
+
+        if (param != null) {
+            bounds = withSegment(bounds, depth, start, end);
+        }
+
+        if (literal != null) {
+            descend(literal, path, end, lastSegment, depth, bounds, result);
+        }
+        if (param != null) {
+            descend(param, path, end, lastSegment, depth, bounds, result);
+        }
+    }
+
+    private void descend(Node<T> child, String path, int end, boolean lastSegment, int depth, int[] bounds, List<Match<T>> result) {
+        if (!lastSegment) {
+            collect(child, path, end + 1, depth + 1, bounds, result);
+            return;
+        }
+        for (Terminal<T> terminal : child.terminals) {
+            result.add(new Match<>(terminal.value(), terminal.params(path, bounds)));
+        }
+    }
+
+    // records segment depth at bounds[2 * depth]; segments before a param are never read by params
+    private static int[] withSegment(int[] bounds, int depth, int start, int end) {
+        int[] b = bounds;
+        if (b == null || b.length < 2 * (depth + 1)) {
+            int[] grown = new int[Math.max(8, 2 * (depth + 1) * 2)];
+            if (b != null) {
+                System.arraycopy(b, 0, grown, 0, b.length);
+            }
+            b = grown;
+        }
+        b[2 * depth] = start;
+        b[2 * depth + 1] = end;
+        return b;
+    }
+
+    /**
+     * Splits by '/' keeping empty segments, so "/a/" -> ["", "a", ""].
+     */
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '/') {
+                segments.add(path.substring(start, i));
+                start = i + 1;
+            }
+        }
+        segments.add(path.substring(start));
+        return segments;
+    }
+
+    public record Match<T>(T value, Map<String, Object> params) {
+    }
+
+    private record Terminal<T>(T value, String[] paramNames, int[] paramPositions) {
+
+        Map<String, Object> params(String path, int[] bounds) {
+            if (paramNames.length == 0) {
+                return Map.of();
+            }
+            int[] spans = new int[paramNames.length * 2];
+            for (int i = 0; i < paramNames.length; i++) {
+                spans[2 * i] = bounds[2 * paramPositions[i]];
+                spans[2 * i + 1] = bounds[2 * paramPositions[i] + 1];
+            }
+            return new PathParams(path, paramNames, spans);
+        }
+    }
+
+    private static final class Node<T> {
+
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private final List<Terminal<T>> terminals = new ArrayList<>(1);
+        private Node<T> param;
+
+        // open-addressing copy of literals for region lookups; power-of-two size, load <= 1/2
+        private String[] keys = new String[0];
+        private Node<T>[] children;
+
+        Node<T> literalChild(String segment) {
+            Node<T> child = literals.get(segment);
+            if (child == null) {
+                child = new Node<>();
+                literals.put(segment, child);
+                rebuildTable();
+            }
+            return child;
+        }
+
+        /**
+         * Literal child for path[start, end), or null.
+         */
+        Node<T> literal(String path, int start, int end) {
+            String[] k = keys;
+            if (k.length == 0) {
+                return null;
+            }
+
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + path.charAt(i);
+            }
+
+            int length = end - start;
+            int mask = k.length - 1;
+            for (int i = spread(h) & mask; k[i] != null; i = (i + 1) & mask) {
+                String key = k[i];
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void rebuildTable() {
+            int size = Integer.highestOneBit(Math.max(2, literals.size()) * 4 - 1);
+            String[] k = new String[size];
+            Node<T>[] c = (Node<T>[]) new Node[size];
+            for (Map.Entry<String, Node<T>> e : literals.entrySet()) {
+                int i = spread(e.getKey().hashCode()) & (size - 1);
+                while (k[i] != null) {
+                    i = (i + 1) & (size - 1);
+                }
+                k[i] = e.getKey();
+                c[i] = e.getValue();
+            }
+            children = c;
+            keys = k;
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+
+        Node<T> paramChild() {
+            if (param == null) {
+                param = new Node<>();
+            }
+            return param;
+        }
+    }
+}
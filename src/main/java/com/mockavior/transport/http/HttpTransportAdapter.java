@@ -3,13 +3,16 @@ package com.mockavior.transport.http;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.mockavior.behavior.BehaviorResult;
+import com.mockavior.behavior.EncodedBody;
 import com.mockavior.core.request.GenericRequest;
 import com.mockavior.core.request.Protocol;
+import com.mockavior.core.request.RequestBody;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -31,6 +34,22 @@ public final class HttpTransportAdapter {
         OBJECT_MAPPER.enable(SerializationFeature.INDENT_OUTPUT);
     }
 
+    public static final int DEFAULT_MAX_BODY_BYTES = 10 * 1024 * 1024;
+
+    // upper bound for buffering a request body (RequestBody.bytes())
+    private final int maxBodyBytes;
+
+    public HttpTransportAdapter() {
+        this(DEFAULT_MAX_BODY_BYTES);
+    }
+
+    public HttpTransportAdapter(int maxBodyBytes) {
+        if (maxBodyBytes <= 0) {
+            throw new IllegalArgumentException("maxBodyBytes must be positive: " + maxBodyBytes);
+        }
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
     // ----------------------------------------------------------------------
     // Request mapping
     // ----------------------------------------------------------------------
@@ -68,8 +87,9 @@ public final class HttpTransportAdapter {
             metadata.put("contentType", contentType);
         }
 
-        String body = readBody(request);
-        if (body != null && log.isTraceEnabled()) {
+        // lazy: read only if a consumer (proxy, body condition) asks for it
+        RequestBody body = requestBody(request);
+        if (body != null) {
             log.trace("Request body: {}", body);
         }
 
@@ -154,12 +174,23 @@ public final class HttpTransportAdapter {
         log.trace("Response headers: {}", headers);
 
         for (Map.Entry<?, ?> e : headers.entrySet()) {
-            if (e.getKey() != null && e.getValue() != null) {
-                response.setHeader(
-                        String.valueOf(e.getKey()),
-                        String.valueOf(e.getValue())
-                );
+            if (e.getKey() == null || e.getValue() == null) {
+                continue;
             }
+            String name = String.valueOf(e.getKey());
+
+            // multi-value header (YAML list): one header line per element
+            if (e.getValue() instanceof Collection<?> values) {
+                response.setHeader(name, null);
+                for (Object value : values) {
+                    if (value != null) {
+                        response.addHeader(name, String.valueOf(value));
+                    }
+                }
+                continue;
+            }
+
+            response.setHeader(name, String.valueOf(e.getValue()));
         }
     }
 
@@ -168,6 +199,15 @@ public final class HttpTransportAdapter {
             return;
         }
 
+        if (payload instanceof EncodedBody encoded) {
+            // static body: bytes and Content-Length computed at contract compile time
+            log.trace("Response body: pre-encoded, bytes={}", encoded.contentLength());
+
+            prepareBody(response, encoded.contentLength());
+            encoded.writeTo(response.getOutputStream());
+            return;
+        }
+
         String body;
         if (payload instanceof String s) {
             body = s;
@@ -180,12 +220,16 @@ public final class HttpTransportAdapter {
 
         byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
 
+        prepareBody(response, bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private static void prepareBody(HttpServletResponse response, int contentLength) {
         response.setCharacterEncoding(StandardCharsets.UTF_8.name());
         if (response.getContentType() == null) {
             response.setContentType("application/json");
         }
-        response.setContentLength(bytes.length);
-        response.getOutputStream().write(bytes);
+        response.setContentLength(contentLength);
     }
 
     private static String extractPath(HttpServletRequest request) {
@@ -231,18 +275,36 @@ public final class HttpTransportAdapter {
         return Map.copyOf(result);
     }
 
-    private static String readBody(HttpServletRequest request) throws IOException {
-        StringBuilder sb = new StringBuilder();
-        try (Scanner scanner = new Scanner(request.getInputStream(), StandardCharsets.UTF_8)) {
-            while (scanner.hasNextLine()) {
-                sb.append(scanner.nextLine());
-                if (scanner.hasNextLine()) {
-                    sb.append('\n');
-                }
-            }
+    private RequestBody requestBody(HttpServletRequest request) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        boolean chunked = request.getHeader("Transfer-Encoding") != null;
+
+        if (contentLength <= 0 && !chunked) {
+            return null;
+        }
+
+        return new ServletRequestBody(
+                request.getInputStream(),
+                contentLength,
+                maxBodyBytes,
+                charset(request.getCharacterEncoding())
+        );
+    }
+
+    /**
+     * Request charset from Content-Type; UTF-8 if absent, unknown or malformed (client-supplied).
+     */
+    private static Charset charset(String encoding) {
+        if (encoding == null) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.isSupported(encoding) ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            // IllegalCharsetNameException on e.g. "charset=utf 8"
+            log.debug("Malformed request charset '{}', using UTF-8", encoding);
+            return StandardCharsets.UTF_8;
         }
-        String body = sb.toString();
-        return body.isEmpty() ? null : body;
     }
 
     private static int getInt(Object value, int defaultValue) {
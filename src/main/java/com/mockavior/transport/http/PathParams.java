@@ -0,0 +1,116 @@
+package com.mockavior.transport.http;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Path params of one match, kept as offsets into the request path.
+ * Design notes:
+ * - spans holds start/end pairs (param i = path[spans[2i], spans[2i+1]) ), filled by a single scan
+ * - A value becomes a String only when read (template rendering, when-conditions, logging)
+ * - Immutable view; a name declared twice resolves to its last occurrence, like the former HashMap
+ */
+public final class PathParams extends AbstractMap<String, Object> {
+
+    private final String path;
+    private final String[] names;
+    private final int[] spans;
+
+    // materialized values; racy caching is benign (String is immutable)
+    private String[] values;
+
+    PathParams(String path, String[] names, int[] spans) {
+        this.path = path;
+        this.names = names;
+        this.spans = spans;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i < 0 ? null : value(i);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next = nextDistinct(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < names.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= names.length) {
+                            throw new NoSuchElementException();
+                        }
+                        String name = names[next];
+                        next = nextDistinct(next + 1);
+                        return new SimpleImmutableEntry<>(name, get(name));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (int i = nextDistinct(0); i < names.length; i = nextDistinct(i + 1)) {
+                    size++;
+                }
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = names.length - 1; i >= 0; i--) {
+            if (names[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // first index >= from whose name is not repeated later (so each name is iterated once)
+    private int nextDistinct(int from) {
+        for (int i = from; i < names.length; i++) {
+            if (indexOf(names[i]) == i) {
+                return i;
+            }
+        }
+        return names.length;
+    }
+
+    private String value(int i) {
+        String[] cached = values;
+        if (cached == null) {
+            cached = new String[names.length];
+            values = cached;
+        }
+
+        String value = cached[i];
+        if (value == null) {
+            value = path.substring(spans[2 * i], spans[2 * i + 1]);
+            cached[i] = value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,106 @@
+package com.mockavior.transport.http;
+
+import com.mockavior.core.request.RequestBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * RequestBody backed by the servlet input stream.
+ * Design notes:
+ * - Known Content-Length: read into one exactly-sized array
+ * - Chunked: read in blocks, failing as soon as max size is exceeded
+ * - Thread-safe: the body may be read on the request thread (routing) or on a
+ *   scheduler thread (proxy), but only ever once
+ */
+final class ServletRequestBody implements RequestBody {
+
+    private static final int READ_BLOCK = 8 * 1024;
+
+    private final InputStream in;
+    private final long contentLength;
+    private final int maxBytes;
+    private final Charset charset;
+
+    private byte[] bytes;
+    private String text;
+    private boolean streamed;
+
+    ServletRequestBody(InputStream in, long contentLength, int maxBytes, Charset charset) {
+        this.in = Objects.requireNonNull(in, "in must not be null");
+        this.contentLength = contentLength;
+        this.maxBytes = maxBytes;
+        this.charset = Objects.requireNonNull(charset, "charset must not be null");
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public synchronized byte[] bytes() {
+        if (bytes != null) {
+            return bytes;
+        }
+        if (streamed) {
+            throw new IllegalStateException("Request body was already consumed as a stream");
+        }
+        if (contentLength > maxBytes) {
+            throw new TooLargeException(maxBytes);
+        }
+
+        try {
+            bytes = contentLength >= 0
+                    ? in.readNBytes((int) contentLength)
+                    : readBounded();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request body", e);
+        }
+        return bytes;
+    }
+
+    @Override
+    public synchronized String asString() {
+        if (text == null) {
+            text = new String(bytes(), charset);
+        }
+        return text;
+    }
+
+    @Override
+    public synchronized InputStream stream() {
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+        streamed = true;
+        return in;
+    }
+
+    private byte[] readBounded() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(READ_BLOCK);
+        byte[] block = new byte[READ_BLOCK];
+
+        int read;
+        while ((read = in.read(block)) != -1) {
+            if (out.size() + read > maxBytes) {
+                throw new TooLargeException(maxBytes);
+            }
+            out.write(block, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        return "ServletRequestBody{" +
+                "contentLength=" + contentLength +
+                ", read=" + (bytes != null) +
+                '}';
+    }
+}
@@ -40,8 +40,11 @@ public abstract class AbstractMockaviorIT {
     }
 
     protected void loadContract(String classpathLocation) {
+        loadContractBody(readClasspathFile(classpathLocation));
+    }
+
+    protected void loadContractBody(String contractBody) {
         String currentVersion = fetchCurrentContractVersion();
-        String contractBody = readClasspathFile(classpathLocation);
 
         client.put()
                 .uri(adminPath("/contract"))
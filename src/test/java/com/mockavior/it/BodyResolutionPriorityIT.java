@@ -1,6 +1,10 @@
 package com.mockavior.it;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -46,4 +50,22 @@ class BodyResolutionPriorityIT extends AbstractMockaviorIT {
                 .contains("FILE_BODY")
                 .doesNotContain("INLINE_BODY");
     }
+
+    @Test
+    void should_serve_binary_bodyFile_byte_for_byte() throws IOException {
+        loadContract("contracts/body-file-binary.yml");
+
+        // every byte value, CRLF, invalid UTF-8, and runs that look like placeholders ({|}, {id})
+        byte[] expected = new ClassPathResource("bodies/binary.bin").getContentAsByteArray();
+
+        ResponseEntity<byte[]> response = client.get()
+                .uri("/avatar/42")
+                .retrieve()
+                .toEntity(byte[].class)
+                .block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(expected.length);
+        assertThat(response.getBody()).containsExactly(expected);
+    }
 }
@@ -3,6 +3,7 @@ package com.mockavior.it;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -67,4 +68,73 @@ class ConditionalRoutingIT extends AbstractMockaviorIT {
 
         assertThat(status).isEqualTo(HttpStatus.NOT_FOUND);
     }
+
+    @Test
+    void should_route_by_json_body_conditions() {
+        loadContract("contracts/when-body.yml");
+
+        assertThat(postOrder("{\"customer\": {\"tier\": \"gold\"}, \"items\": [{\"sku\": \"SKU-1\"}]}"))
+                .contains("gold-orders");
+
+        assertThat(postOrder("{\"customer\": {\"tier\": \"silver\"}, \"items\": [{\"sku\": \"SKU-1\"}]}"))
+                .contains("sku-orders");
+
+        HttpStatusCode status = client.post()
+                .uri("/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"items\": [{\"sku\": \"other\"}]}")
+                .exchangeToMono(response ->
+                        response.toBodilessEntity()
+                                .map(ResponseEntity::getStatusCode)
+                )
+                .block();
+
+        assertThat(status).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void should_select_header_variant_by_value_and_priority() {
+        loadContract("contracts/when-header-variants.yml");
+
+        assertThat(getOrder("B", false)).contains("\"tenant-b\"");
+        assertThat(getOrder("b", true)).contains("\"tenant-b-debug\"");
+        assertThat(getOrder("a", true)).contains("\"tenant-a\"");
+        assertThat(getOrder("c", false)).contains("\"default\"");
+    }
+
+    private String getOrder(String tenant, boolean debug) {
+        return client.get()
+                .uri("/orders/42")
+                .headers(h -> {
+                    h.set("x-tenant", tenant);
+                    if (debug) {
+                        h.set("x-debug", "1");
+                    }
+                })
+                .exchangeToMono(response ->
+                        response.bodyToMono(String.class)
+                                .map(b -> {
+                                    assertThat(response.statusCode())
+                                            .isEqualTo(HttpStatus.OK);
+                                    return b;
+                                })
+                )
+                .block();
+    }
+
+    private String postOrder(String json) {
+        return client.post()
+                .uri("/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(json)
+                .exchangeToMono(response ->
+                        response.bodyToMono(String.class)
+                                .map(b -> {
+                                    assertThat(response.statusCode())
+                                            .isEqualTo(HttpStatus.OK);
+                                    return b;
+                                })
+                )
+                .block();
+    }
 }
@@ -7,7 +7,10 @@ import org.springframework.http.ResponseEntity;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -73,6 +76,54 @@ class KafkaPollControllerIT extends AbstractMockaviorIT {
         assertThat(response2).containsEntry("count", 1);
     }
 
+    @Test
+    void should_peek_topic_by_pages_and_as_stream() {
+        loadContract("contracts/kafka-poll.yml");
+
+        clearTopic("user.updated");
+
+        client.post()
+                .uri(adminPath("/kafka/start/user-events"))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        await()
+                .atMost(AWAIT_MAX)
+                .untilAsserted(() ->
+                        assertThat(fetchCount("user.updated")).isEqualTo(2)
+                );
+
+        Map<String, Object> firstPage =
+                client.get()
+                        .uri(adminPath("/kafka/poll/{topic}?limit={limit}"), "user.updated", 1)
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .block();
+
+        assertThat(firstPage).containsEntry("count", 1);
+
+        Map<String, Object> secondPage =
+                client.get()
+                        .uri(adminPath("/kafka/poll/{topic}?offset={offset}&limit={limit}"), "user.updated", firstPage.get("nextOffset"), 10)
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .block();
+
+        assertThat(secondPage).containsEntry("count", 1);
+
+        Map<String, Object> streamed =
+                client.get()
+                        .uri(adminPath("/kafka/poll/{topic}?stream=true&decode=json"), "user.updated")
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .block();
+
+        assertThat(streamed).containsEntry("count", 2);
+        assertThat(streamed).containsEntry("nextOffset", secondPage.get("nextOffset"));
+        assertThat((List<?>) streamed.get("messages")).hasSize(2);
+    }
+
     @Test
     void should_return_no_content_when_taking_from_empty_topic() {
         loadContract("contracts/kafka-poll.yml");
@@ -152,6 +203,206 @@ class KafkaPollControllerIT extends AbstractMockaviorIT {
     }
 
 
+    @Test
+    void should_take_batch_of_messages() {
+        loadContract("contracts/kafka-poll.yml");
+
+        clearTopic("user.updated");
+
+        client.post()
+                .uri(adminPath("/kafka/start/user-events"))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        await()
+                .atMost(AWAIT_MAX)
+                .untilAsserted(() ->
+                        assertThat(fetchCount("user.updated")).isEqualTo(2)
+                );
+
+        Map<String, Object> batch =
+                client.post()
+                        .uri(adminPath("/kafka/poll/{topic}/take?max={max}"), "user.updated", 10)
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .block();
+
+        assertThat(batch).containsEntry("count", 2);
+        assertThat(fetchCount("user.updated")).isZero();
+    }
+
+    @Test
+    void long_poll_take_should_return_message_when_published() {
+        loadContract("contracts/kafka-delay-fixed.yml");
+
+        clearTopic("delayed.topic");
+
+        CompletableFuture<ResponseEntity<Map>> pending =
+                client.post()
+                        .uri(adminPath("/kafka/poll/{topic}/take?waitMs={waitMs}"), "delayed.topic", 5000)
+                        .exchangeToMono(resp -> resp.toEntity(Map.class))
+                        .toFuture();
+
+        client.post()
+                .uri(adminPath("/kafka/start/delayed"))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        ResponseEntity<Map> taken = pending.join();
+
+        assertThat(taken.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(taken.getBody()).containsEntry("topic", "delayed.topic");
+    }
+
+    @Test
+    void long_poll_take_should_return_no_content_after_wait() {
+        loadContract("contracts/kafka-poll.yml");
+
+        clearTopic("user.created");
+
+        Instant start = Instant.now();
+
+        HttpStatusCode status =
+                client.post()
+                        .uri(adminPath("/kafka/poll/{topic}/take?waitMs={waitMs}"), "user.created", 300)
+                        .exchangeToMono(r -> r.toBodilessEntity().map(ResponseEntity::getStatusCode))
+                        .block();
+
+        assertThat(status.value()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(Duration.between(start, Instant.now())).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+    }
+
+    @Test
+    void consumer_groups_should_poll_same_topic_independently() {
+        loadContract("contracts/kafka-poll.yml");
+
+        clearTopic("user.updated");
+
+        client.post()
+                .uri(adminPath("/kafka/start/user-events"))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        await()
+                .atMost(AWAIT_MAX)
+                .untilAsserted(() ->
+                        assertThat(fetchCount("user.updated")).isEqualTo(2)
+                );
+
+        String billing = "billing-" + UUID.randomUUID();
+        String audit = "audit-" + UUID.randomUUID();
+
+        Map<String, Object> first = pollGroup("user.updated", billing, 1);
+        Map<String, Object> second = pollGroup("user.updated", billing, 10);
+        Map<String, Object> third = pollGroup("user.updated", billing, 10);
+
+        assertThat(first).containsEntry("count", 1);
+        assertThat(second).containsEntry("count", 1);
+        assertThat(third).containsEntry("count", 0);
+        assertThat(second.get("fromOffset")).isEqualTo(first.get("nextOffset"));
+
+        // other group starts from the beginning, messages are not consumed
+        assertThat(pollGroup("user.updated", audit, 10)).containsEntry("count", 2);
+        assertThat(fetchCount("user.updated")).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void partitioned_topic_should_route_keys_to_partitions() {
+        loadContract("contracts/kafka-partitions.yml");
+
+        clearTopic("orders.topic");
+
+        Map<String, Object> started = client.post()
+                .uri(adminPath("/kafka/start/orders?shards=2"))
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+
+        assertThat((List<Object>) started.get("executionIds")).hasSize(2);
+
+        // murmur2: user-1 -> partition 0, user-3 -> partition 1
+        await()
+                .atMost(AWAIT_MAX)
+                .untilAsserted(() -> {
+                    List<Map<String, Object>> partitions = client.get()
+                            .uri(adminPath("/kafka/poll/{topic}/partitions"), "orders.topic")
+                            .retrieve()
+                            .bodyToMono(List.class)
+                            .block();
+
+                    assertThat(partitions).hasSize(2);
+                    assertThat(partitions.get(0)).containsEntry("partition", 0).containsEntry("lag", 3);
+                    assertThat(partitions.get(1)).containsEntry("partition", 1).containsEntry("lag", 2);
+                });
+
+        Map<String, Object> second = client.get()
+                .uri(adminPath("/kafka/poll/{topic}?partition=1"), "orders.topic")
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+
+        assertThat(second).containsEntry("count", 2);
+        assertThat((List<Map<String, Object>>) second.get("messages"))
+                .allSatisfy(m -> assertThat(m).containsEntry("key", "user-3"));
+
+        // messages of a partitioned topic are only visible per partition: partition is required and in range
+        assertThat(getStatus("/kafka/poll/{topic}", "orders.topic")).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(getStatus("/kafka/poll/{topic}?partition=2", "orders.topic")).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(postStatus("/kafka/poll/{topic}/take", "orders.topic")).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(postStatus("/kafka/poll/{topic}/poll?group=g", "orders.topic")).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(postStatus("/kafka/poll/{topic}/poll?group=g&partition=-1", "orders.topic")).isEqualTo(HttpStatus.BAD_REQUEST.value());
+
+        // and a non-partitioned topic takes none
+        assertThat(getStatus("/kafka/poll/{topic}?partition=0", "user.updated")).isEqualTo(HttpStatus.BAD_REQUEST.value());
+
+        assertThat(getStatus("/kafka/poll/{topic}/partitions", "user.updated")).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void executions_should_report_progress() {
+        loadContract("contracts/kafka-rate.yml");
+
+        clearTopic("paced.topic");
+
+        Map<String, Object> started = client.post()
+                .uri(adminPath("/kafka/start/paced"))
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+
+        String executionId = (String) started.get("executionId");
+
+        await()
+                .atMost(AWAIT_MAX)
+                .untilAsserted(() -> {
+                    Map<String, Object> execution = client.get()
+                            .uri(adminPath("/kafka/executions/{id}"), executionId)
+                            .retrieve()
+                            .bodyToMono(Map.class)
+                            .block();
+
+                    assertThat(execution)
+                            .containsEntry("scenarioId", "paced")
+                            .containsEntry("state", "FINISHED")
+                            .containsEntry("emitted", 11)
+                            .containsEntry("total", 11)
+                            .containsEntry("targetPerSecond", 20.0);
+                });
+
+        List<Map<String, Object>> executions = client.get()
+                .uri(adminPath("/kafka/executions"))
+                .retrieve()
+                .bodyToMono(List.class)
+                .block();
+
+        assertThat(executions).anySatisfy(e -> assertThat(e).containsEntry("executionId", executionId));
+    }
+
     @Test
     void kafka_fixed_delay_should_delay_message_emission() {
         loadContract("contracts/kafka-delay-fixed.yml");
@@ -177,6 +428,32 @@ class KafkaPollControllerIT extends AbstractMockaviorIT {
                 .isLessThan(FIXED_DELAY.plus(TOLERANCE));
     }
 
+    @Test
+    void kafka_rate_should_pace_message_emission() {
+        loadContract("contracts/kafka-rate.yml");
+
+        clearTopic("paced.topic");
+
+        Instant start = Instant.now();
+
+        client.post()
+                .uri(adminPath("/kafka/start/paced"))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        await()
+                .atMost(AWAIT_MAX)
+                .until(() -> fetchCount("paced.topic") >= 11);
+
+        Duration elapsed = Duration.between(start, Instant.now());
+
+        // first message right away, then one every 50ms
+        assertThat(elapsed)
+                .isGreaterThanOrEqualTo(Duration.ofMillis(500))
+                .isLessThan(Duration.ofMillis(500).plus(TOLERANCE));
+    }
+
     @Test
     void kafka_random_delay_should_be_within_range() {
         loadContract("contracts/kafka-delay-random.yml");
@@ -231,6 +508,22 @@ class KafkaPollControllerIT extends AbstractMockaviorIT {
        Helpers
        ============================ */
 
+    private int getStatus(String path, String topic) {
+        HttpStatusCode status = client.get()
+                .uri(adminPath(path), topic)
+                .exchangeToMono(r -> r.toBodilessEntity().map(ResponseEntity::getStatusCode))
+                .block();
+        return status.value();
+    }
+
+    private int postStatus(String path, String topic) {
+        HttpStatusCode status = client.post()
+                .uri(adminPath(path), topic)
+                .exchangeToMono(r -> r.toBodilessEntity().map(ResponseEntity::getStatusCode))
+                .block();
+        return status.value();
+    }
+
     private void clearTopic(String topic) {
         client.post()
                 .uri(adminPath("/kafka/poll/{topic}/clear"), topic)
@@ -239,6 +532,14 @@ class KafkaPollControllerIT extends AbstractMockaviorIT {
                 .block();
     }
 
+    private Map<String, Object> pollGroup(String topic, String group, int max) {
+        return client.post()
+                .uri(adminPath("/kafka/poll/{topic}/poll?group={group}&max={max}"), topic, group, max)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+    }
+
     private int fetchCount(String topic) {
         Map<String, Object> body =
                 client.get()
@@ -0,0 +1,157 @@
+package com.mockavior.it;
+
+import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.contract.payload.BodySourceType;
+import com.mockavior.contract.payload.ResolvedBody;
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import com.mockavior.kafka.runtime.DefaultInMemoryKafkaStore;
+import com.mockavior.kafka.runtime.InMemoryKafkaStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * store.type=default with all three retention limits: each topic below is sized to hit one of them.
+ * Publishes in a test take a few ms, far below max-age, except where a test waits for it.
+ */
+@TestPropertySource(properties = {
+        "mockavior.kafka.store.type=default",
+        "mockavior.kafka.store.max-messages=5",
+        "mockavior.kafka.store.max-bytes=1000B",
+        "mockavior.kafka.store.max-age=1s"
+})
+class KafkaStoreRetentionIT extends AbstractMockaviorIT {
+
+    private static final int MAX_MESSAGES = 5;
+    private static final int MAX_BYTES = 1000;
+    private static final Duration MAX_AGE = Duration.ofSeconds(1);
+
+    @Autowired
+    private InMemoryKafkaStore store;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void should_evict_oldest_messages_above_max_messages() {
+        assertThat(store).isInstanceOf(DefaultInMemoryKafkaStore.class);
+
+        String topic = uniqueTopic();
+        publish(topic, 12, 10);
+
+        assertThat(store.startOffset(topic)).isEqualTo(12L - MAX_MESSAGES);
+        assertThat(store.endOffset(topic)).isEqualTo(12L);
+        assertThat(store.read(topic, 0L, 100)).extracting(StoredKafkaMessage::offset)
+                .containsExactly(7L, 8L, 9L, 10L, 11L);
+
+        assertThat(gauge("mockavior.kafka.topic.depth", topic)).isEqualTo(MAX_MESSAGES);
+        assertThat(gauge("mockavior.kafka.topic.bytes", topic)).isEqualTo(MAX_MESSAGES * 10);
+        assertThat(evicted(topic, "count")).isEqualTo(7);
+        assertThat(evicted(topic, "bytes")).isZero();
+        assertThat(evicted(topic, "age")).isZero();
+    }
+
+    @Test
+    void should_evict_oldest_messages_above_max_bytes() {
+        String topic = uniqueTopic();
+        // 400 bytes each: two fit, a third goes over the limit
+        publish(topic, 4, 400);
+
+        assertThat(store.read(topic, 0L, 100)).extracting(StoredKafkaMessage::offset)
+                .containsExactly(2L, 3L);
+
+        assertThat(gauge("mockavior.kafka.topic.depth", topic)).isEqualTo(2);
+        assertThat(gauge("mockavior.kafka.topic.bytes", topic)).isEqualTo(800);
+        assertThat(gauge("mockavior.kafka.topic.bytes", topic)).isLessThanOrEqualTo(MAX_BYTES);
+        assertThat(evicted(topic, "bytes")).isEqualTo(2);
+        assertThat(evicted(topic, "count")).isZero();
+    }
+
+    @Test
+    void should_evict_messages_older_than_max_age_on_next_publish() throws InterruptedException {
+        String topic = uniqueTopic();
+        publish(topic, 2, 10);
+
+        Thread.sleep(MAX_AGE.toMillis() / 2);
+        assertThat(gauge("mockavior.kafka.topic.oldest.age", topic)).isGreaterThan(0.0);
+
+        Thread.sleep(MAX_AGE.toMillis());
+        publish(topic, 1, 10);
+
+        assertThat(store.read(topic, 0L, 100)).extracting(StoredKafkaMessage::offset)
+                .containsExactly(2L);
+        assertThat(gauge("mockavior.kafka.topic.depth", topic)).isEqualTo(1);
+        assertThat(evicted(topic, "age")).isEqualTo(2);
+    }
+
+    @Test
+    void cleared_topic_should_drop_its_meters_and_register_live_ones_when_published_again() {
+        String topic = uniqueTopic();
+        publish(topic, 3, 10);
+
+        client.post()
+                .uri(adminPath("/kafka/poll/{topic}/clear"), topic)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        assertThat(meterRegistry.find("mockavior.kafka.topic.depth").tag("topic", topic).gauge()).isNull();
+        assertThat(store.endOffset(topic)).isEqualTo(3L);
+
+        publish(topic, 2, 10);
+
+        // the successor's gauges read the successor, offsets continue
+        assertThat(gauge("mockavior.kafka.topic.depth", topic)).isEqualTo(2);
+        assertThat(gauge("mockavior.kafka.topic.bytes", topic)).isEqualTo(20);
+        assertThat(store.read(topic, 0L, 100)).extracting(StoredKafkaMessage::offset)
+                .containsExactly(3L, 4L);
+    }
+
+    /* ============================
+       Helpers
+       ============================ */
+
+    private void publish(String topic, int count, int valueBytes) {
+        byte[] value = new byte[valueBytes];
+        Arrays.fill(value, (byte) 'x');
+
+        for (int i = 0; i < count; i++) {
+            store.publish(topic, new KafkaMessage(
+                    topic,
+                    null,
+                    new ResolvedBody(value, BodySourceType.INLINE),
+                    1,
+                    new DelaySpec(null, null)
+            ));
+        }
+    }
+
+    private double gauge(String name, String topic) {
+        Gauge gauge = meterRegistry.find(name).tag("topic", topic).gauge();
+        assertThat(gauge).as("%s{topic=%s}", name, topic).isNotNull();
+        return gauge.value();
+    }
+
+    private double evicted(String topic, String reason) {
+        Counter counter = meterRegistry.find("mockavior.kafka.topic.evicted")
+                .tag("topic", topic)
+                .tag("reason", reason)
+                .counter();
+        assertThat(counter).as("evicted{topic=%s, reason=%s}", topic, reason).isNotNull();
+        return counter.count();
+    }
+
+    private static String uniqueTopic() {
+        return "retention." + UUID.randomUUID();
+    }
+}
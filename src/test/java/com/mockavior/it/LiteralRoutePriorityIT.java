@@ -0,0 +1,75 @@
+package com.mockavior.it;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A literal path (/users/me) also matched by a param route (/users/{id}): the router's literal index
+ * must pick the same route as a priority-ordered scan would, whichever of the two is declared first.
+ */
+class LiteralRoutePriorityIT extends AbstractMockaviorIT {
+
+    private static final String PARAM_FIRST = "contracts/routing-literal-param-first.yml";
+    private static final String LITERAL_FIRST = "contracts/routing-literal-literal-first.yml";
+
+    @ParameterizedTest(name = "{index} → {0} {1} {2}")
+    @MethodSource("cases")
+    void should_pick_the_same_route_as_priority_order(
+            String contract,
+            String path,
+            String session,
+            String expectedMatchedId,
+            String expectedId
+    ) {
+        loadContract(contract);
+
+        ResponseEntity<Map<String, Object>> response = client.get()
+                .uri(path)
+                .headers(h -> {
+                    if (session != null) {
+                        h.set("x-session", session);
+                    }
+                })
+                .exchangeToMono(r -> r.toEntity(new ParameterizedTypeReference<Map<String, Object>>() {}))
+                .block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("matched", expectedMatchedId);
+        if (expectedId != null) {
+            assertThat(response.getBody()).containsEntry("id", expectedId);
+        }
+    }
+
+    static Stream<Arguments> cases() {
+        return Stream.of(
+                // default priorities: the literal route wins in both orders
+                Arguments.of(PARAM_FIRST, "/users/me", null, "users-me", null),
+                Arguments.of(LITERAL_FIRST, "/users/me", null, "users-me", null),
+                Arguments.of(PARAM_FIRST, "/users/42", null, "users-by-id", "42"),
+                Arguments.of(LITERAL_FIRST, "/users/42", null, "users-by-id", "42"),
+
+                // equal priorities: the route declared first wins, with its params
+                Arguments.of(PARAM_FIRST, "/accounts/me", null, "accounts-by-id", "me"),
+                Arguments.of(LITERAL_FIRST, "/accounts/me", null, "accounts-me", null),
+                Arguments.of(PARAM_FIRST, "/accounts/me?view=full", null, "accounts-by-id", "me"),
+                Arguments.of(LITERAL_FIRST, "/accounts/me?view=full", null, "accounts-me", null),
+                Arguments.of(LITERAL_FIRST, "/accounts/7", null, "accounts-by-id", "7"),
+
+                // a literal route rejected by its when-condition falls through to the param route
+                Arguments.of(PARAM_FIRST, "/profiles/me", "s-1", "profiles-me", null),
+                Arguments.of(LITERAL_FIRST, "/profiles/me", "s-1", "profiles-me", null),
+                Arguments.of(PARAM_FIRST, "/profiles/me", null, "profiles-by-id", "me"),
+                Arguments.of(LITERAL_FIRST, "/profiles/me", null, "profiles-by-id", "me")
+        );
+    }
+}
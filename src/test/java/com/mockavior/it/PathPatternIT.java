@@ -0,0 +1,123 @@
+package com.mockavior.it;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Path templates with several params in one segment: each param takes the longest run of
+ * non-'/' chars that lets the rest of the path match, backtracking when a longer one does not.
+ */
+class PathPatternIT extends AbstractMockaviorIT {
+
+    @ParameterizedTest(name = "{index} → {0}")
+    @MethodSource("cases")
+    void should_match_multi_param_segments(
+            String path,
+            String expectedMatchedId,
+            Map<String, String> expectedParams
+    ) {
+        loadContract("contracts/path-patterns.yml");
+
+        ResponseEntity<Map<String, Object>> response = get(path);
+
+        assertThat(response).as(path).isNotNull();
+
+        if (expectedMatchedId == null) {
+            assertThat(response.getStatusCode()).as(path).isEqualTo(HttpStatus.NOT_FOUND);
+            return;
+        }
+
+        assertThat(response.getStatusCode()).as(path).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).as(path)
+                .containsEntry("matched", expectedMatchedId)
+                .containsAllEntriesOf(expectedParams);
+    }
+
+    static Stream<Arguments> cases() {
+        return Stream.of(
+                Arguments.of("/files/report.pdf", "file-with-extension",
+                        Map.of("name", "report", "ext", "pdf")),
+
+                // greedy: the first param keeps every dot but the last
+                Arguments.of("/files/archive.tar.gz", "file-with-extension",
+                        Map.of("name", "archive.tar", "ext", "gz")),
+
+                // a param is never empty and never crosses '/'
+                Arguments.of("/files/README", null, Map.of()),
+                Arguments.of("/files/.env", null, Map.of()),
+                Arguments.of("/files/docs/report.pdf", null, Map.of()),
+
+                Arguments.of("/rates/EUR-USD/latest", "currency-pair",
+                        Map.of("from", "EUR", "to", "USD")),
+                Arguments.of("/rates/EUR-USD/history", null, Map.of()),
+
+                // the longest {start} leaves no "-days" after {end}: backtracks to a shorter one
+                Arguments.of("/ranges/1-7-days", "range-with-suffix",
+                        Map.of("start", "1", "end", "7")),
+                Arguments.of("/ranges/2024-01-2024-02-days", "range-with-suffix",
+                        Map.of("start", "2024-01-2024", "end", "02")),
+                Arguments.of("/ranges/1-7-weeks", null, Map.of()),
+
+                Arguments.of("/orders/42/lines/3.json", "nested-item",
+                        Map.of("orderId", "42", "line", "3")),
+                Arguments.of("/orders/42/lines/3.xml", null, Map.of())
+        );
+    }
+
+    @Test
+    void contract_update_should_reject_a_path_with_a_duplicate_param() {
+        loadContract("contracts/path-patterns.yml");
+        String versionBefore = fetchCurrentContractVersion();
+
+        HttpStatus status = client.put()
+                .uri(adminPath("/contract"))
+                .header("If-Match", versionBefore)
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue(readClasspathFile("contracts/path-pattern-duplicate-param.yml"))
+                .exchangeToMono(r -> r.releaseBody().thenReturn(HttpStatus.valueOf(r.statusCode().value())))
+                .block();
+
+        assertThat(status).isNotNull();
+        assertThat(status.is2xxSuccessful()).isFalse();
+
+        // the active contract is untouched
+        assertThat(fetchCurrentContractVersion()).isEqualTo(versionBefore);
+        assertThat(get("/files/report.pdf").getBody()).containsEntry("matched", "file-with-extension");
+        assertThat(get("/orders/1/lines/2").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void contract_validation_should_report_a_duplicate_param() {
+        ResponseEntity<Map<String, Object>> response = client.post()
+                .uri(adminPath("/contract/validate"))
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue(readClasspathFile("contracts/path-pattern-duplicate-param.yml"))
+                .exchangeToMono(r -> r.toEntity(new ParameterizedTypeReference<Map<String, Object>>() {}))
+                .block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).containsEntry("code", "VALIDATION_ERROR");
+        assertThat((String) response.getBody().get("message"))
+                .contains("Duplicate path param")
+                .contains("/orders/{id}/lines/{id}");
+    }
+
+    private ResponseEntity<Map<String, Object>> get(String path) {
+        return client.get()
+                .uri(path)
+                .exchangeToMono(r -> r.toEntity(new ParameterizedTypeReference<Map<String, Object>>() {}))
+                .block();
+    }
+}
@@ -1,11 +1,64 @@
 package com.mockavior.it;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ProxyModeIT extends AbstractMockaviorIT {
 
+    // well above the client's 256KB in-memory limit and the container's response buffer
+    private static final int LARGE_BODY_BYTES = 8 * 1024 * 1024;
+    private static final int POST_BODY_BYTES = 1024 * 1024;
+
+    // /broken declares this length, then drops the connection after BROKEN_SENT_BYTES;
+    // /broken-chunked sends BROKEN_SENT_BYTES in chunks and drops the connection without the final chunk
+    protected static final int BROKEN_DECLARED_BYTES = 1024 * 1024;
+    private static final int BROKEN_SENT_BYTES = 64 * 1024;
+
+    private static final Duration EXCHANGE_TIMEOUT = Duration.ofSeconds(20);
+
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+
+    @BeforeAll
+    void startUpstream() throws IOException {
+        upstreamExecutor = Executors.newCachedThreadPool();
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/large", ProxyModeIT::large);
+        upstream.createContext("/echo", ProxyModeIT::echo);
+        upstream.createContext("/broken", ProxyModeIT::broken);
+        upstream.createContext("/broken-chunked", ProxyModeIT::brokenChunked);
+        upstream.start();
+    }
+
+    @AfterAll
+    void stopUpstream() {
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
     @Test
     void should_proxy_request_to_backend() {
         loadContract("contracts/proxy-passthrough.yml");
@@ -42,6 +95,206 @@ class ProxyModeIT extends AbstractMockaviorIT {
         assertThat(response.body()).contains("teapot");
     }
 
+    @Test
+    void should_proxy_large_response_body_intact() {
+        loadLocalUpstreamContract();
+
+        ProxyExchange exchange = client.get()
+                .uri("/large")
+                .exchangeToMono(ProxyModeIT::consume)
+                .block(EXCHANGE_TIMEOUT);
+
+        assertThat(exchange).isNotNull();
+        assertThat(exchange.statusCode()).isEqualTo(200);
+        assertThat(exchange.error()).isNull();
+        assertThat(exchange.bytes()).isEqualTo(LARGE_BODY_BYTES);
+        assertThat(exchange.sha256()).containsExactly(sha256(largeBody()));
+    }
+
+    @Test
+    void should_pass_post_body_through_to_backend_byte_for_byte() {
+        loadLocalUpstreamContract();
+
+        // binary: CR/LF and non-UTF-8 bytes must survive
+        byte[] body = new byte[POST_BODY_BYTES];
+        new Random(7).nextBytes(body);
+
+        ProxyExchange exchange = client.post()
+                .uri("/echo")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(body)
+                .exchangeToMono(ProxyModeIT::consume)
+                .block(EXCHANGE_TIMEOUT);
+
+        assertThat(exchange).isNotNull();
+        assertThat(exchange.statusCode()).isEqualTo(200);
+        assertThat(exchange.error()).isNull();
+        assertThat(exchange.bytes()).isEqualTo(POST_BODY_BYTES);
+        assertThat(exchange.sha256()).containsExactly(sha256(body));
+    }
+
+    @Test
+    void should_not_deliver_a_complete_response_when_upstream_fails_mid_body() {
+        assertMidBodyFailureVisible("/broken");
+    }
+
+    @Test
+    void should_not_deliver_a_complete_response_when_chunked_upstream_fails_mid_body() {
+        assertMidBodyFailureVisible("/broken-chunked");
+    }
+
+    /**
+     * Buffered proxy: the upstream body is read completely before anything is written,
+     * so a truncated body (short of its Content-Length, or chunked without its final chunk) becomes a 502.
+     */
+    protected void assertUpstreamFailureVisible(ProxyExchange exchange) {
+        assertThat(exchange.statusCode()).isEqualTo(502);
+    }
+
+    // ------------------------------------------------------------
+    // Helpers
+    // ------------------------------------------------------------
+
+    private void assertMidBodyFailureVisible(String path) {
+        loadLocalUpstreamContract();
+
+        ProxyExchange exchange = client.get()
+                .uri(path)
+                .exchangeToMono(ProxyModeIT::consume)
+                .block(EXCHANGE_TIMEOUT);
+
+        assertThat(exchange).isNotNull();
+        assertUpstreamFailureVisible(exchange);
+
+        // the failed exchange must not poison the next one
+        ProxyExchange next = client.post()
+                .uri("/echo")
+                .bodyValue("after-failure")
+                .exchangeToMono(ProxyModeIT::consume)
+                .block(EXCHANGE_TIMEOUT);
+
+        assertThat(next).isNotNull();
+        assertThat(next.statusCode()).isEqualTo(200);
+        assertThat(next.bytes()).isEqualTo("after-failure".length());
+    }
+
+    private void loadLocalUpstreamContract() {
+        loadContractBody(
+                readClasspathFile("contracts/proxy-local-upstream.yml")
+                        .replace("${upstream}", "http://127.0.0.1:" + upstream.getAddress().getPort())
+        );
+    }
+
+    /**
+     * Reads the body chunk by chunk (never held in memory as a whole); a body error is recorded, not thrown.
+     */
+    private static Mono<ProxyExchange> consume(ClientResponse response) {
+        MessageDigest digest = newSha256();
+        long[] bytes = {0L};
+
+        return response.bodyToFlux(DataBuffer.class)
+                .doOnNext(buffer -> {
+                    try {
+                        byte[] chunk = new byte[buffer.readableByteCount()];
+                        buffer.read(chunk);
+                        bytes[0] += chunk.length;
+                        digest.update(chunk);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .then(Mono.fromSupplier(() -> new ProxyExchange(
+                        response.statusCode().value(),
+                        bytes[0],
+                        digest.digest(),
+                        null
+                )))
+                .onErrorResume(e -> Mono.just(new ProxyExchange(
+                        response.statusCode().value(),
+                        bytes[0],
+                        null,
+                        e
+                )));
+    }
+
+    private static void large(HttpExchange exchange) throws IOException {
+        byte[] body = largeBody();
+        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            // several writes: the body reaches the proxy in many chunks
+            for (int offset = 0; offset < body.length; offset += 64 * 1024) {
+                out.write(body, offset, Math.min(64 * 1024, body.length - offset));
+            }
+        }
+    }
+
+    private static void echo(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void broken(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, BROKEN_DECLARED_BYTES);
+        OutputStream out = exchange.getResponseBody();
+        out.write(new byte[BROKEN_SENT_BYTES]);
+        out.flush();
+        // fewer bytes than declared: the server drops the connection
+        exchange.close();
+    }
+
+    private static void brokenChunked(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        out.write(new byte[BROKEN_SENT_BYTES]);
+        out.flush();
+        // a failing handler makes the server close the connection; close() would send the final chunk
+        throw new IOException("upstream dropped mid-body");
+    }
+
+    private static byte[] largeBody() {
+        byte[] body = new byte[LARGE_BODY_BYTES];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) (i * 31 + (i >>> 13));
+        }
+        return body;
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        return newSha256().digest(bytes);
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    protected record ProxyExchange(
+            int statusCode,
+            long bytes,
+            byte[] sha256,
+            Throwable error
+    ) {
+
+        @Override
+        public String toString() {
+            return "ProxyExchange[status=" + statusCode + ", bytes=" + bytes
+                    + ", sha256=" + Arrays.toString(sha256) + ", error=" + error + "]";
+        }
+    }
+
     private record ProxyResponse(
             int statusCode,
             String body
@@ -0,0 +1,164 @@
+package com.mockavior.it;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Request bodies are raw bytes, read lazily and capped by mockavior.request.max-body-size:
+ * no charset or line-ending rewriting on the way to when.body or upstream, 413 above the cap.
+ */
+@TestPropertySource(properties = "mockavior.request.max-body-size=64KB")
+class RequestBodyIT extends AbstractMockaviorIT {
+
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private HttpServer upstream;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeAll
+    void startUpstream() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upstream.createContext("/echo", this::echo);
+        upstream.start();
+    }
+
+    @AfterAll
+    void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void when_body_should_match_json_with_crlf_line_endings_and_non_ascii_text() {
+        loadContract("contracts/when-body.yml");
+
+        byte[] body = "{\r\n  \"customer\": {\r\n    \"tier\": \"gold\",\r\n    \"name\": \"Jürgen Ørsted\"\r\n  }\r\n}\r\n"
+                .getBytes(StandardCharsets.UTF_8);
+
+        ResponseEntity<Map> response = client.post()
+                .uri("/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchangeToMono(r -> r.toEntity(Map.class))
+                .block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).containsEntry("matched", "gold-orders");
+    }
+
+    @Test
+    void binary_body_with_crlf_should_reach_upstream_byte_for_byte() {
+        loadLocalUpstreamContract();
+
+        // CR/LF pairs, lone CR and LF, NUL and bytes that are not valid UTF-8
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("line one\r\nline two\rline three\n".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(new byte[]{0x00, (byte) 0xFF, (byte) 0xFE, (byte) 0xC3, 0x28, (byte) 0x80, '\r', '\n'});
+        for (int i = 0; i < 4096; i++) {
+            out.write(i);
+        }
+        byte[] body = out.toByteArray();
+
+        byte[] echoed = client.post()
+                .uri("/echo")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .block();
+
+        assertThat(echoed).containsExactly(body);
+    }
+
+    @Test
+    void body_at_the_limit_should_be_accepted() {
+        loadLocalUpstreamContract();
+
+        byte[] echoed = client.post()
+                .uri("/echo")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(new byte[MAX_BODY_BYTES])
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .block();
+
+        assertThat(echoed).hasSize(MAX_BODY_BYTES);
+    }
+
+    @Test
+    void body_over_the_limit_should_be_rejected_with_413() {
+        loadLocalUpstreamContract();
+        int callsBefore = upstreamCalls.get();
+
+        int status = client.post()
+                .uri("/echo")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(new byte[MAX_BODY_BYTES + 1])
+                .exchangeToMono(r -> r.releaseBody().thenReturn(r.statusCode().value()))
+                .block();
+
+        assertThat(status).isEqualTo(413);
+        assertThat(upstreamCalls.get()).isEqualTo(callsBefore);
+    }
+
+    @Test
+    void chunked_body_over_the_limit_should_be_rejected_with_413() {
+        loadLocalUpstreamContract();
+        int callsBefore = upstreamCalls.get();
+
+        // no Content-Length: the cap is enforced while reading
+        Flux<byte[]> chunks = Flux.range(0, 9).map(i -> new byte[8 * 1024]);
+
+        int status = client.post()
+                .uri("/echo")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(chunks, byte[].class)
+                .exchangeToMono(r -> r.releaseBody().thenReturn(r.statusCode().value()))
+                .block();
+
+        assertThat(status).isEqualTo(413);
+        assertThat(upstreamCalls.get()).isEqualTo(callsBefore);
+    }
+
+    /* ============================
+       Helpers
+       ============================ */
+
+    private void loadLocalUpstreamContract() {
+        loadContractBody(
+                readClasspathFile("contracts/proxy-local-upstream.yml")
+                        .replace("${upstream}", "http://127.0.0.1:" + upstream.getAddress().getPort())
+        );
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        upstreamCalls.incrementAndGet();
+
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
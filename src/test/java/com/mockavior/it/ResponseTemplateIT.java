@@ -0,0 +1,65 @@
+package com.mockavior.it;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Path and query params rendered into the body and into response headers, in one pass:
+ * a param value is inserted as is, even if it looks like a placeholder itself.
+ */
+class ResponseTemplateIT extends AbstractMockaviorIT {
+
+    @Test
+    void should_render_params_into_headers() {
+        loadContract("contracts/templated-response.yml");
+
+        ResponseEntity<Map<String, Object>> response = greet("ann", "first visit", "x");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Greeting")).isEqualTo("hello ann");
+        assertThat(response.getHeaders().getFirst("X-Note")).isEqualTo("first visit");
+        assertThat(response.getHeaders().get("X-Trace")).containsExactly("ann-trace", "static");
+        assertThat(response.getBody())
+                .containsEntry("name", "ann")
+                .containsEntry("note", "first visit");
+    }
+
+    @Test
+    void should_not_expand_placeholders_inside_param_values() {
+        loadContract("contracts/templated-response.yml");
+
+        ResponseEntity<Map<String, Object>> response = greet("ann", "{other}", "INJECTED");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Note")).isEqualTo("{other}");
+        assertThat(response.getBody())
+                .containsEntry("note", "{other}")
+                .containsEntry("other", "INJECTED");
+    }
+
+    @Test
+    void should_keep_braces_with_whitespace_as_literal_text() {
+        loadContract("contracts/templated-response.yml");
+
+        ResponseEntity<Map<String, Object>> response = greet("ann", "n", "o");
+
+        // "{ note }" is not a placeholder, although a "note" param exists
+        assertThat(response.getBody()).containsEntry("spaced", "{ note }");
+    }
+
+    private ResponseEntity<Map<String, Object>> greet(String name, String note, String other) {
+        ResponseEntity<Map<String, Object>> response = client.get()
+                .uri("/greetings/{name}?note={note}&other={other}", name, note, other)
+                .exchangeToMono(r -> r.toEntity(new ParameterizedTypeReference<Map<String, Object>>() {}))
+                .block();
+
+        assertThat(response).isNotNull();
+        return response;
+    }
+}
@@ -0,0 +1,113 @@
+package com.mockavior.it;
+
+import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.contract.payload.BodySourceType;
+import com.mockavior.contract.payload.ResolvedBody;
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.runtime.InMemoryKafkaStore;
+import com.mockavior.kafka.runtime.RingBufferKafkaStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * store.type=ring-buffer, overflow=block: publishing to a full topic waits for a consumer,
+ * and fails once block-timeout has passed.
+ */
+@TestPropertySource(properties = {
+        "mockavior.kafka.store.type=ring-buffer",
+        "mockavior.kafka.store.capacity=4",
+        "mockavior.kafka.store.overflow=block",
+        "mockavior.kafka.store.block-timeout=300ms"
+})
+class RingBufferBlockIT extends AbstractMockaviorIT {
+
+    private static final String TOPIC = "ring.blocking";
+    private static final int CAPACITY = 4;
+
+    private static final Duration BLOCK_TIMEOUT = Duration.ofMillis(300);
+
+    @Autowired
+    private InMemoryKafkaStore store;
+
+    @Test
+    void should_fail_publish_after_block_timeout_when_topic_stays_full() {
+        assertThat(store).isInstanceOf(RingBufferKafkaStore.class);
+
+        clearTopic();
+        fill();
+        long end = store.endOffset(TOPIC);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> store.publish(TOPIC, message("overflow")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("full");
+        Duration waited = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(waited).isGreaterThanOrEqualTo(BLOCK_TIMEOUT);
+        // nothing was claimed by the failed publish
+        assertThat(store.endOffset(TOPIC)).isEqualTo(end);
+    }
+
+    @Test
+    void should_unblock_publish_when_a_consumer_takes_a_message() throws Exception {
+        clearTopic();
+        fill();
+        long end = store.endOffset(TOPIC);
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> store.publish(TOPIC, message("late")));
+
+        Thread.sleep(BLOCK_TIMEOUT.toMillis() / 3);
+        assertThat(blocked).isNotDone();
+
+        HttpStatusCode status = client.post()
+                .uri(adminPath("/kafka/poll/{topic}/take"), TOPIC)
+                .exchangeToMono(r -> r.toBodilessEntity().map(ResponseEntity::getStatusCode))
+                .block();
+        assertThat(status).isEqualTo(HttpStatus.OK);
+
+        blocked.get(BLOCK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+        assertThat(store.endOffset(TOPIC)).isEqualTo(end + 1);
+        assertThat(store.read(TOPIC, end, 1).get(0).message().value().asString()).isEqualTo("late");
+    }
+
+    /* ============================
+       Helpers
+       ============================ */
+
+    private void fill() {
+        for (int i = 0; i < CAPACITY; i++) {
+            store.publish(TOPIC, message("m" + i));
+        }
+    }
+
+    private void clearTopic() {
+        client.post()
+                .uri(adminPath("/kafka/poll/{topic}/clear"), TOPIC)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    private static KafkaMessage message(String value) {
+        return new KafkaMessage(
+                TOPIC,
+                null,
+                new ResolvedBody(value.getBytes(StandardCharsets.UTF_8), BodySourceType.INLINE),
+                1,
+                new DelaySpec(null, null)
+        );
+    }
+}
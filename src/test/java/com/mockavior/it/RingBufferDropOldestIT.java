@@ -0,0 +1,118 @@
+package com.mockavior.it;
+
+import com.mockavior.kafka.runtime.InMemoryKafkaStore;
+import com.mockavior.kafka.runtime.RingBufferKafkaStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * store.type=ring-buffer, overflow=drop-oldest: a burst larger than the ring keeps only the newest messages.
+ */
+@TestPropertySource(properties = {
+        "mockavior.kafka.store.type=ring-buffer",
+        "mockavior.kafka.store.capacity=4",
+        "mockavior.kafka.store.overflow=drop-oldest"
+})
+class RingBufferDropOldestIT extends AbstractMockaviorIT {
+
+    private static final String TOPIC = "ring.topic";
+    private static final int BURST = 10;
+    private static final int CAPACITY = 4;
+
+    private static final Duration AWAIT_MAX = Duration.ofSeconds(3);
+
+    @Autowired
+    private InMemoryKafkaStore store;
+
+    @Test
+    void should_keep_only_the_newest_messages_when_the_ring_overflows() {
+        assertThat(store).isInstanceOf(RingBufferKafkaStore.class);
+        RingBufferKafkaStore ring = (RingBufferKafkaStore) store;
+
+        loadContract("contracts/kafka-ring-buffer.yml");
+        clearTopic();
+
+        long firstOffset = store.endOffset(TOPIC);
+        long droppedBefore = ring.dropped();
+
+        startBurst();
+
+        await()
+                .atMost(AWAIT_MAX)
+                .untilAsserted(() -> assertThat(store.endOffset(TOPIC)).isEqualTo(firstOffset + BURST));
+
+        Map<String, Object> page = peek();
+        assertThat(page).containsEntry("count", CAPACITY);
+        assertThat(offsets(page)).containsExactly(
+                firstOffset + 6, firstOffset + 7, firstOffset + 8, firstOffset + 9
+        );
+
+        assertThat(store.startOffset(TOPIC)).isEqualTo(firstOffset + BURST - CAPACITY);
+        assertThat(ring.dropped() - droppedBefore).isEqualTo(BURST - CAPACITY);
+    }
+
+    @Test
+    void should_read_evicted_offsets_as_skipped() {
+        loadContract("contracts/kafka-ring-buffer.yml");
+        clearTopic();
+
+        long firstOffset = store.endOffset(TOPIC);
+        startBurst();
+
+        await()
+                .atMost(AWAIT_MAX)
+                .untilAsserted(() -> assertThat(store.endOffset(TOPIC)).isEqualTo(firstOffset + BURST));
+
+        // asking for an evicted offset starts at the oldest retained one
+        Map<String, Object> page = client.get()
+                .uri(adminPath("/kafka/poll/{topic}?offset={offset}&limit={limit}"), TOPIC, firstOffset, 2)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+
+        assertThat(offsets(page)).containsExactly(firstOffset + 6, firstOffset + 7);
+        assertThat(((Number) page.get("nextOffset")).longValue()).isEqualTo(firstOffset + 8);
+    }
+
+    /* ============================
+       Helpers
+       ============================ */
+
+    private void startBurst() {
+        client.post()
+                .uri(adminPath("/kafka/start/burst"))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    private void clearTopic() {
+        client.post()
+                .uri(adminPath("/kafka/poll/{topic}/clear"), TOPIC)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    private Map<String, Object> peek() {
+        return client.get()
+                .uri(adminPath("/kafka/poll/{topic}"), TOPIC)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+    }
+
+    private static List<Long> offsets(Map<String, Object> page) {
+        return ((List<?>) page.get("messages")).stream()
+                .map(m -> ((Number) ((Map<?, ?>) m).get("offset")).longValue())
+                .toList();
+    }
+}
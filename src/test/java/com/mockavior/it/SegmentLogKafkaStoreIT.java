@@ -0,0 +1,213 @@
+package com.mockavior.it;
+
+import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.contract.payload.BodySourceType;
+import com.mockavior.contract.payload.ResolvedBody;
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import com.mockavior.kafka.runtime.SegmentLogKafkaStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * segment-log store against a real log dir: restart recovery, torn-tail truncation, retention.
+ * Works on the store directly (no Spring context): a restart is a second store on the same dir.
+ */
+class SegmentLogKafkaStoreIT {
+
+    private static final String TOPIC = "orders";
+
+    // 4 length + 21 fixed fields + 3 key + 100 value
+    private static final int RECORD_SIZE = 128;
+    private static final int SEGMENT_BYTES = 1024;
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    @TempDir
+    Path dir;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void should_recover_offsets_and_consumed_position_after_restart() {
+        SegmentLogKafkaStore store = open(0L, Duration.ZERO);
+        publish(store, 0, 20);
+        assertThat(store.drain(TOPIC, 3)).extracting(StoredKafkaMessage::offset).containsExactly(0L, 1L, 2L);
+        store.close();
+
+        SegmentLogKafkaStore restarted = open(0L, Duration.ZERO);
+
+        assertThat(restarted.startOffset(TOPIC)).isEqualTo(3L);
+        assertThat(restarted.endOffset(TOPIC)).isEqualTo(20L);
+
+        List<StoredKafkaMessage> messages = restarted.read(TOPIC, 0L, 100);
+        assertThat(messages).hasSize(17);
+        for (StoredKafkaMessage m : messages) {
+            assertThat(m.message().key()).isEqualTo(key(m.offset()));
+            assertThat(m.message().value().asString()).isEqualTo(value(m.offset()));
+        }
+
+        publish(restarted, 20, 1);
+        assertThat(restarted.endOffset(TOPIC)).isEqualTo(21L);
+        assertThat(restarted.read(TOPIC, 20L, 1).get(0).message().value().asString()).isEqualTo(value(20));
+    }
+
+    @Test
+    void should_truncate_torn_tail_and_append_over_it() throws IOException {
+        SegmentLogKafkaStore store = open(0L, Duration.ZERO);
+        publish(store, 0, 5);
+        store.close();
+
+        // flip a value byte of the last record: its crc no longer matches
+        corrupt(activeSegment(), 4 * RECORD_SIZE + RECORD_SIZE - 1);
+
+        SegmentLogKafkaStore restarted = open(0L, Duration.ZERO);
+
+        assertThat(restarted.endOffset(TOPIC)).isEqualTo(4L);
+        assertThat(restarted.read(TOPIC, 0L, 100)).extracting(StoredKafkaMessage::offset)
+                .containsExactly(0L, 1L, 2L, 3L);
+
+        publish(restarted, 4, 2);
+        restarted.close();
+
+        SegmentLogKafkaStore again = open(0L, Duration.ZERO);
+
+        assertThat(again.endOffset(TOPIC)).isEqualTo(6L);
+        List<StoredKafkaMessage> messages = again.read(TOPIC, 4L, 100);
+        assertThat(messages).extracting(StoredKafkaMessage::offset).containsExactly(4L, 5L);
+        assertThat(messages.get(0).message().value().asString()).isEqualTo(value(4));
+    }
+
+    @Test
+    void should_delete_oldest_segments_above_retention_size() throws IOException {
+        SegmentLogKafkaStore store = open(2L * SEGMENT_BYTES, Duration.ZERO);
+        publish(store, 0, 100);
+
+        assertThat(store.endOffset(TOPIC)).isEqualTo(100L);
+        assertThat(store.startOffset(TOPIC)).isGreaterThan(0L);
+        assertThat(segmentFiles()).hasSizeLessThanOrEqualTo(3);
+
+        long start = store.startOffset(TOPIC);
+        assertThat(store.read(TOPIC, 0L, 1).get(0).offset()).isEqualTo(start);
+    }
+
+    @Test
+    void should_delete_expired_segments_of_an_idle_topic_on_sweep() throws IOException {
+        SegmentLogKafkaStore store = open(0L, RETENTION);
+        publish(store, 0, 20);
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+
+        clock.advance(RETENTION.minusMinutes(1));
+        store.enforceRetention();
+        assertThat(store.startOffset(TOPIC)).isZero();
+
+        // no publish since: only the periodic sweep can apply the time limit
+        clock.advance(Duration.ofMinutes(2));
+        store.enforceRetention();
+
+        assertThat(store.startOffset(TOPIC)).isEqualTo(20L);
+        assertThat(store.endOffset(TOPIC)).isEqualTo(20L);
+        assertThat(store.read(TOPIC, 0L, 100)).isEmpty();
+        assertThat(segmentFiles()).hasSize(1);
+
+        publish(store, 20, 1);
+        assertThat(store.read(TOPIC, 0L, 100)).extracting(StoredKafkaMessage::offset).containsExactly(20L);
+    }
+
+    // ------------------------------------------------------------
+    // Helpers
+    // ------------------------------------------------------------
+
+    private SegmentLogKafkaStore open(long retentionBytes, Duration retention) {
+        return new SegmentLogKafkaStore(
+                new SegmentLogKafkaStore.Settings(dir, SEGMENT_BYTES, retentionBytes, retention, 256, clock)
+        );
+    }
+
+    private static void publish(SegmentLogKafkaStore store, long firstOffset, int count) {
+        for (long offset = firstOffset; offset < firstOffset + count; offset++) {
+            store.publish(TOPIC, new KafkaMessage(
+                    TOPIC,
+                    key(offset),
+                    new ResolvedBody(value(offset).getBytes(StandardCharsets.UTF_8), BodySourceType.INLINE),
+                    1,
+                    new DelaySpec(null, null)
+            ));
+        }
+    }
+
+    private static String key(long offset) {
+        return String.format("k%02d", offset);
+    }
+
+    // 100 bytes
+    private static String value(long offset) {
+        return String.format("%-100s", "value-" + offset);
+    }
+
+    private Path topicDir() {
+        return dir.resolve(TOPIC);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(topicDir())) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private Path activeSegment() throws IOException {
+        List<Path> files = segmentFiles();
+        return files.get(files.size() - 1);
+    }
+
+    private static void corrupt(Path file, int position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, position);
+            b.flip();
+            byte flipped = (byte) ~b.get(0);
+            channel.write(ByteBuffer.wrap(new byte[]{flipped}), position);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mockavior.it;
+
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProxyModeIT with mockavior.proxy.streaming=true: same cases, bodies are piped instead of buffered.
+ */
+@TestPropertySource(properties = "mockavior.proxy.streaming=true")
+class StreamingProxyModeIT extends ProxyModeIT {
+
+    /**
+     * Streaming proxy: status and headers are already sent when the upstream body fails,
+     * so the client gets a 200 whose connection is aborted mid-body: a body error, never a complete body.
+     */
+    @Override
+    protected void assertUpstreamFailureVisible(ProxyExchange exchange) {
+        assertThat(exchange.statusCode()).isEqualTo(200);
+        assertThat(exchange.error()).isNotNull();
+        assertThat(exchange.bytes()).isLessThan(BROKEN_DECLARED_BYTES);
+    }
+}
@@ -0,0 +1,138 @@
+package com.mockavior.it;
+
+import com.mockavior.runtime.scheduler.RuntimeScheduler;
+import com.mockavior.runtime.scheduler.SchedulerType;
+import com.mockavior.runtime.scheduler.TaskHandle;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RuntimeScheduler with type=timing-wheel, sized so that one revolution is short (8 x 10ms = 80ms):
+ * every delay below spans several revolutions.
+ * A single worker thread keeps dispatch order observable.
+ */
+@TestPropertySource(properties = {
+        "mockavior.scheduler.type=timing-wheel",
+        "mockavior.scheduler.tick=10ms",
+        "mockavior.scheduler.wheel-size=8",
+        "mockavior.scheduler.threads=1"
+})
+class TimingWheelSchedulerIT extends AbstractMockaviorIT {
+
+    private static final Duration REVOLUTION = Duration.ofMillis(80);
+
+    // one tick late at most, plus scheduling noise
+    private static final Duration TOLERANCE = Duration.ofMillis(150);
+
+    @Autowired
+    private RuntimeScheduler scheduler;
+
+    @Test
+    void should_use_timing_wheel() {
+        assertThat(scheduler.type()).isEqualTo(SchedulerType.TIMING_WHEEL);
+    }
+
+    @Test
+    void should_fire_delays_longer_than_one_revolution_on_time() throws InterruptedException {
+        Duration delay = REVOLUTION.multipliedBy(3).plusMillis(25);
+
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicLong firedAtNanos = new AtomicLong();
+
+        long start = System.nanoTime();
+        scheduler.scheduleTask(() -> {
+            firedAtNanos.set(System.nanoTime());
+            fired.countDown();
+        }, delay);
+
+        assertThat(fired.await(delay.plus(TOLERANCE).toMillis() * 4, TimeUnit.MILLISECONDS)).isTrue();
+
+        Duration elapsed = Duration.ofNanos(firedAtNanos.get() - start);
+        assertThat(elapsed)
+                .isGreaterThanOrEqualTo(delay)
+                .isLessThan(delay.plus(TOLERANCE));
+    }
+
+    @Test
+    void should_not_run_tasks_cancelled_before_they_fire() throws InterruptedException {
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        AtomicBoolean cancelledLaterRan = new AtomicBoolean();
+        CountDownLatch witness = new CountDownLatch(1);
+
+        // cancelled before the tick thread moved it into a bucket
+        TaskHandle early = scheduler.scheduleTask(() -> cancelledRan.set(true), REVOLUTION.multipliedBy(2));
+        early.cancel();
+
+        // cancelled while parked in its bucket with rounds remaining
+        TaskHandle late = scheduler.scheduleTask(() -> cancelledLaterRan.set(true), REVOLUTION.multipliedBy(3));
+        Thread.sleep(REVOLUTION.toMillis());
+        late.cancel();
+
+        // fires after both cancelled deadlines: by then they would have run
+        scheduler.scheduleTask(witness::countDown, REVOLUTION.multipliedBy(4));
+
+        assertThat(witness.await(REVOLUTION.multipliedBy(4).plus(TOLERANCE).toMillis() * 4, TimeUnit.MILLISECONDS))
+                .isTrue();
+        assertThat(cancelledRan).isFalse();
+        assertThat(cancelledLaterRan).isFalse();
+    }
+
+    @Test
+    void should_fire_in_deadline_order_regardless_of_schedule_order() throws InterruptedException {
+        int tasks = 20;
+
+        // two ticks apart, up to five revolutions out, scheduled in shuffled order
+        List<Integer> order = new ArrayList<>();
+        for (int i = 1; i <= tasks; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order);
+
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        for (int i : order) {
+            scheduler.scheduleTask(() -> {
+                fired.add(i);
+                done.countDown();
+            }, Duration.ofMillis(20L * i));
+        }
+
+        assertThat(done.await(20L * tasks + TOLERANCE.toMillis() * 4, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(fired).isSorted().hasSize(tasks);
+    }
+
+    @Test
+    void fixed_delay_response_should_be_served_through_the_wheel() {
+        loadContract("contracts/delay-fixed.yml");
+
+        Instant start = Instant.now();
+
+        String body = client.get()
+                .uri("/slow")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+
+        Duration duration = Duration.between(start, Instant.now());
+
+        assertThat(body).isEqualTo("SLOW");
+        assertThat(duration)
+                .isGreaterThanOrEqualTo(Duration.ofMillis(1000))
+                .isLessThan(Duration.ofMillis(1000).plus(Duration.ofMillis(300)));
+    }
+}
@@ -0,0 +1,197 @@
+package com.mockavior.it;
+
+import com.mockavior.behavior.delay.DelaySpec;
+import com.mockavior.contract.payload.BodySourceType;
+import com.mockavior.contract.payload.ResolvedBody;
+import com.mockavior.kafka.model.KafkaMessage;
+import com.mockavior.kafka.model.StoredKafkaMessage;
+import com.mockavior.kafka.runtime.InMemoryKafkaStore;
+import com.mockavior.kafka.runtime.TopicWaiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * TopicWaiter under concurrent publishes: one pump per stream, and abandoned long polls take nothing.
+ */
+class TopicWaiterIT extends AbstractMockaviorIT {
+
+    private static final int BACKLOG = 2_000;
+    private static final int PUBLISHERS = 4;
+    private static final int PER_PUBLISHER = 500;
+    private static final int TOTAL = BACKLOG + PUBLISHERS * PER_PUBLISHER;
+
+    // the pump keeps catching up and re-arming: each pause is a window for a publish to race it
+    private static final int PAUSE_EVERY = 8;
+    private static final long PAUSE_NANOS = 20_000L;
+
+    // a lost race shows up in a few percent of runs, so the sink check runs several
+    private static final int ROUNDS = 20;
+
+    private static final Duration STREAM_TIMEOUT = Duration.ofSeconds(20);
+
+    @Autowired
+    private InMemoryKafkaStore store;
+
+    @Autowired
+    private TopicWaiter topicWaiter;
+
+    @Test
+    void sse_stream_should_deliver_offsets_in_order_while_publishes_race_the_catch_up() throws Exception {
+        String topic = uniqueTopic();
+        publish(topic, BACKLOG);
+
+        CompletableFuture<List<String>> ids = client.get()
+                .uri(adminPath("/kafka/poll/{topic}/stream"), topic)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .map(ServerSentEvent::id)
+                .take(TOTAL)
+                .collectList()
+                .toFuture();
+
+        // the stream is still working through the backlog: every publish wakes it again
+        publishConcurrently(topic);
+
+        List<String> received = ids.get(STREAM_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+        List<String> expected = new ArrayList<>(TOTAL);
+        for (long offset = 0; offset < TOTAL; offset++) {
+            expected.add(Long.toString(offset));
+        }
+        assertThat(received).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void stream_sink_should_never_be_called_concurrently() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            String topic = uniqueTopic();
+            publish(topic, BACKLOG);
+
+            AtomicInteger inSink = new AtomicInteger();
+            AtomicBoolean overlapped = new AtomicBoolean();
+            List<Long> offsets = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(TOTAL);
+
+            try (TopicWaiter.Subscription ignored = topicWaiter.stream(topic, null, 0L, batch -> {
+                if (inSink.incrementAndGet() > 1) {
+                    overlapped.set(true);
+                }
+                for (StoredKafkaMessage m : batch) {
+                    offsets.add(m.offset());
+                    done.countDown();
+                }
+                inSink.decrementAndGet();
+                return true;
+            })) {
+                publishConcurrently(topic);
+
+                assertThat(done.await(STREAM_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+            }
+
+            assertThat(overlapped).as("round %d", round).isFalse();
+            assertThat(offsets).as("round %d", round).hasSize(TOTAL);
+            for (int i = 0; i < offsets.size(); i++) {
+                assertThat(offsets.get(i)).as("round %d", round).isEqualTo((long) i);
+            }
+        }
+    }
+
+    @Test
+    void cancelled_long_poll_should_not_take_the_next_message() {
+        String topic = uniqueTopic();
+
+        CompletableFuture<Optional<KafkaMessage>> take = topicWaiter.take(topic, Duration.ofSeconds(30));
+        CompletableFuture<List<StoredKafkaMessage>> drain = topicWaiter.drain(topic, 10, Duration.ofSeconds(30));
+
+        // what the poll controller does when the client goes away
+        assertThat(take.cancel(false)).isTrue();
+        assertThat(drain.cancel(false)).isTrue();
+
+        publish(topic, 1);
+
+        // the message stays for the next consumer
+        await()
+                .during(Duration.ofMillis(300))
+                .atMost(Duration.ofSeconds(1))
+                .until(() -> store.read(topic, 0L, 10).size() == 1);
+        assertThat(take).isCancelled();
+        assertThat(drain).isCancelled();
+    }
+
+    @Test
+    void long_poll_should_still_take_a_message_after_another_was_cancelled() {
+        String topic = uniqueTopic();
+
+        topicWaiter.take(topic, Duration.ofSeconds(30)).cancel(false);
+        CompletableFuture<Optional<KafkaMessage>> live = topicWaiter.take(topic, Duration.ofSeconds(30));
+
+        publish(topic, 1);
+
+        Optional<KafkaMessage> taken = live.orTimeout(5, TimeUnit.SECONDS).join();
+        assertThat(taken).isPresent();
+        assertThat(taken.get().value().asString()).isEqualTo("m0");
+    }
+
+    /* ============================
+       Helpers
+       ============================ */
+
+    private void publishConcurrently(String topic) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> publishers = new ArrayList<>();
+        for (int p = 0; p < PUBLISHERS; p++) {
+            publishers.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < PER_PUBLISHER; i++) {
+                    publish(topic, 1);
+                    if (i % PAUSE_EVERY == 0) {
+                        LockSupport.parkNanos(PAUSE_NANOS);
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        CompletableFuture.allOf(publishers.toArray(CompletableFuture[]::new))
+                .get(STREAM_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void publish(String topic, int count) {
+        for (int i = 0; i < count; i++) {
+            store.publish(topic, new KafkaMessage(
+                    topic,
+                    null,
+                    new ResolvedBody(("m" + i).getBytes(StandardCharsets.UTF_8), BodySourceType.INLINE),
+                    1,
+                    new DelaySpec(null, null)
+            ));
+        }
+    }
+
+    private static String uniqueTopic() {
+        return "waiter." + UUID.randomUUID();
+    }
+}
@@ -88,6 +88,12 @@ class WhenQueryRepeatedParamsIT extends AbstractMockaviorIT {
                         "?tag=as",
                         true,
                         "tag-equals"
+                ),
+                Arguments.of(
+                        "tag:all matches values case-insensitively",
+                        "?tag=AS&tag=Ab",
+                        true,
+                        "tag-all"
                 )
         );
     }